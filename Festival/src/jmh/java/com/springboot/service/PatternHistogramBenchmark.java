@@ -0,0 +1,188 @@
+package com.springboot.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 축제 패턴 집계: PatternHistogram vs 예전 stream / groupingBy 구현
+ * - 축제 groups 개, 축제마다 회차 events 개 (일괄 분석 한 번과 같은 모양)
+ * - 두 쪽 모두 월/주차/요일 최빈값, 고유 개수, 개최 연도, 첫/최근 개최일, 평균 기간, (월, 주차, 요일) 최빈 조합을 구함
+ *
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class PatternHistogramBenchmark {
+
+    @Param({"2000"})
+    public int groups;
+
+    @Param({"3", "10", "30"})
+    public int events;
+
+    private LocalDate[][] starts;
+    private LocalDate[][] ends;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        starts = new LocalDate[groups][events];
+        ends = new LocalDate[groups][events];
+
+        for (int g = 0; g < groups; g++) {
+            int month = 1 + random.nextInt(12);
+            for (int e = 0; e < events; e++) {
+                // 대부분 같은 달 비슷한 날짜, 가끔 종료일 없음
+                LocalDate start = LocalDate.of(2000 + e, month, 1 + random.nextInt(28));
+                starts[g][e] = start;
+                ends[g][e] = (random.nextInt(10) == 0) ? null : start.plusDays(random.nextInt(10));
+            }
+        }
+    }
+
+    @Benchmark
+    public void histogram(Blackhole bh) {
+        PatternHistogram h = new PatternHistogram();
+        for (int g = 0; g < groups; g++) {
+            h.reset();
+            for (int e = 0; e < events; e++) {
+                h.add(starts[g][e], ends[g][e]);
+            }
+
+            bh.consume(h.mostFrequentMonth());
+            bh.consume(h.mostFrequentWeek());
+            bh.consume(h.mostFrequentDay());
+            bh.consume(h.uniqueMonths() + h.uniqueWeeks() + h.uniqueDays());
+            bh.consume(h.years());
+            bh.consume(h.firstDate());
+            bh.consume(h.latestDate());
+            bh.consume(h.averageDuration());
+
+            int key = h.jointMode();
+            if (key != PatternHistogram.NO_KEY) {
+                bh.consume(h.jointCount(key));
+                bh.consume(h.jointAverageDuration(key));
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyStreams(Blackhole bh) {
+        for (int g = 0; g < groups; g++) {
+            List<Event> list = new ArrayList<>(events);
+            for (int e = 0; e < events; e++) {
+                list.add(new Event(starts[g][e], ends[g][e]));
+            }
+            legacyAnalyze(list, bh);
+        }
+    }
+
+    // ===== 예전 구현 (PatternHistogram 도입 전 FestivalPatternService 그대로) =====
+
+    private static void legacyAnalyze(List<Event> events, Blackhole bh) {
+        List<Detail> details = events.stream()
+                .map(e -> new Detail(e.start.getYear(), e.start.getMonthValue(),
+                        (e.start.getDayOfMonth() - 1) / 7 + 1, e.start.getDayOfWeek()))
+                .collect(Collectors.toList());
+
+        Map<Integer, Long> monthFreq = details.stream()
+                .collect(Collectors.groupingBy(d -> d.month, Collectors.counting()));
+        Map<Integer, Long> weekFreq = details.stream()
+                .collect(Collectors.groupingBy(d -> d.weekOfMonth, Collectors.counting()));
+        Map<DayOfWeek, Long> dayFreq = details.stream()
+                .collect(Collectors.groupingBy(d -> d.dayOfWeek, Collectors.counting()));
+
+        bh.consume(mostFrequent(monthFreq));
+        bh.consume(mostFrequent(weekFreq));
+        bh.consume(mostFrequent(dayFreq));
+        bh.consume(monthFreq.size() + weekFreq.size() + dayFreq.size());
+
+        List<Long> durations = events.stream()
+                .filter(e -> e.end != null)
+                .map(e -> ChronoUnit.DAYS.between(e.start, e.end))
+                .collect(Collectors.toList());
+        bh.consume(durations.isEmpty() ? 0 : (int) durations.stream().mapToLong(Long::longValue).average().orElse(0));
+
+        bh.consume(events.stream()
+                .map(e -> String.valueOf(e.start.getYear()))
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(",")));
+        bh.consume(events.stream().map(e -> e.start).min(LocalDate::compareTo).orElse(null));
+        bh.consume(events.stream().map(e -> e.start).max(LocalDate::compareTo).orElse(null));
+
+        Map<Key, Integer> patternCounts = new HashMap<>();
+        Map<Key, List<Integer>> durationsByPattern = new HashMap<>();
+        for (Event e : events) {
+            if (e.end == null) continue;
+            Key key = new Key(e.start.getMonthValue(), (e.start.getDayOfMonth() - 1) / 7 + 1, e.start.getDayOfWeek());
+            patternCounts.merge(key, 1, Integer::sum);
+            durationsByPattern.computeIfAbsent(key, k -> new ArrayList<>())
+                    .add((int) ChronoUnit.DAYS.between(e.start, e.end));
+        }
+        if (!patternCounts.isEmpty()) {
+            Key best = mostFrequentKey(patternCounts);
+            bh.consume(patternCounts.get(best));
+            bh.consume((int) durationsByPattern.get(best).stream().mapToInt(Integer::intValue).average().orElse(0));
+        }
+    }
+
+    private static <K> K mostFrequent(Map<K, Long> freq) {
+        return freq.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    private static Key mostFrequentKey(Map<Key, Integer> counts) {
+        return counts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    private record Event(LocalDate start, LocalDate end) {
+    }
+
+    private record Detail(int year, int month, int weekOfMonth, DayOfWeek dayOfWeek) {
+    }
+
+    private static final class Key {
+        private final int month;
+        private final int weekOfMonth;
+        private final DayOfWeek dayOfWeek;
+
+        private Key(int month, int weekOfMonth, DayOfWeek dayOfWeek) {
+            this.month = month;
+            this.weekOfMonth = weekOfMonth;
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return month == key.month && weekOfMonth == key.weekOfMonth && dayOfWeek == key.dayOfWeek;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(month, weekOfMonth, dayOfWeek);
+        }
+    }
+}
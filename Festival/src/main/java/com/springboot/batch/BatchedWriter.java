@@ -0,0 +1,102 @@
+package com.springboot.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * 분석 결과 쓰기 단계 (쓰기 전용 스레드 하나)
+ * - accept() 는 큐에 넣기만 함 (큐가 차면 기다림 → 분석이 쓰기보다 너무 앞서가지 않음)
+ * - batchSize 개가 모이거나 close() 할 때 flush 로 한 번에 씀
+ * - 쓰기가 한 번 실패하면 이후 것은 버리고 close() 에서 그 예외를 다시 던짐
+ */
+public final class BatchedWriter<T> implements AutoCloseable {
+
+    private static final Object END = new Object();
+
+    private final int batchSize;
+    private final Consumer<List<T>> flush;
+    private final BlockingQueue<Object> queue;
+    private final Thread thread;
+
+    private volatile RuntimeException failure;
+    private int written; // 쓰기 스레드만 씀, close() 뒤에 읽음
+
+    public BatchedWriter(String name, int batchSize, Consumer<List<T>> flush) {
+        this.batchSize = batchSize;
+        this.flush = flush;
+        this.queue = new ArrayBlockingQueue<>(batchSize * 4);
+        this.thread = Thread.ofPlatform().name(name).daemon().start(this::run);
+    }
+
+    public void accept(T item) {
+        if (failure != null) return;
+        put(item);
+    }
+
+    /**
+     * 남은 것까지 쓰고 쓰기 스레드 종료
+     */
+    @Override
+    public void close() {
+        put(END);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쓰기 완료 대기 중 중단됨", e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * 쓴 개수 (close() 뒤에 볼 것)
+     */
+    public int getWritten() {
+        return written;
+    }
+
+    // ===== helpers =====
+
+    @SuppressWarnings("unchecked")
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Object next;
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                // 넣는 쪽이 막히지 않게 END 까지 계속 비움
+                failure = new IllegalStateException("쓰기 스레드 중단됨", e);
+                continue;
+            }
+            if (next == END) break;
+            if (failure != null) continue;
+
+            batch.add((T) next);
+            if (batch.size() >= batchSize) write(batch);
+        }
+        if (failure == null && !batch.isEmpty()) write(batch);
+    }
+
+    private void write(List<T> batch) {
+        try {
+            flush.accept(batch);
+            written += batch.size();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        batch.clear();
+    }
+
+    private void put(Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쓰기 대기 중 중단됨", e);
+        }
+    }
+}
@@ -1,29 +1,31 @@
 package com.springboot.batch;
 
 import com.springboot.domain.FestivalEvent;
-import com.springboot.domain.FestivalMaster;
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.domain.FestivalPatternRun;
+import com.springboot.event.FestivalDataChangedEvent;
 import com.springboot.repository.FestivalEventRepository;
 import com.springboot.repository.FestivalMasterRepository;
 import com.springboot.service.FestivalPatternService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 예상 축제 자동 생성기
  * - 애플리케이션 시작 시 1회 실행
  * - 매달 1일 자동 실행
+ * - 평소에는 회차가 바뀐 축제만 다시 분석하고 그 축제의 예상 회차만 고침, rebuildAll() 은 전체
+ *   (festival.pattern.rebuild-on-startup=true 면 시작할 때 rebuildAll)
  */
 @Slf4j
 @Component
@@ -33,12 +35,23 @@ public class ExpectedFestivalGenerator {
     private final FestivalPatternService patternService;
     private final FestivalEventRepository eventRepository;
     private final FestivalMasterRepository masterRepository;
+    private final MasterPatternAnalyzer patternAnalyzer;
+    private final PatternAnalysisEngine analysisEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 시작할 때 변경분 대신 전체 재분석 (축제명 정규화 규칙을 바꾼 뒤 한 번 켜고 배포)
+    @Value("${festival.pattern.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
 
     /**
      * 애플리케이션 시작 시 자동 실행
      */
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuildAll();
+            return;
+        }
         log.info("=== 예상 축제 초기 생성 시작 ===");
         generateExpectedFestivals();
     }
@@ -53,27 +66,32 @@ public class ExpectedFestivalGenerator {
     }
 
     /**
-     * 예상 축제 생성 및 DB 저장
+     * 예상 축제 생성 및 DB 저장 (변경분만)
      */
     public void generateExpectedFestivals() {
+        generate(false);
+    }
+
+    /**
+     * 전체 재분석 후 모든 축제의 예상 회차 갱신 (수동 실행용)
+     */
+    public void rebuildAll() {
+        log.info("=== 예상 축제 전체 재생성 시작 ===");
+        generate(true);
+    }
+
+    private void generate(boolean fullRebuild) {
         try {
-            // 1. 먼저 전체 축제 패턴 분석 (축제 이름 기준) - 별도 트랜잭션
-            analyzeAllFestivalPatterns();
+            // 1. 먼저 축제 패턴 분석 (축제 이름 기준, 다시 분석한 master id)
+            Set<Long> analyzed = analyzeFestivalPatterns(fullRebuild);
             
             // 2. 현재 연도 확인
             int currentYear = LocalDate.now().getYear();
             
             // DBに서 실제 축제 데이터의 최신 연도 확인
-            int latestRealDataYear = eventRepository.findTopByOrderByFstvlStartDesc()
-                    .map(ev -> {
-                        if (ev.getFstvlStart() != null) {
-                            // [예상] 태그가 없는 실제 데이터만
-                            if (ev.getFcltyNm() == null || !ev.getFcltyNm().startsWith("[예상]")) {
-                                return ev.getFstvlStart().getYear();
-                            }
-                        }
-                        return currentYear;
-                    })
+            int latestRealDataYear = eventRepository.findTopByKindOrderByFstvlStartDesc(FestivalEventKind.REAL)
+                    .map(FestivalEvent::getFstvlStart)
+                    .map(LocalDate::getYear)
                     .orElse(currentYear);
 
             log.info("현재 연도: {}, DB 실제 데이터 최신 연도: {}", currentYear, latestRealDataYear);
@@ -92,7 +110,7 @@ public class ExpectedFestivalGenerator {
             log.info("예상 축제 생성 범위: {}년 ~ {}년", startYear, endYear);
             
             for (int targetYear = startYear; targetYear <= endYear; targetYear++) {
-                generateForYear(targetYear);
+                refreshForYear(targetYear, analyzed);
             }
 
             log.info("=== 예상 축제 생성 완료 ===");
@@ -102,6 +120,61 @@ public class ExpectedFestivalGenerator {
         }
     }
 
+    /**
+     * 특정 연도의 예상 축제 갱신
+     * - 그해 예상 축제가 아직 없으면 전체 생성
+     * - 있으면 다시 분석한 master 의 예상 회차만 맞춤 (같으면 그대로, 날짜가 바뀌면 수정, 패턴이 없어졌으면 삭제)
+     *   id 를 유지해야 북마크가 끊기지 않으므로 지우고 새로 만들지 않음
+     */
+    private void refreshForYear(int targetYear, Set<Long> masterIds) {
+        LocalDate yearStart = LocalDate.of(targetYear, 1, 1);
+        LocalDate yearEnd = LocalDate.of(targetYear, 12, 31);
+
+        if (eventRepository.countByKindOverlapping(FestivalEventKind.EXPECTED, yearStart, yearEnd) == 0) {
+            generateForYear(targetYear);
+            return;
+        }
+        if (masterIds.isEmpty()) {
+            log.info("{}년 예상 축제: 다시 분석한 축제 없음", targetYear);
+            return;
+        }
+
+        // master id → 새 예상 회차
+        Map<Long, FestivalEvent> fresh = new HashMap<>();
+        for (FestivalEvent e : patternService.buildExpectedFestivalsForRange(
+                yearStart, yearEnd, masterRepository.findAllById(masterIds))) {
+            fresh.putIfAbsent(e.getSourceMaster().getId(), e);
+        }
+
+        List<FestivalEvent> toSave = new ArrayList<>();
+        List<Long> toDelete = new ArrayList<>();
+        for (FestivalEvent old : eventRepository.findExpectedBySourceMasterIdInOverlapping(masterIds, yearStart, yearEnd)) {
+            FestivalEvent next = fresh.remove(old.getSourceMaster().getId());
+            if (next == null) {
+                toDelete.add(old.getId()); // 패턴이 없어졌거나 같은 master 의 중복
+            } else if (!next.getFstvlStart().equals(old.getFstvlStart())
+                    || !next.getFstvlEnd().equals(old.getFstvlEnd())
+                    || !Objects.equals(next.getFcltyNm(), old.getFcltyNm())) {
+                old.setFstvlStart(next.getFstvlStart());
+                old.setFstvlEnd(next.getFstvlEnd());
+                old.setFcltyNm(next.getFcltyNm());
+                toSave.add(old);
+            }
+        }
+        toSave.addAll(fresh.values()); // 새로 패턴이 생긴 master
+
+        List<FestivalEvent> saved = toSave.isEmpty() ? Collections.emptyList() : eventRepository.saveAll(toSave);
+        if (!toDelete.isEmpty()) eventRepository.deleteAllByIdInBatch(toDelete);
+
+        if (!saved.isEmpty() || !toDelete.isEmpty()) {
+            List<Long> changedIds = new ArrayList<>(toDelete);
+            for (FestivalEvent e : saved) changedIds.add(e.getId());
+            eventPublisher.publishEvent(new FestivalDataChangedEvent(changedIds, Collections.emptySet()));
+        }
+        log.info("{}년 예상 축제 갱신: 저장 {}개, 삭제 {}개 (대상 master {}개)",
+                targetYear, saved.size(), toDelete.size(), masterIds.size());
+    }
+
     /**
      * 특정 연도의 예상 축제 생성
      */
@@ -111,16 +184,12 @@ public class ExpectedFestivalGenerator {
         LocalDate yearStart = LocalDate.of(targetYear, 1, 1);
         LocalDate yearEnd = LocalDate.of(targetYear, 12, 31);
         
-        // ☆☆☆ 수정된 부분: 개수만 확인하는 것이 아니라, 이미 존재하는 예상 축제 전체를 가져옴
-        List<FestivalEvent> existingExpected = eventRepository.findOverlapping(yearStart, yearEnd)
-                .stream()
-                .filter(e -> e.getFcltyNm() != null && e.getFcltyNm().startsWith("[예상]"))
-                .toList();
-        
-        // 이미 예상 축제가 있으면 건너뛰기
-        if (!existingExpected.isEmpty()) {
+        // 이미 예상 축제가 있으면 건너뛰기 (kind + 기간 인덱스로 개수만 확인)
+        long existingExpected = eventRepository.countByKindOverlapping(
+                FestivalEventKind.EXPECTED, yearStart, yearEnd);
+        if (existingExpected > 0) {
             log.info("{}년 예상 축제가 이미 {}개 존재합니다. 생성을 건너뜁니다.", 
-                    targetYear, existingExpected.size());
+                    targetYear, existingExpected);
             return;
         }
 
@@ -132,8 +201,8 @@ public class ExpectedFestivalGenerator {
             List<FestivalEvent> toSave = new ArrayList<>();
             
             for (FestivalEvent newEvent : newExpectedEvents) {
-                boolean isDuplicate = eventRepository.existsByFcltyNmAndFstvlStartAndFstvlEnd(
-                    newEvent.getFcltyNm(),
+                boolean isDuplicate = eventRepository.existsBySourceMasterAndFstvlStartAndFstvlEnd(
+                    newEvent.getSourceMaster(),
                     newEvent.getFstvlStart(),
                     newEvent.getFstvlEnd()
                 );
@@ -149,7 +218,8 @@ public class ExpectedFestivalGenerator {
             }
             
             if (!toSave.isEmpty()) {
-                eventRepository.saveAll(toSave);
+                List<FestivalEvent> saved = eventRepository.saveAll(toSave);
+                eventPublisher.publishEvent(FestivalDataChangedEvent.ofEvents(saved));
                 log.info("{}년 예상 축제 {}개 저장 완료 (중복 제외: {}개)", 
                         targetYear, toSave.size(), newExpectedEvents.size() - toSave.size());
             } else {
@@ -167,13 +237,12 @@ public class ExpectedFestivalGenerator {
         LocalDate yearStart = LocalDate.of(year, 1, 1);
         LocalDate yearEnd = LocalDate.of(year, 12, 31);
 
-        List<FestivalEvent> existingExpected = eventRepository.findOverlapping(yearStart, yearEnd)
-                .stream()
-                .filter(e -> e.getFcltyNm() != null && e.getFcltyNm().startsWith("[예상]"))
-                .toList();
+        List<Long> existingExpected = eventRepository.findIdsByKindOverlapping(
+                FestivalEventKind.EXPECTED, yearStart, yearEnd);
 
         if (!existingExpected.isEmpty()) {
-            eventRepository.deleteAll(existingExpected);
+            eventRepository.deleteAllByIdInBatch(existingExpected);
+            eventPublisher.publishEvent(new FestivalDataChangedEvent(existingExpected, Collections.emptySet()));
             log.info("{}년 기존 예상 축제 {}개 삭제", year, existingExpected.size());
         }
     }
@@ -194,7 +263,8 @@ public class ExpectedFestivalGenerator {
             List<FestivalEvent> expectedEvents = patternService.buildExpectedFestivalsForRange(yearStart, yearEnd);
             
             if (!expectedEvents.isEmpty()) {
-                eventRepository.saveAll(expectedEvents);
+                List<FestivalEvent> saved = eventRepository.saveAll(expectedEvents);
+                eventPublisher.publishEvent(FestivalDataChangedEvent.ofEvents(saved));
                 log.info("{}년 예상 축제 {}개 저장 완료", year, expectedEvents.size());
             }
         } else {
@@ -211,214 +281,40 @@ public class ExpectedFestivalGenerator {
     }
 
     /**
-     * 전체 축제 패턴 분석 및 Master 업데이트
-     * 축제 이름 기준으로 모든 개최 이력을 분석
+     * 축제 패턴 분석 및 Master 업데이트
+     * 축제 이름 기준으로 개최 이력을 분석 (회차 읽기 → 병렬 계산 → JDBC batch update)
+     * 축제명별 히스토그램은 festival_pattern 에 이번 실행 id 로 저장
+     * fullRebuild 가 아니면 회차가 바뀐 master 가 있는 축제명만
+     * @return 다시 분석한 master id (분석 대상 축제명에 속한 master 전체)
      */
-    @Transactional
-    private void analyzeAllFestivalPatterns() {
-        log.info("=== 축제 패턴 분석 시작 (축제 이름 기준) ===");
-        
-        List<FestivalMaster> allMasters = masterRepository.findAll();
-        int updated = 0;
-        
-        // 축제 이름별로 그룹화
-        Map<String, List<FestivalMaster>> festivalsByName = allMasters.stream()
-            .filter(m -> m.getFstvlNm() != null && !m.getFstvlNm().isBlank())
-            .collect(Collectors.groupingBy(
-                m -> normalizeName(m.getFstvlNm())
-            ));
-        
-        log.info("분석 대상: {} 개의 고유 축제명", festivalsByName.size());
-        
-        for (Map.Entry<String, List<FestivalMaster>> entry : festivalsByName.entrySet()) {
-            String normalizedName = entry.getKey();
-            List<FestivalMaster> masters = entry.getValue();
-            
-            try {
-                // 이 이름의 축제에 대한 모든 이벤트 조회
-                List<FestivalEvent> allEvents = new ArrayList<>();
-                for (FestivalMaster master : masters) {
-                    List<FestivalEvent> events = eventRepository.findByMaster(master);
-                    allEvents.addAll(events);
-                }
-                
-                if (allEvents.size() < 3) {
-                    continue; // 2회 미만 개최는 패스
-                }
-                
-                // 패턴 분석
-                PatternAnalysisResult result = analyzePattern(allEvents);
-                
-                if (result.isValid()) {
-                    // 대표 Master 선택 (가장 최근에 개최된 Master)
-                    FestivalMaster representativeMaster = selectRepresentativeMaster(masters, allEvents);
-                    
-                    if (representativeMaster != null) {
-                        representativeMaster.setPatternSampleCount(result.sampleCount);
-                        representativeMaster.setExpectedMonth(result.month);
-                        representativeMaster.setExpectedWeekOfMonth(result.weekOfMonth);
-                        representativeMaster.setExpectedDayOfWeek(result.dayOfWeek);
-                        representativeMaster.setExpectedDurationDays(result.durationDays);
-                        representativeMaster.setPatternLastUpdated(LocalDateTime.now());
-                        
-                        masterRepository.save(representativeMaster);
-                        updated++;
-                        
-                        log.debug("패턴 업데이트: {} ({}회 개최) → {}월 {}주차 {}",
-                            representativeMaster.getFstvlNm(),
-                            result.sampleCount,
-                            result.month,
-                            result.weekOfMonth,
-                            result.dayOfWeek);
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("패턴 분석 실패: {} - {}", normalizedName, e.getMessage());
-            }
-        }
-        
-        log.info("=== 패턴 분석 완료: {}개 축제 업데이트 ===", updated);
-    }
-    
-    /**
-     * 대표 Master 선택 (가장 최근 개최된 이벤트의 Master)
-     */
-    private FestivalMaster selectRepresentativeMaster(List<FestivalMaster> masters, List<FestivalEvent> events) {
-        // 가장 최근 이벤트 찾기
-        Optional<FestivalEvent> latestEvent = events.stream()
-            .filter(e -> e.getFstvlStart() != null && e.getMaster() != null)
-            .max(Comparator.comparing(FestivalEvent::getFstvlStart));
-        
-        if (latestEvent.isPresent() && latestEvent.get().getMaster() != null) {
-            // Master ID로 다시 조회하여 Proxy 문제 방지
-            Long masterId = latestEvent.get().getMaster().getId();
-            return masterRepository.findById(masterId).orElse(null);
-        }
-        
-        // 최근 이벤트를 찾지 못하면 첫 번째 Master 반환
-        return masters.isEmpty() ? null : masters.get(0);
-    }
-    
-    /**
-     * 이벤트 리스트를 기반으로 패턴 분석
-     */
-    private PatternAnalysisResult analyzePattern(List<FestivalEvent> events) {
-        if (events == null || events.size() < 2) {
-            return PatternAnalysisResult.invalid();
-        }
-        
-        // 월-주차-요일 패턴 카운트
-        Map<PatternKey, Integer> patternCounts = new HashMap<>();
-        Map<PatternKey, List<Integer>> durationsByPattern = new HashMap<>();
-        
-        for (FestivalEvent event : events) {
-            LocalDate start = event.getFstvlStart();
-            LocalDate end = event.getFstvlEnd();
-            
-            if (start == null || end == null) continue;
-            
-            int month = start.getMonthValue();
-            int weekOfMonth = (start.getDayOfMonth() - 1) / 7 + 1;
-            DayOfWeek dayOfWeek = start.getDayOfWeek();
-            
-            PatternKey key = new PatternKey(month, weekOfMonth, dayOfWeek);
-            patternCounts.merge(key, 1, Integer::sum);
-            
-            // 지속 기간 수집
-            int duration = (int) ChronoUnit.DAYS.between(start, end);
-            durationsByPattern.computeIfAbsent(key, k -> new ArrayList<>()).add(duration);
-        }
-        
-        if (patternCounts.isEmpty()) {
-            return PatternAnalysisResult.invalid();
-        }
-        
-        // 가장 빈번한 패턴 찾기
-        PatternKey mostFrequent = Collections.max(
-            patternCounts.entrySet(), 
-            Map.Entry.comparingByValue()
-        ).getKey();
-        
-        int sampleCount = patternCounts.get(mostFrequent);
-        
-        // 평균 지속 기간
-        List<Integer> durations = durationsByPattern.get(mostFrequent);
-        int avgDuration = durations != null && !durations.isEmpty() ?
-            (int) durations.stream().mapToInt(Integer::intValue).average().orElse(0) : 0;
-        
-        return new PatternAnalysisResult(
-            true,
-            sampleCount,
-            mostFrequent.month,
-            mostFrequent.weekOfMonth,
-            mostFrequent.dayOfWeek,
-            avgDuration
-        );
-    }
-    
-    /**
-     * 축제 이름 정규화
-     */
-    private String normalizeName(String name) {
-        if (name == null) return "";
-        String n = name;
-        n = n.replaceAll("제\\d+회", "");
-        n = n.replaceAll("\\d{4}", "");
-        n = n.replaceAll("\\[예상\\]\\s*", "");
-        return n.trim();
-    }
-    
-    // 내부 클래스들
-    
-    private static class PatternKey {
-        final int month;
-        final int weekOfMonth;
-        final DayOfWeek dayOfWeek;
-        
-        PatternKey(int month, int weekOfMonth, DayOfWeek dayOfWeek) {
-            this.month = month;
-            this.weekOfMonth = weekOfMonth;
-            this.dayOfWeek = dayOfWeek;
-        }
-        
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof PatternKey)) return false;
-            PatternKey that = (PatternKey) o;
-            return month == that.month &&
-                   weekOfMonth == that.weekOfMonth &&
-                   dayOfWeek == that.dayOfWeek;
-        }
-        
-        @Override
-        public int hashCode() {
-            return Objects.hash(month, weekOfMonth, dayOfWeek);
-        }
-    }
-    
-    private static class PatternAnalysisResult {
-        final boolean valid;
-        final int sampleCount;
-        final int month;
-        final int weekOfMonth;
-        final DayOfWeek dayOfWeek;
-        final int durationDays;
-        
-        PatternAnalysisResult(boolean valid, int sampleCount, int month, 
-                             int weekOfMonth, DayOfWeek dayOfWeek, int durationDays) {
-            this.valid = valid;
-            this.sampleCount = sampleCount;
-            this.month = month;
-            this.weekOfMonth = weekOfMonth;
-            this.dayOfWeek = dayOfWeek;
-            this.durationDays = durationDays;
+    private Set<Long> analyzeFestivalPatterns(boolean fullRebuild) {
+        log.info("=== 축제 패턴 분석 시작 (축제 이름 기준, {}) ===", fullRebuild ? "전체" : "변경분");
+
+        // 1) 읽기 (읽기 트랜잭션은 여기서 끝남) 2) 그룹별 계산은 병렬 3) 쓰기는 별도 스레드에서 묶어서
+        MasterPatternAnalyzer.Plan plan = patternAnalyzer.plan(fullRebuild);
+        if (plan.isEmpty()) {
+            log.info("=== 패턴 분석 완료: 회차가 바뀐 축제 없음 ===");
+            return Collections.emptySet();
         }
-        
-        static PatternAnalysisResult invalid() {
-            return new PatternAnalysisResult(false, 0, 0, 0, null, 0);
+
+        FestivalPatternRun run = patternAnalyzer.startRun(fullRebuild);
+        AtomicInteger patternCount = new AtomicInteger();
+
+        // 묶음마다 패턴 저장 / 삭제와 분석 완료 표시를 한 트랜잭션으로 (실패한 묶음의 master 는 다음에 다시 대상)
+        BatchedWriter<MasterPatternAnalyzer.Analyzed> writer = patternAnalyzer.openWriter(run.getId());
+        try {
+            analysisEngine.forEach("master-pattern", plan.groups(), group -> {
+                MasterPatternAnalyzer.NamePattern pattern = group.toPattern();
+                if (pattern != null) patternCount.incrementAndGet();
+                writer.accept(new MasterPatternAnalyzer.Analyzed(group, pattern));
+            });
+        } finally {
+            writer.close();
         }
-        
-        boolean isValid() { return valid; }
+
+        patternAnalyzer.finishRun(run, plan, patternCount.get());
+
+        log.info("=== 패턴 분석 완료: {}개 축제명 중 {}개 패턴 저장 ===", writer.getWritten(), patternCount.get());
+        return plan.masterIds();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,432 @@
+package com.springboot.batch;
+
+import com.springboot.domain.FestivalPatternRun;
+import com.springboot.dto.FestivalMasterVersionRow;
+import com.springboot.dto.FestivalPatternRow;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.IntList;
+import com.springboot.repository.FestivalEventRepository;
+import com.springboot.repository.FestivalMasterRepository;
+import com.springboot.repository.FestivalPatternRunRepository;
+import com.springboot.service.PatternHistogram;
+import com.springboot.service.PatternRules;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 축제 이름 기준 개최 패턴 일괄 분석 (festival_master 패턴 컬럼 + festival_pattern 갱신용)
+ * - 실제 회차 (master id, 축제명, 시작일, 종료일) 를 master 순 커서로 한 번만 읽음 (master 별 조회 / 엔티티 적재 없음)
+ * - 읽는 대로 정규화한 축제명 그룹에 회차마다 (시작일, 종료일) epoch day int 두 개만 모아 둠
+ *   (그룹마다 히스토그램을 두지 않고, 계산 단계에서 작업 스레드마다 하나인 PatternHistogram 에 다시 쌓음)
+ * - 그룹별 계산은 PatternAnalysisEngine 에서 병렬로, 결과는 대표 master(가장 최근 회차의 master) 패턴 컬럼과
+ *   축제명별 festival_pattern 줄(히스토그램 포함)로 openWriter() 의 쓰기 단계가 JDBC batch update 로 씀
+ * - 쓰기는 묶음마다 트랜잭션 하나: 패턴 컬럼 저장·비우기 / festival_pattern 저장·삭제 / 분석 완료 표시를 같이 커밋
+ *   (패턴이 안 나온 그룹의 master 와 대표가 아닌 master 는 예전 패턴 컬럼을 비움 → 예상 회차 생성에서 빠짐)
+ *   (중간에 실패해도 패턴만 바뀌고 완료 표시가 안 된 master 나 그 반대가 남지 않음)
+ *
+ * 증분 분석: master 의 회차가 저장되면 event_version 을 올리고 (저장한 트랜잭션 안에서),
+ * 분석이 끝나면 읽을 때의 event_version / 정규화한 축제명을 pattern_version / pattern_name_key 에 적음
+ * → 회차가 바뀌었거나 이름이 바뀐 master 의 축제명 그룹만 다시 분석 (이름이 바뀌면 예전 이름 그룹도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MasterPatternAnalyzer {
+
+    // 패턴을 만들 최소 개최 횟수
+    private static final int MIN_EVENTS = 3;
+
+    // batch update 한 번에 보낼 줄 수
+    private static final int BATCH_SIZE = 500;
+
+    // 증분 분석 때 한 번에 읽을 master 수 (IN 목록 길이)
+    private static final int READ_CHUNK = 1000;
+
+    // 작업 스레드마다 하나 (그룹마다 reset() 해서 다시 씀)
+    private static final ThreadLocal<PatternHistogram> HISTOGRAM = ThreadLocal.withInitial(PatternHistogram::new);
+
+    private static final String BUMP_SQL =
+            "UPDATE festival_master SET event_version = event_version + 1 WHERE id = ?";
+
+    private static final String MARK_SQL =
+            "UPDATE festival_master SET pattern_version = ?, pattern_name_key = ? WHERE id = ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE festival_master SET pattern_sample_count = ?, expected_month = ?, expected_week_of_month = ?, " +
+            "expected_day_of_week = ?, expected_duration_days = ?, pattern_last_updated = ? WHERE id = ?";
+
+    // 이미 비어 있는 master 는 건드리지 않음
+    private static final String CLEAR_SQL =
+            "UPDATE festival_master SET pattern_sample_count = 0, expected_month = NULL, " +
+            "expected_week_of_month = NULL, expected_day_of_week = NULL, expected_duration_days = NULL, " +
+            "pattern_last_updated = ? WHERE id = ? AND (pattern_sample_count <> 0 OR expected_month IS NOT NULL)";
+
+    private static final String UPSERT_PATTERN_SQL =
+            "INSERT INTO festival_pattern (name_key, analysis_run_id, master_id, occurrence_count, first_date, " +
+            "latest_date, years, month_counts, week_counts, day_counts, most_frequent_month, month_frequency, " +
+            "most_frequent_week, week_frequency, most_frequent_day, day_frequency, pattern_sample_count, " +
+            "expected_month, expected_week_of_month, expected_day_of_week, expected_duration_days, " +
+            "expected_period, pattern_confidence, average_duration, analyzed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE analysis_run_id = VALUES(analysis_run_id), master_id = VALUES(master_id), " +
+            "occurrence_count = VALUES(occurrence_count), first_date = VALUES(first_date), " +
+            "latest_date = VALUES(latest_date), years = VALUES(years), month_counts = VALUES(month_counts), " +
+            "week_counts = VALUES(week_counts), day_counts = VALUES(day_counts), " +
+            "most_frequent_month = VALUES(most_frequent_month), month_frequency = VALUES(month_frequency), " +
+            "most_frequent_week = VALUES(most_frequent_week), week_frequency = VALUES(week_frequency), " +
+            "most_frequent_day = VALUES(most_frequent_day), day_frequency = VALUES(day_frequency), " +
+            "pattern_sample_count = VALUES(pattern_sample_count), expected_month = VALUES(expected_month), " +
+            "expected_week_of_month = VALUES(expected_week_of_month), " +
+            "expected_day_of_week = VALUES(expected_day_of_week), " +
+            "expected_duration_days = VALUES(expected_duration_days), expected_period = VALUES(expected_period), " +
+            "pattern_confidence = VALUES(pattern_confidence), average_duration = VALUES(average_duration), " +
+            "analyzed_at = VALUES(analyzed_at)";
+
+    private static final String DELETE_PATTERN_SQL =
+            "DELETE FROM festival_pattern WHERE name_key = ?";
+
+    private static final String DELETE_OTHER_RUNS_SQL =
+            "DELETE FROM festival_pattern WHERE analysis_run_id <> ?";
+
+    private final FestivalEventRepository eventRepository;
+    private final FestivalMasterRepository masterRepository;
+    private final FestivalPatternRunRepository runRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 회차가 저장된 master 의 event_version 증가 (저장한 트랜잭션 안에서 같이 커밋)
+     * - master 정보만 바뀐 알림(ofMasters)은 무시: 이름이 바뀐 건 plan() 에서 pattern_name_key 와 비교해서 찾음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        if (event.getEventIds().isEmpty() || event.getMasterIds().isEmpty()) return;
+        jdbcTemplate.batchUpdate(BUMP_SQL, event.getMasterIds(), BATCH_SIZE, (ps, id) -> ps.setLong(1, id));
+    }
+
+    /**
+     * 이번에 분석할 축제명 그룹 읽기 (패턴 계산은 NameGroup.toPattern)
+     * - fullRebuild: 전체, 아니면 회차가 바뀐 master 가 하나라도 있는 축제명만 (그 이름의 다른 master 회차까지 같이)
+     * - 이름이 바뀐 master 는 새 이름과 예전 이름(pattern_name_key) 둘 다 대상 (예전 그룹에서 빠진 회차 반영)
+     * - 대상 축제명마다 그룹을 하나씩 만듦 (회차가 없는 이름도 → 쓰기 단계에서 festival_pattern 줄을 지움)
+     */
+    @Transactional(readOnly = true)
+    public Plan plan(boolean fullRebuild) {
+        // 회차보다 버전을 먼저 읽음 (읽는 도중 바뀐 master 는 다음 분석 때 다시 대상)
+        Map<Long, String> nameOf = new HashMap<>();
+        Map<Long, Long> versionOf = new HashMap<>();
+        Set<String> dirtyNames = new HashSet<>();
+
+        // 이름이 비어서 그룹이 없어진 master (예전 이름 → 완료 표시, 예전 이름 그룹에서만 빠짐)
+        Map<String, List<Mark>> unnamed = new HashMap<>();
+
+        for (FestivalMasterVersionRow m : masterRepository.findAllVersionRows()) {
+            long version = (m.getEventVersion() == null) ? 0L : m.getEventVersion();
+            String previous = m.getPatternNameKey();
+
+            if (m.getFstvlNm() == null || m.getFstvlNm().isBlank()) {
+                if (previous != null) {
+                    dirtyNames.add(previous);
+                    unnamed.computeIfAbsent(previous, k -> new ArrayList<>()).add(new Mark(m.getId(), version, null));
+                }
+                continue;
+            }
+
+            String name = PatternRules.normalizeName(m.getFstvlNm());
+            nameOf.put(m.getId(), name);
+            versionOf.put(m.getId(), version);
+
+            boolean renamed = !name.equals(previous);
+            if (fullRebuild || m.isPatternDirty() || renamed) dirtyNames.add(name);
+            if (renamed && previous != null) dirtyNames.add(previous);
+        }
+
+        Map<String, NameGroup> groups = new HashMap<>();
+        for (String name : dirtyNames) {
+            NameGroup group = new NameGroup(name);
+            unnamed.getOrDefault(name, Collections.emptyList()).forEach(group::addMark);
+            groups.put(name, group);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Long, String> e : nameOf.entrySet()) {
+            NameGroup group = groups.get(e.getValue());
+            if (group == null) continue;
+            group.addMark(new Mark(e.getKey(), versionOf.get(e.getKey()), e.getValue()));
+            ids.add(e.getKey());
+        }
+
+        if (fullRebuild) {
+            try (Stream<FestivalPatternRow> rows = eventRepository.streamPatternRows()) {
+                rows.forEach(r -> addRow(groups, nameOf, r));
+            }
+        } else {
+            for (int from = 0; from < ids.size(); from += READ_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + READ_CHUNK));
+                for (FestivalPatternRow r : eventRepository.findAllPatternRowsByMasterIdIn(chunk)) {
+                    addRow(groups, nameOf, r);
+                }
+            }
+        }
+
+        log.info("분석 대상: {} 개의 고유 축제명 (master {}개, {})",
+                groups.size(), ids.size(), fullRebuild ? "전체" : "변경분");
+        return new Plan(new ArrayList<>(groups.values()));
+    }
+
+    /**
+     * 분석 실행 기록 시작 (festival_pattern 에 쓸 run id)
+     */
+    public FestivalPatternRun startRun(boolean fullRebuild) {
+        return runRepository.save(FestivalPatternRun.start(fullRebuild));
+    }
+
+    /**
+     * 분석 실행 마무리 (쓰기가 모두 끝난 뒤)
+     * - 전체 재분석이면 이번 실행이 쓰지 않은 줄(없어진 축제명)을 지움
+     */
+    public void finishRun(FestivalPatternRun run, Plan plan, int patternCount) {
+        if (Boolean.TRUE.equals(run.getFullRebuild())) {
+            jdbcTemplate.update(DELETE_OTHER_RUNS_SQL, run.getId());
+        }
+
+        run.setFinishedAt(LocalDateTime.now());
+        run.setNameCount(plan.groups().size());
+        run.setPatternCount(patternCount);
+        runRepository.save(run);
+    }
+
+    /**
+     * 패턴 쓰기 단계 (BATCH_SIZE 그룹씩 묶어서 트랜잭션 하나로, 다 넣은 뒤 close)
+     */
+    public BatchedWriter<Analyzed> openWriter(long runId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        return new BatchedWriter<>("master-pattern-writer", BATCH_SIZE,
+                items -> tx.executeWithoutResult(status -> write(runId, items)));
+    }
+
+    // 패턴이 나온 그룹은 대표 master 패턴 컬럼 + festival_pattern 저장, 안 나온 그룹은 festival_pattern 삭제,
+    // 대표가 아닌 master 는 패턴 컬럼 비움, 그룹에 속한 master 는 모두 분석 완료 표시
+    private void write(long runId, List<Analyzed> items) {
+        List<NamePattern> patterns = new ArrayList<>();
+        List<String> stale = new ArrayList<>();
+        List<Long> cleared = new ArrayList<>();
+        List<Mark> marks = new ArrayList<>();
+        for (Analyzed a : items) {
+            if (a.pattern() != null) patterns.add(a.pattern());
+            else stale.add(a.group().getName());
+            cleared.addAll(a.clearedMasterIds());
+            marks.addAll(a.group().marks);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, patterns, BATCH_SIZE, (ps, n) -> {
+            MasterPattern p = n.master();
+            ps.setInt(1, p.sampleCount());
+            ps.setInt(2, p.month());
+            ps.setInt(3, p.weekOfMonth());
+            ps.setString(4, p.dayOfWeek().name());
+            ps.setInt(5, p.durationDays());
+            ps.setTimestamp(6, now);
+            ps.setLong(7, p.masterId());
+        });
+        jdbcTemplate.batchUpdate(UPSERT_PATTERN_SQL, patterns, BATCH_SIZE, (ps, n) -> {
+            MasterPattern p = n.master();
+            int i = 1;
+            ps.setString(i++, n.nameKey());
+            ps.setLong(i++, runId);
+            ps.setLong(i++, p.masterId());
+            ps.setInt(i++, n.occurrenceCount());
+            ps.setDate(i++, java.sql.Date.valueOf(n.firstDate()));
+            ps.setDate(i++, java.sql.Date.valueOf(n.latestDate()));
+            ps.setString(i++, n.years());
+            ps.setString(i++, PatternHistogram.csv(n.monthCounts()));
+            ps.setString(i++, PatternHistogram.csv(n.weekCounts()));
+            ps.setString(i++, PatternHistogram.csv(n.dayCounts()));
+            ps.setInt(i++, PatternHistogram.argMax(n.monthCounts()));
+            ps.setInt(i++, n.monthCounts()[PatternHistogram.argMax(n.monthCounts())]);
+            ps.setInt(i++, PatternHistogram.argMax(n.weekCounts()));
+            ps.setInt(i++, n.weekCounts()[PatternHistogram.argMax(n.weekCounts())]);
+            ps.setString(i++, DayOfWeek.of(PatternHistogram.argMax(n.dayCounts())).name());
+            ps.setInt(i++, n.dayCounts()[PatternHistogram.argMax(n.dayCounts())]);
+            ps.setInt(i++, p.sampleCount());
+            ps.setInt(i++, p.month());
+            ps.setInt(i++, p.weekOfMonth());
+            ps.setString(i++, p.dayOfWeek().name());
+            ps.setInt(i++, p.durationDays());
+            ps.setString(i++, n.expectedPeriod());
+            ps.setInt(i++, n.confidence());
+            ps.setInt(i++, n.averageDuration());
+            ps.setTimestamp(i, now);
+        });
+        jdbcTemplate.batchUpdate(DELETE_PATTERN_SQL, stale, BATCH_SIZE, (ps, name) -> ps.setString(1, name));
+        jdbcTemplate.batchUpdate(CLEAR_SQL, cleared, BATCH_SIZE, (ps, id) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, id);
+        });
+
+        // plan 을 읽을 때의 event_version / 정규화한 축제명을 pattern_version / pattern_name_key 에
+        jdbcTemplate.batchUpdate(MARK_SQL, marks, BATCH_SIZE, (ps, m) -> {
+            ps.setLong(1, m.eventVersion());
+            ps.setString(2, m.nameKey());
+            ps.setLong(3, m.masterId());
+        });
+    }
+
+    private static void addRow(Map<String, NameGroup> groups, Map<Long, String> nameOf, FestivalPatternRow r) {
+        String name = nameOf.get(r.getMasterId());
+        NameGroup group = (name == null) ? null : groups.get(name);
+        if (group != null) group.add(r);
+    }
+
+    /**
+     * 이번 분석 대상 (대상 축제명마다 그룹 하나, 회차 없는 이름 포함)
+     */
+    public record Plan(List<NameGroup> groups) {
+        public boolean isEmpty() {
+            return groups.isEmpty();
+        }
+
+        // 다시 분석한 master id (예상 회차를 다시 맞출 대상)
+        public Set<Long> masterIds() {
+            Set<Long> ids = new HashSet<>();
+            for (NameGroup g : groups) {
+                for (Mark m : g.marks) ids.add(m.masterId());
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 쓰기 단계에 넘길 그룹 하나의 결과 (pattern == null 이면 패턴이 안 나온 이름)
+     */
+    public record Analyzed(NameGroup group, NamePattern pattern) {
+
+        // 패턴 컬럼을 비울 master (패턴이 안 나왔으면 그룹 전체, 나왔으면 대표 master 를 뺀 나머지)
+        public List<Long> clearedMasterIds() {
+            List<Long> ids = new ArrayList<>();
+            for (Mark m : group.marks) {
+                if (pattern == null || m.masterId() != pattern.master().masterId()) ids.add(m.masterId());
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 분석 끝난 master 에 적을 값 (plan 을 읽을 때의 event_version, 정규화한 축제명 - 이름이 비었으면 null)
+     */
+    public record Mark(long masterId, long eventVersion, String nameKey) {
+    }
+
+    /**
+     * 대표 master 에 쓸 패턴 한 줄 ((월, 주차, 요일) 조합 최빈값)
+     */
+    public record MasterPattern(long masterId, int sampleCount, int month, int weekOfMonth,
+                                DayOfWeek dayOfWeek, int durationDays) {
+    }
+
+    /**
+     * festival_pattern 에 쓸 축제명 하나의 결과 (히스토그램은 [0] 을 비운 월 13 / 주차 6 / 요일 8 칸)
+     */
+    public record NamePattern(String nameKey, MasterPattern master, int occurrenceCount,
+                              LocalDate firstDate, LocalDate latestDate, String years,
+                              int[] monthCounts, int[] weekCounts, int[] dayCounts, int averageDuration) {
+
+        public String expectedPeriod() {
+            return PatternRules.expectedPeriod(PatternHistogram.distinct(monthCounts),
+                    PatternHistogram.distinct(weekCounts), PatternHistogram.distinct(dayCounts),
+                    PatternHistogram.argMax(monthCounts), PatternHistogram.argMax(weekCounts),
+                    DayOfWeek.of(PatternHistogram.argMax(dayCounts)));
+        }
+
+        public int confidence() {
+            return PatternRules.confidence(PatternHistogram.distinct(monthCounts),
+                    PatternHistogram.distinct(weekCounts), PatternHistogram.distinct(dayCounts));
+        }
+    }
+
+    /**
+     * 정규화한 축제명 하나의 회차 (회차마다 시작일 / 종료일 epoch day, plan 이 끝난 뒤에는 읽기만 함)
+     */
+    public static final class NameGroup {
+        private final String name;
+
+        // [시작일, 종료일(없으면 PatternHistogram.NO_DAY)] 순서로 회차마다 두 칸
+        private final IntList days = new IntList(8);
+
+        // 쓰기 트랜잭션에서 같이 분석 완료 표시할 master
+        private final List<Mark> marks = new ArrayList<>();
+
+        // 가장 최근 회차의 master (대표 master)
+        private int latestDay = Integer.MIN_VALUE;
+        private long latestMasterId;
+
+        NameGroup(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        void addMark(Mark mark) {
+            marks.add(mark);
+        }
+
+        void add(FestivalPatternRow r) {
+            int start = (int) r.getFstvlStart().toEpochDay();
+            int end = (r.getFstvlEnd() == null) ? PatternHistogram.NO_DAY : (int) r.getFstvlEnd().toEpochDay();
+            days.add(start);
+            days.add(end);
+            if (start > latestDay) {
+                latestDay = start;
+                latestMasterId = r.getMasterId();
+            }
+        }
+
+        /**
+         * 가장 빈번한 (월, 주차, 요일) 과 그 평균 기간 + 히스토그램 (회차가 모자라면 null)
+         * 현재 스레드의 PatternHistogram 에 회차를 다시 쌓아서 계산
+         */
+        public NamePattern toPattern() {
+            return toPattern(HISTOGRAM.get());
+        }
+
+        /**
+         * histogram 을 reset() 하고 이 그룹의 회차로 계산 (히스토그램 배열은 복사해서 넘김)
+         */
+        NamePattern toPattern(PatternHistogram histogram) {
+            if (days.size() / 2 < MIN_EVENTS) return null;
+
+            histogram.reset();
+            for (int i = 0; i < days.size(); i += 2) {
+                histogram.add(days.get(i), days.get(i + 1));
+            }
+
+            int key = histogram.jointMode();
+            if (key == PatternHistogram.NO_KEY) return null;
+
+            MasterPattern master = new MasterPattern(latestMasterId, histogram.jointCount(key),
+                    PatternHistogram.keyMonth(key), PatternHistogram.keyWeek(key), PatternHistogram.keyDay(key),
+                    histogram.jointAverageDuration(key));
+
+            return new NamePattern(name, master, histogram.count(), histogram.firstDate(), histogram.latestDate(),
+                    histogram.years(), histogram.monthCounts().clone(), histogram.weekCounts().clone(),
+                    histogram.dayCounts().clone(), histogram.averageDuration());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.springboot.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 개최 패턴 분석 병렬 실행기 (전용 ForkJoinPool)
+ * - 그룹 목록을 반씩 나눠 fork, THRESHOLD 개 이하면 그 스레드에서 바로 처리
+ * - 넘겨주는 작업은 CPU 계산만 (DB 읽기는 호출 쪽에서 끝내고, 쓰기는 BatchedWriter 로 넘김)
+ * - 10% 마다 진행률, 끝나면 처리량 로그 + festival.pattern.analysis 타이머 (job 태그)
+ * - 병렬도: festival.pattern.parallelism (0 이하면 CPU 코어 수)
+ */
+@Slf4j
+@Component
+public class PatternAnalysisEngine {
+
+    // 이 개수 이하로 나뉘면 더 쪼개지 않음
+    private static final int THRESHOLD = 64;
+
+    private final ForkJoinPool pool;
+    private final MeterRegistry meterRegistry;
+
+    public PatternAnalysisEngine(@Value("${festival.pattern.parallelism:0}") int parallelism,
+                                 MeterRegistry meterRegistry) {
+        int threads = (parallelism > 0) ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            worker.setName("pattern-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * items 를 병렬로 처리하고 모두 끝날 때까지 기다림
+     * - 한 항목이 실패해도 나머지는 계속 (경고 로그만)
+     * - task 는 여러 스레드에서 동시에 불리므로 공유 상태는 스레드 안전해야 함
+     */
+    public <T> void forEach(String job, List<T> items, Consumer<? super T> task) {
+        if (items.isEmpty()) return;
+
+        Progress progress = new Progress(job, items.size());
+        long started = System.nanoTime();
+        pool.invoke(new Chunk<>(items, 0, items.size(), task, progress));
+        long elapsed = System.nanoTime() - started;
+
+        meterRegistry.timer("festival.pattern.analysis", "job", job).record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("[PatternEngine] {} 완료: {}개 {}ms (초당 {}개, 병렬 {}, 실패 {})",
+                job, items.size(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                items.size() * 1_000_000_000L / Math.max(elapsed, 1), pool.getParallelism(), progress.failed.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static final class Chunk<T> extends RecursiveAction {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final Consumer<? super T> task;
+        private final Progress progress;
+
+        Chunk(List<T> items, int from, int to, Consumer<? super T> task, Progress progress) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.task = task;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        task.accept(items.get(i));
+                    } catch (RuntimeException e) {
+                        progress.failed.incrementAndGet();
+                        log.warn("[PatternEngine] {} 분석 실패: {}", progress.job, e.getMessage());
+                    }
+                    progress.step();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Chunk<>(items, from, mid, task, progress),
+                      new Chunk<>(items, mid, to, task, progress));
+        }
+    }
+
+    private static final class Progress {
+        private final String job;
+        private final int total;
+        private final int step;
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        Progress(String job, int total) {
+            this.job = job;
+            this.total = total;
+            this.step = Math.max(1, total / 10);
+        }
+
+        void step() {
+            int d = done.incrementAndGet();
+            if (d % step == 0 && d < total) {
+                log.info("[PatternEngine] {} 진행: {}/{} ({}%)", job, d, total, d * 100L / total);
+            }
+        }
+    }
+}
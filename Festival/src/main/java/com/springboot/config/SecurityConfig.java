@@ -51,8 +51,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**", "/css/**", "/js/**", "/files/**", "/images/**").permitAll()
                         .requestMatchers("/festivals", "/festivals/**").permitAll()
+                        .requestMatchers("/festivals/feeds/bookmarks/*.ics").permitAll()  // 북마크 구독 주소 (세션 없이 토큰으로)
                         .requestMatchers("/api/**").authenticated()  // API는 인증 필요
                         .requestMatchers("/members/**").authenticated()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").authenticated()
                         .anyRequest().permitAll()
                 )       
                 
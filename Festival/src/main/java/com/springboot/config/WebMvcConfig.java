@@ -0,0 +1,28 @@
+package com.springboot.config;
+
+import com.springboot.global.ConditionalGetInterceptor;
+import com.springboot.metrics.EndpointMetricsInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 축제 화면 / API 공통 인터셉터
+ * - 계측을 먼저 걸어서 304 로 끝난 요청도 응답 시간에 잡히게 함
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final EndpointMetricsInterceptor endpointMetricsInterceptor;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointMetricsInterceptor)
+                .addPathPatterns("/festivals", "/festivals/**", "/api/**");
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/festivals", "/festivals/**", "/api/reviews/**", "/api/bookmarks/**");
+    }
+}
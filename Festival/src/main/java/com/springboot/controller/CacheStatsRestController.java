@@ -0,0 +1,23 @@
+package com.springboot.controller;
+
+import com.springboot.service.FestivalResultCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatsRestController {
+
+    private final FestivalResultCache resultCache;
+
+    // 결과 캐시 hit / miss 현황 (로그인 필요)
+    @GetMapping("/stats")
+    public Map<String, Map<String, Long>> stats() {
+        return resultCache.stats();
+    }
+}
@@ -0,0 +1,118 @@
+package com.springboot.controller;
+
+import com.springboot.domain.Member;
+import com.springboot.index.RegionDictionary;
+import com.springboot.service.FestivalIcsService;
+import com.springboot.service.MemberService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * 축제 iCalendar(.ics) 구독 피드
+ * - 월별 / 지역별은 누구나, 북마크는 로그인 세션(/api/**) 또는 회원별 비밀 토큰 주소
+ *   (캘린더 앱은 세션 쿠키 없이 주소만으로 가져가므로 토큰 주소를 발급해서 등록, 재발급 / 취소하면 예전 주소는 404)
+ * - ETag / 304 는 ConditionalGetInterceptor 가 컨트롤러 전에 처리
+ */
+@RestController
+@RequiredArgsConstructor
+public class FestivalFeedController {
+
+    private static final String CONTENT_TYPE = "text/calendar; charset=UTF-8";
+
+    private final FestivalIcsService icsService;
+    private final MemberService memberService;
+
+    // 월별 피드 (예: /festivals/feeds/month/2025-10.ics)
+    @GetMapping("/festivals/feeds/month/{month}.ics")
+    public void month(@PathVariable("month") String month, HttpServletResponse response) throws IOException {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "월 형식은 yyyy-MM 입니다.");
+        }
+
+        prepare(response, "festivals-" + yearMonth + ".ics");
+        icsService.writeMonth(yearMonth, detailUrl(), response.getWriter());
+    }
+
+    // 지역 피드 (예: /festivals/feeds/region.ics?region=부산 해운대구)
+    @GetMapping("/festivals/feeds/region.ics")
+    public void region(@RequestParam("region") String region, HttpServletResponse response) throws IOException {
+        int code = RegionDictionary.resolve(region);
+        if (code == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "알 수 없는 지역입니다: " + region);
+        }
+
+        prepare(response, "festivals-region.ics");
+        icsService.writeRegion(code, LocalDate.now(), detailUrl(), response.getWriter());
+    }
+
+    // 내 북마크 피드
+    @GetMapping("/api/bookmarks/calendar.ics")
+    public void bookmarks(Principal principal, HttpServletResponse response) throws IOException {
+        Member member = memberService.getCurrentMember(principal);
+
+        prepare(response, "festivals-bookmarks.ics");
+        icsService.writeBookmarks(member.getId(), detailUrl(), response.getWriter());
+    }
+
+    // 북마크 구독 피드 (캘린더 앱 등록용, 로그인 없이 토큰으로)
+    @GetMapping("/festivals/feeds/bookmarks/{token}.ics")
+    public void bookmarksByToken(@PathVariable("token") String token, HttpServletResponse response) throws IOException {
+        Long memberId = memberService.findIdByCalendarToken(token)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "없거나 취소된 구독 주소입니다."));
+
+        prepare(response, "festivals-bookmarks.ics");
+        icsService.writeBookmarks(memberId, detailUrl(), response.getWriter());
+    }
+
+    // 북마크 구독 주소 발급 (이미 있으면 새 주소로 바꿈)
+    @PostMapping("/api/bookmarks/calendar-token")
+    public Map<String, String> issueToken(Principal principal) {
+        Member member = memberService.getCurrentMember(principal);
+        String token = memberService.issueCalendarToken(member);
+
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/festivals/feeds/bookmarks/{token}.ics")
+                .buildAndExpand(token)
+                .toUriString();
+        return Map.of("url", url);
+    }
+
+    // 북마크 구독 주소 취소
+    @DeleteMapping("/api/bookmarks/calendar-token")
+    public ResponseEntity<Void> revokeToken(Principal principal) {
+        memberService.revokeCalendarToken(memberService.getCurrentMember(principal));
+        return ResponseEntity.noContent().build();
+    }
+
+    // ===== helpers =====
+
+    private static void prepare(HttpServletResponse response, String filename) {
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Content-Disposition", "inline; filename=\"" + filename + "\"");
+    }
+
+    // 상세 화면 주소 (뒤에 event id 를 붙임)
+    private static String detailUrl() {
+        return ServletUriComponentsBuilder.fromCurrentContextPath().path("/festivals/").toUriString();
+    }
+}
@@ -4,27 +4,53 @@ import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.FestivalMaster;
 import com.springboot.domain.FestivalStatus;
 import com.springboot.domain.Member;
+import com.springboot.dto.FestivalCalendarItem;
+import com.springboot.dto.FestivalDistrictRow;
+import com.springboot.dto.FestivalFacetCounts;
+import com.springboot.dto.FestivalHeatmapResponse;
+import com.springboot.dto.FestivalListCondition;
+import com.springboot.dto.FestivalListCursor;
+import com.springboot.dto.FestivalListRow;
+import com.springboot.dto.FestivalMapResponse;
 import com.springboot.dto.FestivalMarker;
+import com.springboot.dto.FestivalNearbyResponse;
+import com.springboot.dto.FestivalSuggestion;
 import com.springboot.dto.ReviewResponse;
+import com.springboot.index.HangulText;
+import com.springboot.index.RegionDictionary;
+import com.springboot.index.YearHeatmap;
 import com.springboot.repository.FestivalEventRepository;
 import com.springboot.repository.FestivalReviewRepository;
+import com.springboot.service.FestivalAutocompleteService;
+import com.springboot.service.FestivalCalendarSnapshotService;
+import com.springboot.service.FestivalCongestionService;
+import com.springboot.service.FestivalFacetService;
+import com.springboot.service.FestivalHeatmapService;
+import com.springboot.service.FestivalIntervalIndexService;
+import com.springboot.service.FestivalMapService;
 import com.springboot.service.FestivalPatternService;
+import com.springboot.service.FestivalResultCache;
+import com.springboot.service.FestivalSearchService;
 import com.springboot.service.FestivalPatternService.FestivalPatternResult;
 
 import jakarta.servlet.http.HttpSession;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+@Slf4j
 @Controller
 @RequestMapping("/festivals")
 @RequiredArgsConstructor
@@ -33,6 +59,24 @@ public class FestivalsController {
     private final FestivalEventRepository eventRepository;
     private final FestivalReviewRepository reviewRepository;
     private final FestivalPatternService patternService;
+    private final FestivalIntervalIndexService intervalIndex;
+    private final FestivalSearchService searchService;
+    private final FestivalCongestionService congestionService;
+    private final FestivalMapService mapService;
+    private final FestivalFacetService facetService;
+    private final FestivalResultCache resultCache;
+    private final FestivalAutocompleteService autocompleteService;
+    private final FestivalCalendarSnapshotService calendarSnapshots;
+    private final FestivalHeatmapService heatmapService;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int NEARBY_DEFAULT_DAYS = 90;
+    private static final int NEARBY_MAX_K = 50;
+
+    private static final int HEATMAP_MIN_YEAR = 2000;
+    private static final int HEATMAP_MAX_YEARS_AHEAD = 5;
 
     // 메인 페이지
     @GetMapping
@@ -40,14 +84,12 @@ public class FestivalsController {
         LocalDate today = LocalDate.now();
         YearMonth nowMonth = YearMonth.now();
 
-        List<FestivalEvent> ongoingFestivals =
-                eventRepository.findOngoing(today, PageRequest.of(0, 8));
+        List<FestivalEvent> ongoingFestivals = intervalIndex.findOngoing(today, 8);
 
         LocalDate start = nowMonth.atDay(1);
         LocalDate end = nowMonth.atEndOfMonth();
 
-        List<FestivalEvent> monthlyFestivals =
-                eventRepository.findByStartBetween(start, end, PageRequest.of(0, 8));
+        List<FestivalEvent> monthlyFestivals = intervalIndex.findByStartBetween(start, end, 8);
 
         model.addAttribute("ongoingFestivals", ongoingFestivals);
         model.addAttribute("monthlyFestivals", monthlyFestivals);
@@ -56,7 +98,7 @@ public class FestivalsController {
         return "festivals-home";
     }
 
-    // 리스트 기반 검색 화면 (진행 중인 축제만 기본 표시)
+    // 리스트 기반 검색 화면 (진행 중인 축제만 기본 표시, keyset 페이지)
     @GetMapping("/list")
     public String list(
             @RequestParam(name = "region", required = false) String region,
@@ -69,109 +111,106 @@ public class FestivalsController {
             @RequestParam(name = "q", required = false) String keyword,
             @RequestParam(name = "viewYear", required = false) Integer viewYear,
             @RequestParam(name = "showAll", required = false, defaultValue = "false") String showAll,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "true") boolean fuzzy,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
             Model model
     ) {
         LocalDate today = LocalDate.now();
         int currentYear = today.getYear();
-
-        // showAll이 true가 아니면 진행 중인 축제만 표시
-        boolean displayAll = "true".equalsIgnoreCase(showAll);
-
-        int year;
-        if (viewYear != null) year = viewYear;
-        else if (startDate != null) year = startDate.getYear();
-        else if (endDate != null) year = endDate.getYear();
-        else year = currentYear;
+        int year = resolveYear(viewYear, startDate, endDate, currentYear);
+        int pageSize = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
         LocalDate rangeStart = (startDate != null) ? startDate : LocalDate.of(year, 1, 1);
         LocalDate rangeEnd   = (endDate != null)   ? endDate   : LocalDate.of(year, 12, 31);
+        String c = (congestion != null && !congestion.isBlank()) ? congestion.trim() : null; // "여유" / "보통" / "혼잡"
 
-        List<FestivalEvent> base;
-        
-        if (displayAll) {
-            // 전체 축제 조회
-            base = eventRepository.findOverlapping(rangeStart, rangeEnd);
-        } else {
-            // 진행 중인 축제만 조회
-            base = eventRepository.findOverlapping(rangeStart, rangeEnd)
-                    .stream()
-                    .filter(e -> {
-                        FestivalStatus status = calculateStatus(e, today);
-                        return status == FestivalStatus.ONGOING;
-                    })
-                    .collect(Collectors.toList());
-        }
+        // 같은 결과가 나오는 조건은 같은 키 (viewYear → 기간, 키워드는 검색 인덱스와 같은 정규화)
+        List<Object> cacheKey = Arrays.asList(
+                blankToNull(region), rangeStart, rangeEnd,
+                HangulText.normalize(keyword), HangulText.normalize(category),
+                "true".equalsIgnoreCase(showAll), fuzzy, c, blankToNull(cursor), pageSize);
 
-        Stream<FestivalEvent> stream = base.stream();
+        ListPage page = resultCache.get("list", cacheKey, () -> {
+            ListQuery query = buildListQuery(region, rangeStart, rangeEnd, category, keyword, fuzzy, showAll, today);
+            return loadListPage(query, c, cursor, pageSize, today);
+        }, ListPage::size);
 
-        if (region != null && !region.isBlank()) {
-            String r = region.trim();
-            stream = stream.filter(e -> {
-                FestivalMaster m = e.getMaster();
-                if (m == null) return false;
-                String ctprvn = safe(m.getCtprvnNm());
-                String signgu = safe(m.getSignguNm());
-                return ctprvn.contains(r) || signgu.contains(r) || safe(m.getAddr1()).contains(r);
-            });
-        }
-
-        stream = applyContainsFilter(stream, category);
-        stream = applyContainsFilter(stream, congestion);
-        
-        // 키워드 검색 (축제명/주소/overview + event fcltyNm까지)
-        if (keyword != null && !keyword.isBlank()) {
-            String kw = keyword.trim();
-            stream = stream.filter(e -> {
-                FestivalMaster m = e.getMaster();
-                return safe(e.getFcltyNm()).contains(kw)
-                        || (m != null && (
-                            safe(m.getFstvlNm()).contains(kw)
-                            || safe(m.getAddr1()).contains(kw)
-                            || safe(m.getOverview()).contains(kw)
-                        ));
-            });
-        }
+        List<String> regions = List.of("서울", "부산", "울산", "경남", "기타");
+
+        model.addAttribute("today", today);
+        model.addAttribute("festivals", page.getRows());
+        model.addAttribute("showAll", showAll);
+
+        model.addAttribute("year", year);
+        model.addAttribute("viewYear", viewYear);
+        model.addAttribute("region", region);
+        model.addAttribute("startDate", startDate);
+        model.addAttribute("endDate", endDate);
+        model.addAttribute("category", category);
+        model.addAttribute("congestion", congestion);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("fuzzy", fuzzy);
+        model.addAttribute("regions", regions);
+        model.addAttribute("isFutureYear", year > currentYear);
         
-        List<FestivalEvent> list = stream.collect(Collectors.toList());
+        model.addAttribute("congestionMap", page.getCongestionMap());
+        model.addAttribute("facets", page.getFacets());
+
+        model.addAttribute("cursor", cursor);
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("size", size);
         
-     	// 혼잡도 계산 후 필터
-        Map<Long, String> congestionMap = buildCongestionMap(list);
+        return "list";
+    }
+
+    // 지도 마커 (목록과 같은 조건, 페이지 없이 좌표 있는 축제 전체)
+    @GetMapping("/api/markers")
+    @ResponseBody
+    public List<FestivalMarker> markers(
+            @RequestParam(name = "region", required = false) String region,
+            @RequestParam(name = "startDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(name = "endDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "congestion", required = false) String congestion,
+            @RequestParam(name = "q", required = false) String keyword,
+            @RequestParam(name = "viewYear", required = false) Integer viewYear,
+            @RequestParam(name = "showAll", required = false, defaultValue = "false") String showAll,
+            @RequestParam(name = "fuzzy", required = false, defaultValue = "true") boolean fuzzy
+    ) {
+        LocalDate today = LocalDate.now();
+        int year = resolveYear(viewYear, startDate, endDate, today.getYear());
+
+        LocalDate rangeStart = (startDate != null) ? startDate : LocalDate.of(year, 1, 1);
+        LocalDate rangeEnd   = (endDate != null)   ? endDate   : LocalDate.of(year, 12, 31);
+
+        ListQuery query = buildListQuery(region, rangeStart, rangeEnd, category, keyword, fuzzy, showAll, today);
+        if (query.isEmpty()) return new ArrayList<>();
+
+        List<FestivalListRow> rows = eventRepository.findListRows(
+                query.getCondition().toBuilder().masterOnly(true).build());
+
         if (congestion != null && !congestion.isBlank()) {
-            String c = congestion.trim(); // "여유" / "보통" / "혼잡"
-            list = list.stream()
-                    .filter(e -> c.equals(congestionMap.getOrDefault(e.getId(), "")))
+            String c = congestion.trim();
+            Map<Long, String> labels = buildCongestionMap(rows);
+            rows = rows.stream()
+                    .filter(e -> c.equals(labels.get(e.getId())))
                     .collect(Collectors.toList());
         }
-        
-        // 정렬
-        list.sort(Comparator
-                .comparing((FestivalEvent e) -> {
-                    FestivalStatus status = calculateStatus(e, today);
-                    return switch (status) {
-                        case ONGOING -> 0;
-                        case UPCOMING -> 1;
-                        case PAST -> 2;
-                    };
-                })
-                .thenComparing(FestivalEvent::getFstvlStart,
-                        Comparator.nullsLast(Comparator.naturalOrder()))
-        );
-        
-        // 마커
-        List<FestivalMarker> markers = list.stream()
-                .map(e -> {
-                    FestivalMaster m = e.getMaster();
-                    if (m == null) return null;
 
-                    Double lat = m.getMapY();
-                    Double lng = m.getMapX();
+        return rows.stream()
+                .map(e -> {
+                    Double lat = e.getMapY();
+                    Double lng = e.getMapX();
                     if (lat == null || lng == null) return null;
 
-                    FestivalStatus status = calculateStatus(e, today);
+                    FestivalStatus status = calculateStatus(e.getFstvlStart(), e.getFstvlEnd(), today);
 
                     return new FestivalMarker(
                             e.getId(),
-                            safe(m.getFstvlNm()),
+                            safe(e.getFstvlNm()),
                             lat,
                             lng,
                             status.name()
@@ -179,27 +218,121 @@ public class FestivalsController {
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+    }
 
-        List<String> regions = List.of("서울", "부산", "울산", "경남", "기타");
+    // 지도 영역 조회 (낮은 줌은 클러스터, 높은 줌은 개별 마커)
+    // 기간 조건은 목록과 같음: showAll 이면 조회 기간과 겹치는 축제, 아니면 그중 오늘 진행 중인 축제
+    @GetMapping("/api/map")
+    @ResponseBody
+    public FestivalMapResponse map(
+            @RequestParam(name = "south") double south,
+            @RequestParam(name = "west") double west,
+            @RequestParam(name = "north") double north,
+            @RequestParam(name = "east") double east,
+            @RequestParam(name = "zoom") int zoom,
+            @RequestParam(name = "startDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(name = "endDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(name = "viewYear", required = false) Integer viewYear,
+            @RequestParam(name = "showAll", required = false, defaultValue = "false") String showAll
+    ) {
+        LocalDate today = LocalDate.now();
+        int year = resolveYear(viewYear, startDate, endDate, today.getYear());
 
-        model.addAttribute("today", today);
-        model.addAttribute("festivals", list);
-        model.addAttribute("markers", markers);
-        model.addAttribute("showAll", showAll);
+        LocalDate rangeStart = (startDate != null) ? startDate : LocalDate.of(year, 1, 1);
+        LocalDate rangeEnd   = (endDate != null)   ? endDate   : LocalDate.of(year, 12, 31);
 
-        model.addAttribute("year", year);
-        model.addAttribute("region", region);
-        model.addAttribute("startDate", startDate);
-        model.addAttribute("endDate", endDate);
-        model.addAttribute("category", category);
-        model.addAttribute("congestion", congestion);
-        model.addAttribute("keyword", keyword);
-        model.addAttribute("regions", regions);
-        model.addAttribute("isFutureYear", year > currentYear);
-        
-        model.addAttribute("congestionMap", congestionMap);
-        
-        return "list";
+        LocalDate from = rangeStart;
+        LocalDate to = rangeEnd;
+        if (!"true".equalsIgnoreCase(showAll)) {
+            // 진행 중(시작 <= 오늘 <= 종료) + 기간 겹침
+            from = today.isAfter(rangeStart) ? today : rangeStart;
+            to = today.isBefore(rangeEnd) ? today : rangeEnd;
+        }
+
+        return mapService.findInBounds(south, west, north, east,
+                Math.max(0, Math.min(zoom, 21)), from, to, today);
+    }
+
+    // 내 주변 축제 (가까운 순 k 개)
+    // 기간 기본값은 오늘부터 90일 (PAST 면 어제까지 90일), status 없으면 진행 중 + 예정
+    @GetMapping("/api/nearby")
+    @ResponseBody
+    public List<FestivalNearbyResponse> nearby(
+            @RequestParam(name = "lat") double lat,
+            @RequestParam(name = "lng") double lng,
+            @RequestParam(name = "k", required = false, defaultValue = "10") int k,
+            @RequestParam(name = "startDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(name = "endDate", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(name = "status", required = false) FestivalStatus status
+    ) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180 || Double.isNaN(lat) || Double.isNaN(lng)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 좌표입니다: " + lat + ", " + lng);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate from;
+        LocalDate to;
+        if (status == FestivalStatus.PAST) {
+            // 지난 축제: 어제(또는 endDate)에서 거꾸로
+            to = (endDate != null) ? endDate : today.minusDays(1);
+            from = (startDate != null) ? startDate : to.minusDays(NEARBY_DEFAULT_DAYS);
+        } else {
+            from = (startDate != null) ? startDate : today;
+            to = (endDate != null) ? endDate : from.plusDays(NEARBY_DEFAULT_DAYS);
+        }
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 빠릅니다.");
+        }
+
+        return mapService.findNearest(lat, lng, Math.max(1, Math.min(k, NEARBY_MAX_K)),
+                from, to, status, today);
+    }
+
+    // 축제명 자동완성 (키 입력마다 호출, 초성 입력 가능)
+    @GetMapping("/api/suggest")
+    @ResponseBody
+    public List<FestivalSuggestion> suggest(
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "k", required = false, defaultValue = "10") int k
+    ) {
+        return autocompleteService.suggest(q, k);
+    }
+
+    // 연간 히트맵 (날짜별 실제/예상 축제 수, region 없으면 전국)
+    @GetMapping("/api/heatmap")
+    @ResponseBody
+    public FestivalHeatmapResponse heatmap(
+            @RequestParam(name = "year", required = false) Integer yearParam,
+            @RequestParam(name = "region", required = false) String region
+    ) {
+        int year = (yearParam != null) ? yearParam : LocalDate.now().getYear();
+        if (year < HEATMAP_MIN_YEAR || year > LocalDate.now().getYear() + HEATMAP_MAX_YEARS_AHEAD) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회할 수 없는 연도입니다: " + year);
+        }
+
+        int code = YearHeatmap.NATIONWIDE;
+        String regionName = null;
+        if (region != null && !region.isBlank()) {
+            code = RegionDictionary.resolve(region);
+            if (code == 0) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "알 수 없는 지역입니다: " + region);
+            }
+            regionName = RegionDictionary.displayName(code);
+        }
+
+        YearHeatmap heatmap = heatmapService.year(year);
+        short[] real = heatmap.real(code);
+        short[] expected = heatmap.expected(code);
+
+        int max = 0;
+        for (int d = 0; d < real.length; d++) {
+            max = Math.max(max, real[d] + expected[d]);
+        }
+        return new FestivalHeatmapResponse(year, regionName, max, real, expected);
     }
 
     // 캘린더 (패턴 분석 기능 통합)
@@ -228,44 +361,6 @@ public class FestivalsController {
         YearMonth prevMonth = yearMonth.minusMonths(1);
         YearMonth nextMonth = yearMonth.plusMonths(1);
 
-        // 실제 + 예상 축제 모두 조회
-        List<FestivalEvent> allEvents = eventRepository.findOverlapping(monthStart, monthEnd);
-
-        // 모드에 따라 필터링
-        if ("real".equalsIgnoreCase(mode)) {
-            allEvents = allEvents.stream()
-                    .filter(e -> e.getFcltyNm() == null || !e.getFcltyNm().startsWith("[예상]"))
-                    .collect(Collectors.toList());
-        } else if ("expected".equalsIgnoreCase(mode)) {
-            allEvents = allEvents.stream()
-                    .filter(e -> e.getFcltyNm() != null && e.getFcltyNm().startsWith("[예상]"))
-                    .collect(Collectors.toList());
-        }
-
-        // festivalMap 생성 (날짜별로 축제 그룹화)
-        Map<LocalDate, List<FestivalEvent>> festivalMap = new HashMap<>();
-
-        for (FestivalEvent e : allEvents) {
-            LocalDate begin = e.getFstvlStart();
-            LocalDate end = e.getFstvlEnd();
-            if (begin == null || end == null) continue;
-
-            LocalDate effectiveStart = begin.isBefore(monthStart) ? monthStart : begin;
-            LocalDate effectiveEnd = end.isAfter(monthEnd) ? monthEnd : end;
-
-            for (LocalDate d = effectiveStart; !d.isAfter(effectiveEnd); d = d.plusDays(1)) {
-                festivalMap.computeIfAbsent(d, k -> new ArrayList<>()).add(e);
-            }
-        }
-
-        // 각 날짜별 축제 정렬
-        for (List<FestivalEvent> events : festivalMap.values()) {
-            events.sort(Comparator
-                    .comparing(FestivalEvent::getFstvlStart, Comparator.nullsLast(LocalDate::compareTo))
-                    .thenComparing(e -> safe(e.getMaster() != null ? e.getMaster().getFstvlNm() : ""), String::compareTo)
-            );
-        }
-
         // 선택된 날짜 결정
         LocalDate selectedDate;
         if (dayParam != null) {
@@ -282,48 +377,17 @@ public class FestivalsController {
             }
         }
 
-        // 이제 여기서 dailyFestivals를 가져옴 (festivalMap이 생성된 후!)
-        List<FestivalEvent> dailyFestivals = festivalMap.getOrDefault(selectedDate, Collections.emptyList());
-
-        // 디버깅 로그
-        System.out.println("===== 캘린더 디버깅 =====");
-        System.out.println("조회 기간: " + monthStart + " ~ " + monthEnd);
-        System.out.println("선택된 날짜: " + selectedDate);
-        System.out.println("해당 날짜의 축제 수: " + dailyFestivals.size());
-        dailyFestivals.forEach(f -> 
-            System.out.println("  - " + f.getFcltyNm() + " (" + f.getFstvlStart() + " ~ " + f.getFstvlEnd() + ")")
-        );
-        System.out.println("========================");
-
-        // 패턴 분석 추가
-        List<DailyPatternInfo> dailyPatterns = new ArrayList<>();
-        
-        for (FestivalEvent event : dailyFestivals) {
-            FestivalMaster master = event.getMaster();
-            if (master == null) continue;
-
-            FestivalPatternResult pattern = patternService.analyzeFestivalPattern(master, 2019, 2025);
-
-            if (pattern.isValid()) {
-                dailyPatterns.add(new DailyPatternInfo(
-                    event.getId(),
-                    master.getFstvlNm(),
-                    event.getFstvlStart(),
-                    event.getFstvlEnd(),
-                    pattern
-                ));
-            }
-        }
-
-        dailyPatterns.sort(Comparator
-            .comparing(DailyPatternInfo::getPatternConfidence).reversed()
-            .thenComparing(DailyPatternInfo::getFestivalName)
-        );
+        // 같은 달/날짜/모드면 캐시된 화면 데이터 사용
+        YearMonth ym = yearMonth;
+        LocalDate selected = selectedDate;
+        String normalizedMode = (mode == null) ? "all" : mode.trim().toLowerCase(Locale.ROOT);
+        CalendarView view = resultCache.get("calendar", Arrays.asList(yearMonth, selectedDate, normalizedMode),
+                () -> loadCalendarView(ym, selected, normalizedMode), CalendarView::size);
 
         // Model에 데이터 추가
         model.addAttribute("calendarStart", monthStart);
         model.addAttribute("calendarEnd", monthEnd);
-        model.addAttribute("festivalMap", festivalMap);
+        model.addAttribute("festivalMap", view.getFestivalMap());
 
         model.addAttribute("year", yearMonth.getYear());
         model.addAttribute("month", yearMonth.getMonthValue());
@@ -334,8 +398,9 @@ public class FestivalsController {
         model.addAttribute("nextMonth", nextMonth.getMonthValue());
 
         model.addAttribute("selectedDate", selectedDate);
-        model.addAttribute("dailyFestivals", dailyFestivals);
-        model.addAttribute("dailyPatterns", dailyPatterns);
+        model.addAttribute("dailyFestivals", view.getDailyFestivals());
+        model.addAttribute("dailyPatterns", view.getDailyPatterns());
+        model.addAttribute("congestionMap", view.getCongestionMap());
         model.addAttribute("mode", mode);
 
         return "calendar";
@@ -355,6 +420,7 @@ public class FestivalsController {
 
         model.addAttribute("festival", event);
         model.addAttribute("reviews", reviews);
+        model.addAttribute("congestion", congestionService.label(FestivalDistrictRow.from(event)));
         
         Member member = (Member) session.getAttribute("member");
         if (member != null) {
@@ -364,25 +430,229 @@ public class FestivalsController {
         return "detail";
     }
 
+    // 예상 축제 근거 (저장된 축제명 패턴 + 원래 축제의 과거 회차)
+    @GetMapping("/{eventId}/pattern")
+    public String expectedDetail(@PathVariable("eventId") Long eventId, Model model) {
+        FestivalEvent event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NoSuchElementException("FestivalEvent not found: " + eventId));
+        if (!event.isExpected() || event.getSourceMaster() == null) {
+            return "redirect:/festivals/" + eventId;
+        }
+
+        FestivalMaster source = event.getSourceMaster();
+        int targetYear = event.getFstvlStart().getYear();
+
+        model.addAttribute("targetYear", targetYear);
+        model.addAttribute("name", source.getFstvlNm());
+        model.addAttribute("pattern", patternService.predictNextYearByName(source.getFstvlNm(), targetYear).orElse(null));
+        model.addAttribute("history", eventRepository.findByMaster(source));
+
+        return "expected-detail";
+    }
+
     // ===== helpers =====
-    private Stream<FestivalEvent> applyContainsFilter(Stream<FestivalEvent> stream, String keyword) {
-        if (keyword == null || keyword.isBlank()) return stream;
-        String kw = keyword.trim();
-
-        return stream.filter(e -> {
-            FestivalMaster m = e.getMaster();
-            if (m == null) return false;
-
-            return safe(m.getFstvlNm()).contains(kw)
-                    || safe(m.getAddr1()).contains(kw)
-                    || safe(m.getOverview()).contains(kw);
-        });
+    private int resolveYear(Integer viewYear, LocalDate startDate, LocalDate endDate, int currentYear) {
+        if (viewYear != null) return viewYear;
+        if (startDate != null) return startDate.getYear();
+        if (endDate != null) return endDate.getYear();
+        return currentYear;
     }
 
-    private FestivalStatus calculateStatus(FestivalEvent e, LocalDate today) {
-        LocalDate begin = e.getFstvlStart();
-        LocalDate end = e.getFstvlEnd();
+    // 목록/마커 공통 조건 (키워드/카테고리는 검색 인덱스로 후보 id를 구해서 전달, 많으면 저장소가 나눠서 IN 조회)
+    // fuzzy 면 키워드는 오타가 있는 축제명까지 후보에 포함 (카테고리는 항상 정확 일치)
+    private ListQuery buildListQuery(String region, LocalDate rangeStart, LocalDate rangeEnd,
+                                     String category, String keyword, boolean fuzzy,
+                                     String showAll, LocalDate today) {
+        // showAll이 true가 아니면 진행 중인 축제만 표시
+        boolean displayAll = "true".equalsIgnoreCase(showAll);
+
+        FestivalListCondition.FestivalListConditionBuilder condition = FestivalListCondition.builder()
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .region(region)
+                .today(today)
+                .status(displayAll ? null : FestivalStatus.ONGOING);
+
+        Set<Long> candidateIds = null;
+
+        if (keyword != null && !keyword.isBlank()) {
+            Map<Long, Integer> scores = searchService.search(keyword, fuzzy);
+            candidateIds = new HashSet<>(scores.keySet());
+            condition.scoreTiers(scoreTiers(scores));
+        }
+        if (category != null && !category.isBlank()) {
+            Set<Long> hits = searchService.search(category).keySet();
+            if (candidateIds == null) candidateIds = new HashSet<>(hits);
+            else candidateIds.retainAll(hits);
+            condition.masterOnly(true);
+        }
+
+        return new ListQuery(condition.eventIds(candidateIds).build(),
+                candidateIds != null && candidateIds.isEmpty());
+    }
 
+    // 관련도 점수(내림차순 Map) → 순위 (같은 점수는 같은 순위, 0 부터)
+    // 목록은 DB 에서 상태 → 관련도 순위 → 시작일 → id 순으로 받아오고 커서에도 순위를 넣음
+    private static Map<Long, Integer> scoreTiers(Map<Long, Integer> scores) {
+        Map<Long, Integer> tiers = new HashMap<>(scores.size() * 2);
+        int tier = -1;
+        Integer prev = null;
+        for (Map.Entry<Long, Integer> e : scores.entrySet()) {
+            if (!e.getValue().equals(prev)) {
+                tier++;
+                prev = e.getValue();
+            }
+            tiers.put(e.getKey(), tier);
+        }
+        return tiers;
+    }
+
+    // 캘린더 한 달 화면 데이터 (날짜별 축제, 선택일 축제/패턴/혼잡도)
+    private CalendarView loadCalendarView(YearMonth yearMonth, LocalDate selectedDate, String mode) {
+        LocalDate monthStart = yearMonth.atDay(1);
+        LocalDate monthEnd = yearMonth.atEndOfMonth();
+
+        // 월 스냅샷: 날짜별로 이미 펼치고 정렬된 id (모드별)
+        FestivalCalendarSnapshotService.MonthSnapshot snapshot = calendarSnapshots.month(yearMonth);
+
+        Map<Long, FestivalEvent> eventsById = new HashMap<>();
+        List<Long> monthIds = snapshot.eventIds(mode);
+        if (!monthIds.isEmpty()) {
+            for (FestivalEvent e : eventRepository.findAllWithMasterByIdIn(monthIds)) {
+                eventsById.put(e.getId(), e);
+            }
+        }
+
+        // festivalMap 생성 (스냅샷 순서 그대로, 캐시에 넣으므로 엔티티 대신 화면용 DTO)
+        Map<Long, FestivalCalendarItem> itemsById = new HashMap<>();
+        eventsById.forEach((id, e) -> itemsById.put(id, FestivalCalendarItem.from(e)));
+
+        Map<LocalDate, List<FestivalCalendarItem>> festivalMap = new HashMap<>();
+
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            long[] ids = snapshot.day(day, mode);
+            if (ids.length == 0) continue;
+
+            List<FestivalCalendarItem> items = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                FestivalCalendarItem item = itemsById.get(id);
+                if (item != null) items.add(item);
+            }
+            if (!items.isEmpty()) festivalMap.put(yearMonth.atDay(day), items);
+        }
+
+        // 이제 여기서 dailyFestivals를 가져옴 (festivalMap이 생성된 후!)
+        List<FestivalCalendarItem> dailyFestivals = festivalMap.getOrDefault(selectedDate, Collections.emptyList());
+
+        log.debug("[Calendar] {} ~ {}, 선택 {}: {}건", monthStart, monthEnd, selectedDate, dailyFestivals.size());
+
+        // 선택한 날짜의 시군구별 동시 개최 수로 혼잡도
+        Map<Long, String> congestionMap = new HashMap<>();
+        for (FestivalCalendarItem f : dailyFestivals) {
+            boolean hasDistrict = f.getSignguNm() != null
+                    || (f.getSignguCd() != null && RegionDictionary.isSignguCode(f.getSignguCd()));
+            if (f.getId() == null || !hasDistrict) continue;
+
+            int n = congestionService.count(f.getSignguCd(), f.getCtprvnNm(), f.getSignguNm(), selectedDate);
+            congestionMap.put(f.getId(), congestionService.label(Math.max(n, 1)));
+        }
+
+        // 패턴 (선택일 축제의 저장된 축제명별 패턴을 한 번에 조회)
+        List<DailyPatternInfo> dailyPatterns = new ArrayList<>();
+
+        List<FestivalEvent> dailyEvents = new ArrayList<>(dailyFestivals.size());
+        for (FestivalCalendarItem f : dailyFestivals) {
+            FestivalEvent e = eventsById.get(f.getId());
+            if (e != null) dailyEvents.add(e);
+        }
+
+        List<FestivalMaster> dailyMasters = dailyEvents.stream()
+                .map(FestivalEvent::getMaster)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<Long, FestivalPatternResult> patterns = patternService.findStoredPatterns(dailyMasters);
+
+        for (FestivalEvent event : dailyEvents) {
+            FestivalMaster master = event.getMaster();
+            if (master == null) continue;
+
+            FestivalPatternResult pattern = patterns.get(master.getId());
+
+            if (pattern != null && pattern.isValid()) {
+                dailyPatterns.add(new DailyPatternInfo(
+                    event.getId(),
+                    master.getFstvlNm(),
+                    event.getFstvlStart(),
+                    event.getFstvlEnd(),
+                    pattern
+                ));
+            }
+        }
+
+        dailyPatterns.sort(Comparator
+            .comparing(DailyPatternInfo::getPatternConfidence).reversed()
+            .thenComparing(DailyPatternInfo::getFestivalName)
+        );
+
+        return new CalendarView(festivalMap, dailyFestivals, dailyPatterns, congestionMap);
+    }
+
+    // 목록 한 페이지 (한 건 더 받아서 다음 페이지 여부 판단)
+    // 혼잡도 필터는 DB에서 못 거르므로 넉넉히 받아서 걸러가며 채움
+    private ListPage loadListPage(ListQuery query, String congestion, String cursor, int pageSize, LocalDate today) {
+        if (query.isEmpty()) {
+            return new ListPage(new ArrayList<>(), new HashMap<>(), FestivalFacetCounts.empty(), null);
+        }
+
+        List<FestivalListRow> list = new ArrayList<>();
+        Map<Long, String> congestionMap = new HashMap<>();
+
+        int fetchSize = (congestion == null) ? pageSize + 1 : Math.max((pageSize + 1) * 4, 100);
+        FestivalListCursor after = FestivalListCursor.decode(cursor);
+
+        while (list.size() <= pageSize) {
+            List<FestivalListRow> batch = eventRepository.findListRows(
+                    query.getCondition().toBuilder().cursor(after).limit(fetchSize).build());
+            if (batch.isEmpty()) break;
+
+            Map<Long, String> labels = buildCongestionMap(batch);
+            for (FestivalListRow row : batch) {
+                String label = labels.get(row.getId());
+                if (congestion != null && !congestion.equals(label)) continue;
+
+                list.add(row);
+                if (label != null) congestionMap.put(row.getId(), label);
+                if (list.size() > pageSize) break;
+            }
+
+            if (batch.size() < fetchSize) break;
+            after = toCursor(query.getCondition(), batch.get(batch.size() - 1), today);
+        }
+
+        FestivalFacetCounts facets = facetService.count(query.getCondition());
+
+        String nextCursor = null;
+        if (list.size() > pageSize) {
+            list = new ArrayList<>(list.subList(0, pageSize));
+            nextCursor = toCursor(query.getCondition(), list.get(pageSize - 1), today).encode();
+        }
+
+        // 정렬: DB에서 상태 → (키워드 검색이면 관련도 순위: 축제명 > 주소 > 소개글) → 시작일 → id 순으로 받아옴
+
+        return new ListPage(list, congestionMap, facets, nextCursor);
+    }
+
+    private static String blankToNull(String s) {
+        return (s == null || s.isBlank()) ? null : s.trim();
+    }
+
+    private FestivalListCursor toCursor(FestivalListCondition condition, FestivalListRow row, LocalDate today) {
+        FestivalStatus status = calculateStatus(row.getFstvlStart(), row.getFstvlEnd(), today);
+        return new FestivalListCursor(statusRank(status), condition.scoreTier(row.getId()),
+                row.getFstvlStart(), row.getId());
+    }
+
+    private FestivalStatus calculateStatus(LocalDate begin, LocalDate end, LocalDate today) {
         if (begin == null || end == null) return FestivalStatus.PAST;
 
         if (!today.isBefore(begin) && !today.isAfter(end)) return FestivalStatus.ONGOING;
@@ -390,46 +660,63 @@ public class FestivalsController {
         return FestivalStatus.PAST;
     }
 
+    private static int statusRank(FestivalStatus status) {
+        return switch (status) {
+            case ONGOING -> 0;
+            case UPCOMING -> 1;
+            case PAST -> 2;
+        };
+    }
+
     private static String safe(String s) {
         return (s == null) ? "" : s;
     }
     
-   // 같은 시군구 + 기간 겹치는 축제 수로 혼잡도 추정
-    private Map<Long, String> buildCongestionMap(List<FestivalEvent> list) {
-        Map<Long, String> result = new HashMap<>();
-        Map<String, List<FestivalEvent>> byArea = list.stream()
-                .collect(Collectors.groupingBy(e -> {
-                    FestivalMaster m = e.getMaster();
-                    return safe(m != null ? m.getCtprvnNm() : "") + "|" + safe(m != null ? m.getSignguNm() : "");
-                }));
-
-        for (List<FestivalEvent> group : byArea.values()) {
-            for (FestivalEvent e : group) {
-                int overlapCount = 0;
-                for (FestivalEvent other : group) {
-                    if (e == other) continue;
-                    if (overlaps(e.getFstvlStart(), e.getFstvlEnd(), other.getFstvlStart(), other.getFstvlEnd())) {
-                        overlapCount++;
-                    }
-                }
-
-                // 본인 포함하려면 +1
-                int n = overlapCount + 1;
-
-                String label;
-                if (n <= 2) label = "여유";
-                else if (n <= 6) label = "보통";
-                else label = "혼잡";
-
-                result.put(e.getId(), label);
-            }
+    // 같은 시군구 + 기간 겹치는 축제 수로 혼잡도 추정 (현재 페이지/필터와 무관)
+    private Map<Long, String> buildCongestionMap(List<FestivalListRow> list) {
+        return congestionService.labels(list.stream()
+                .map(FestivalDistrictRow::from)
+                .collect(Collectors.toList()));
+    }
+
+    // 목록/마커 공통 조회 조건
+    @Getter
+    @AllArgsConstructor
+    private static class ListQuery {
+        private final FestivalListCondition condition;
+        private final boolean empty;               // 검색 후보가 없어 조회할 필요 없음
+    }
+
+    // 목록 한 페이지 결과 (캐시에 그대로 저장)
+    @Getter
+    @AllArgsConstructor
+    private static class ListPage {
+        private final List<FestivalListRow> rows;
+        private final Map<Long, String> congestionMap;
+        private final FestivalFacetCounts facets;
+        private final String nextCursor;            // 마지막 페이지면 null
+
+        // 캐시 크기 계산용 줄 수
+        int size() {
+            return rows.size();
         }
-        return result;
     }
 
-    private boolean overlaps(LocalDate aStart, LocalDate aEnd, LocalDate bStart, LocalDate bEnd) {
-        if (aStart == null || aEnd == null || bStart == null || bEnd == null) return false;
-        return !aEnd.isBefore(bStart) && !bEnd.isBefore(aStart);
+    // 캘린더 한 달 결과 (캐시에 그대로 저장, 엔티티 없이 DTO 만)
+    @Getter
+    @AllArgsConstructor
+    private static class CalendarView {
+        private final Map<LocalDate, List<FestivalCalendarItem>> festivalMap;
+        private final List<FestivalCalendarItem> dailyFestivals;
+        private final List<DailyPatternInfo> dailyPatterns;
+        private final Map<Long, String> congestionMap;
+
+        // 캐시 크기 계산용 줄 수 (날짜별로 펼친 축제 수)
+        int size() {
+            int n = dailyPatterns.size();
+            for (List<FestivalCalendarItem> items : festivalMap.values()) n += items.size();
+            return n;
+        }
     }
 
     // 날짜별 패턴 분석 정보를 담는 내부 클래스
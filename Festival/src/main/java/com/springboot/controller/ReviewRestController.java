@@ -3,6 +3,7 @@ package com.springboot.controller;
 import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.FestivalReview;
 import com.springboot.domain.Member;
+import com.springboot.event.FestivalReviewChangedEvent;
 import com.springboot.repository.FestivalEventRepository;
 import com.springboot.repository.FestivalReviewRepository;
 import com.springboot.repository.MemberRepository;
@@ -13,6 +14,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +36,7 @@ public class ReviewRestController {
     private final FestivalReviewRepository reviewRepository;
     private final FestivalEventRepository eventRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 특정 축제의 리뷰 목록 조회
     @GetMapping("/event/{eventId}")
@@ -102,6 +105,7 @@ public class ReviewRestController {
         }
 
         FestivalReview saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new FestivalReviewChangedEvent(eventId));
         log.info("리뷰 작성 완료: id={}, eventId={}, memberId={}",
                 saved.getId(), eventId, member.getId());
 
@@ -153,6 +157,7 @@ public class ReviewRestController {
         review.setUpdatedAt(LocalDateTime.now());
 
         FestivalReview saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new FestivalReviewChangedEvent(review.getEvent().getId()));
         log.info("리뷰 수정 완료: id={}", id);
         
         return ResponseEntity.ok(ReviewResponse.from(saved));
@@ -173,6 +178,7 @@ public class ReviewRestController {
         checkOwner(review, member);
         
         reviewRepository.deleteById(id);
+        eventPublisher.publishEvent(new FestivalReviewChangedEvent(review.getEvent().getId()));
         log.info("리뷰 삭제 완료: id={}", id);
 
         return ResponseEntity.noContent().build();
@@ -9,7 +9,8 @@ import java.time.LocalDate;
 @Table(name = "festival_event",
        indexes = {
            @Index(name = "idx_event_dates", columnList = "fstvl_start,fstvl_end"),
-           @Index(name = "idx_event_master", columnList = "master_id")
+           @Index(name = "idx_event_master", columnList = "master_id"),
+           @Index(name = "idx_event_kind_dates", columnList = "kind,fstvl_start,fstvl_end")
        })
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,10 +42,31 @@ public class FestivalEvent {
 
     @Column(name = "fclty_nm")
     private String fcltyNm;
-    
-    public static FestivalEvent createExpected(String name, LocalDate start, LocalDate end) {
+
+    // 실제 / 예상 구분 (예전에는 fcltyNm 의 "[예상]" 접두어로 구분)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 10)
+    private FestivalEventKind kind;
+
+    // 예상 회차를 만든 master (실제 회차는 null, 예상 회차의 master 는 비워 둠)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_master_id")
+    private FestivalMaster sourceMaster;
+
+    @PrePersist
+    protected void onCreate() {
+        if (kind == null) kind = FestivalEventKind.REAL;
+    }
+
+    public boolean isExpected() {
+        return kind == FestivalEventKind.EXPECTED;
+    }
+
+    public static FestivalEvent createExpected(FestivalMaster source, LocalDate start, LocalDate end) {
         FestivalEvent event = new FestivalEvent();
-        event.setFcltyNm("[예상] " + name);
+        event.setKind(FestivalEventKind.EXPECTED);
+        event.setSourceMaster(source);
+        event.setFcltyNm(source.getFstvlNm());
         event.setFstvlStart(start);
         event.setFstvlEnd(end);
         return event;
@@ -52,6 +74,7 @@ public class FestivalEvent {
     
     public static FestivalEvent create(FestivalMaster master, LocalDate start, LocalDate end) {
         FestivalEvent event = new FestivalEvent();
+        event.setKind(FestivalEventKind.REAL);
         event.setMaster(master);
         event.setFstvlStart(start);
         event.setFstvlEnd(end);
@@ -0,0 +1,6 @@
+package com.springboot.domain;
+
+public enum FestivalEventKind {
+    REAL,      // TourAPI 등에서 받은 실제 개최 회차
+    EXPECTED   // 과거 패턴으로 만든 예상 회차 (source_master 에서 생성)
+}
@@ -1,5 +1,6 @@
 package com.springboot.domain;
 
+import com.springboot.index.RegionDictionary;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +11,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "festival_master")
+@Table(name = "festival_master",
+       indexes = {
+           @Index(name = "idx_master_ctprvn_cd", columnList = "ctprvn_cd"),
+           @Index(name = "idx_master_signgu_cd", columnList = "signgu_cd")
+       })
 public class FestivalMaster {
 
     @Id
@@ -26,6 +31,13 @@ public class FestivalMaster {
     @Column(name = "signgu_nm")
     private String signguNm;
 
+    // RegionDictionary 코드 (저장 시 시도/시군구/주소로 계산, 0 = 알 수 없음, null = 아직 계산 안 됨)
+    @Column(name = "ctprvn_cd")
+    private Integer ctprvnCd;
+
+    @Column(name = "signgu_cd")
+    private Integer signguCd;
+
     @Column(name = "legaldong_nm")
     private String legaldongNm;
 
@@ -115,6 +127,36 @@ public class FestivalMaster {
     @Column(name = "pattern_last_updated")
     private LocalDateTime patternLastUpdated;
 
+    /**
+     * 회차 버전 (이 master 의 회차가 저장될 때마다 MasterPatternAnalyzer 가 JDBC 로 1씩 올림, 엔티티로는 쓰지 않음)
+     */
+    @Column(name = "event_version", insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private Long eventVersion;
+
+    /**
+     * 마지막 패턴 분석 때의 회차 버전 (null = 아직 분석 안 함, eventVersion 과 다르면 다시 분석 대상)
+     */
+    @Column(name = "pattern_version", insertable = false, updatable = false)
+    private Long patternVersion;
+
+    /**
+     * 마지막 패턴 분석 때의 정규화한 축제명 (이름이 바뀌면 예전 이름 / 새 이름 그룹 둘 다 다시 분석, JDBC 로만 씀)
+     */
+    @Column(name = "pattern_name_key", insertable = false, updatable = false)
+    private String patternNameKey;
+
+    /**
+     * 시도/시군구 코드 다시 계산 (이름이나 주소가 바뀌면 저장 시 자동 호출)
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshRegionCodes() {
+        int code = RegionDictionary.codeOf(ctprvnNm, signguNm, addr1);
+        this.ctprvnCd = RegionDictionary.ctprvnOf(code);
+        this.signguCd = RegionDictionary.isSignguCode(code) ? code : 0;
+    }
+
     /**
      * 패턴 데이터 존재 여부 확인
      */
@@ -0,0 +1,138 @@
+package com.springboot.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 축제명별 개최 패턴 (MasterPatternAnalyzer 가 일괄 분석 때 JDBC 로 씀, 화면은 PK 조회만)
+ * - 키: 정규화한 축제명 (PatternRules.normalizeName)
+ * - 히스토그램은 "개수,개수,..." 문자열 (월 12칸, 주차 5칸, 요일 월~일 7칸)
+ * - analysisRunId: 이 줄을 마지막으로 쓴 FestivalPatternRun
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "festival_pattern",
+       indexes = {
+           @Index(name = "idx_pattern_run", columnList = "analysis_run_id")
+       })
+public class FestivalPattern {
+
+    @Id
+    @Column(name = "name_key")
+    private String nameKey;
+
+    @Column(name = "analysis_run_id")
+    private Long analysisRunId;
+
+    // 대표 master (가장 최근 회차의 master)
+    @Column(name = "master_id")
+    private Long masterId;
+
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+
+    @Column(name = "first_date")
+    private LocalDate firstDate;
+
+    @Column(name = "latest_date")
+    private LocalDate latestDate;
+
+    // 개최 연도 (오름차순, 쉼표 구분)
+    @Column(name = "years", length = 500)
+    private String years;
+
+    // ===== 히스토그램 =====
+
+    @Column(name = "month_counts", length = 64)
+    private String monthCounts;
+
+    @Column(name = "week_counts", length = 32)
+    private String weekCounts;
+
+    @Column(name = "day_counts", length = 40)
+    private String dayCounts;
+
+    // ===== 항목별 최빈값 =====
+
+    @Column(name = "most_frequent_month")
+    private Integer mostFrequentMonth;
+
+    @Column(name = "month_frequency")
+    private Integer monthFrequency;
+
+    @Column(name = "most_frequent_week")
+    private Integer mostFrequentWeek;
+
+    @Column(name = "week_frequency")
+    private Integer weekFrequency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "most_frequent_day")
+    private DayOfWeek mostFrequentDay;
+
+    @Column(name = "day_frequency")
+    private Integer dayFrequency;
+
+    // ===== (월, 주차, 요일) 조합 최빈값 - 예상 회차 생성 기준 =====
+
+    @Column(name = "pattern_sample_count")
+    private Integer patternSampleCount;
+
+    @Column(name = "expected_month")
+    private Integer expectedMonth;
+
+    @Column(name = "expected_week_of_month")
+    private Integer expectedWeekOfMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "expected_day_of_week")
+    private DayOfWeek expectedDayOfWeek;
+
+    @Column(name = "expected_duration_days")
+    private Integer expectedDurationDays;
+
+    // ===== 요약 =====
+
+    @Column(name = "expected_period")
+    private String expectedPeriod;
+
+    @Column(name = "pattern_confidence")
+    private Integer patternConfidence;
+
+    // 전체 회차 평균 기간 (일)
+    @Column(name = "average_duration")
+    private Integer averageDuration;
+
+    @Column(name = "analyzed_at")
+    private LocalDateTime analyzedAt;
+
+    /**
+     * 히스토그램 문자열 → 개수 배열 (칸 순서 그대로)
+     */
+    public static int[] parseCounts(String counts) {
+        if (counts == null || counts.isBlank()) return new int[0];
+        String[] parts = counts.split(",");
+        int[] out = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            out[i] = Integer.parseInt(parts[i].trim());
+        }
+        return out;
+    }
+
+    /**
+     * 0 이 아닌 칸 수 (일관성 판단용)
+     */
+    public static int distinct(String counts) {
+        int n = 0;
+        for (int c : parseCounts(counts)) {
+            if (c > 0) n++;
+        }
+        return n;
+    }
+}
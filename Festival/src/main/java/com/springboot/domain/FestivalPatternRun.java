@@ -0,0 +1,47 @@
+package com.springboot.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 패턴 일괄 분석 실행 기록 (festival_pattern.analysis_run_id 가 가리킴)
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "festival_pattern_run")
+public class FestivalPatternRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 전체 재분석이면 true, 회차가 바뀐 축제명만이면 false
+    @Column(name = "full_rebuild")
+    private Boolean fullRebuild;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    // null = 진행 중이거나 실패
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 분석한 축제명 수
+    @Column(name = "name_count")
+    private Integer nameCount;
+
+    // 패턴을 저장한 축제명 수
+    @Column(name = "pattern_count")
+    private Integer patternCount;
+
+    public static FestivalPatternRun start(boolean fullRebuild) {
+        FestivalPatternRun run = new FestivalPatternRun();
+        run.setFullRebuild(fullRebuild);
+        run.setStartedAt(LocalDateTime.now());
+        return run;
+    }
+}
@@ -37,6 +37,10 @@ public class Member {
 
     private LocalDateTime createdAt;
 
+    // 북마크 캘린더 구독 주소의 비밀 토큰 (null = 발급 안 함, 다시 발급하면 예전 주소는 끊김)
+    @Column(name = "calendar_token", unique = true, length = 43)
+    private String calendarToken;
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,45 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalEvent;
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.domain.FestivalMaster;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 화면 축제 한 건 (결과 캐시에 엔티티 대신 저장)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalCalendarItem {
+    private Long id;
+    private Long masterId;
+    private String fcltyNm;
+    private FestivalEventKind kind;
+    private String ctprvnNm;
+    private String signguNm;
+    private Integer signguCd;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+
+    public boolean isExpected() {
+        return kind == FestivalEventKind.EXPECTED;
+    }
+
+    public static FestivalCalendarItem from(FestivalEvent event) {
+        FestivalMaster master = event.getMaster();
+        return new FestivalCalendarItem(
+                event.getId(),
+                master != null ? master.getId() : null,
+                event.getFcltyNm(),
+                event.getKind(),
+                master != null ? master.getCtprvnNm() : null,
+                master != null ? master.getSignguNm() : null,
+                master != null ? master.getSignguCd() : null,
+                event.getFstvlStart(),
+                event.getFstvlEnd()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalEventKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 월 스냅샷 적재용 (정렬/실제·예상 구분에 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalCalendarRow {
+    private Long id;
+    private Long masterId;
+    private String fcltyNm;
+    private FestivalEventKind kind;
+    private String fstvlNm;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+}
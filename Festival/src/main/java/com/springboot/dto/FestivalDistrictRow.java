@@ -0,0 +1,45 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalEvent;
+import com.springboot.domain.FestivalMaster;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 혼잡도 계산용 최소 컬럼 (시군구 코드/이름 + 기간)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalDistrictRow {
+    private Long id;
+    private Integer signguCd;     // RegionDictionary 시군구 코드 (0 / null 이면 이름으로)
+    private String ctprvnNm;
+    private String signguNm;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+
+    public static FestivalDistrictRow from(FestivalListRow row) {
+        return new FestivalDistrictRow(
+                row.getId(),
+                row.getSignguCd(),
+                row.getCtprvnNm(),
+                row.getSignguNm(),
+                row.getFstvlStart(),
+                row.getFstvlEnd()
+        );
+    }
+
+    public static FestivalDistrictRow from(FestivalEvent event) {
+        FestivalMaster master = event.getMaster();
+        return new FestivalDistrictRow(
+                event.getId(),
+                master != null ? master.getSignguCd() : null,
+                master != null ? master.getCtprvnNm() : null,
+                master != null ? master.getSignguNm() : null,
+                event.getFstvlStart(),
+                event.getFstvlEnd()
+        );
+    }
+}
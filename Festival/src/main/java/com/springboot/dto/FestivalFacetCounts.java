@@ -0,0 +1,31 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 목록 화면 패싯별 개수
+ * - 각 패싯은 자기 차원의 필터만 빼고 나머지 필터를 적용한 개수
+ *   (예: 시도별 개수는 지역 필터 없이, 기간/상태/키워드는 적용)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalFacetCounts {
+
+    private int total;
+
+    private Map<String, Integer> byCtprvn;   // 시도 → 개수 (많은 순)
+    private Map<String, Integer> bySigngu;   // "시도 시군구" → 개수 (많은 순)
+    private Map<String, Integer> byStatus;   // ONGOING / UPCOMING / PAST
+    private int realCount;
+    private int expectedCount;
+    private Map<String, Integer> byMonth;    // "yyyy-MM" → 개수 (월 순)
+
+    public static FestivalFacetCounts empty() {
+        return new FestivalFacetCounts(0, Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap(), 0, 0, Collections.emptyMap());
+    }
+}
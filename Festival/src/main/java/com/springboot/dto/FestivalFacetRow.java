@@ -0,0 +1,26 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalEventKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 패싯 비트맵 인덱스 적재용
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalFacetRow {
+    private Long id;
+    private Long masterId;
+    private String fcltyNm;
+    private FestivalEventKind kind;
+    private String ctprvnNm;
+    private String signguNm;
+    private String addr1;
+    private Integer ctprvnCd;
+    private Integer signguCd;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+}
@@ -0,0 +1,20 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 지도 공간 인덱스 적재용 (이벤트 id + master 좌표 + 기간)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalGeoRow {
+    private Long id;
+    private String fstvlNm;
+    private Double mapX;   // 경도
+    private Double mapY;   // 위도
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+}
@@ -0,0 +1,17 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 연간 히트맵 (날짜별 축제 수, [0] = 1월 1일)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalHeatmapResponse {
+    private int year;
+    private String region;     // 전국이면 null
+    private int max;           // 실제 + 예상 중 가장 많은 날 (색 단계용)
+    private short[] real;
+    private short[] expected;
+}
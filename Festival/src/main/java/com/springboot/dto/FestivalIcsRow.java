@@ -0,0 +1,22 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalEventKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * iCalendar 피드 한 줄 (VEVENT 하나에 필요한 컬럼만)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalIcsRow {
+    private Long id;
+    private String fcltyNm;
+    private FestivalEventKind kind;
+    private String fstvlNm;
+    private String addr1;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+}
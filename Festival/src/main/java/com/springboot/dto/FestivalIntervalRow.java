@@ -0,0 +1,18 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 인터벌 인덱스 적재용 최소 컬럼 (엔티티/LOB 로딩 없이 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalIntervalRow {
+    private Long id;
+    private Long masterId;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+}
@@ -0,0 +1,55 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 축제 목록 검색 조건 (FestivalEventQueryRepository 에서 SQL 조건으로 변환)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class FestivalListCondition {
+
+    // scoreTiers 에 없는 id 의 관련도 순위
+    public static final int UNRANKED_TIER = Integer.MAX_VALUE;
+
+    // 조회 기간 (이 기간과 겹치는 축제)
+    private LocalDate rangeStart;
+    private LocalDate rangeEnd;
+
+    // 지역 (RegionDictionary 로 풀리면 코드 비교, 아니면 시도/시군구/주소 포함 검색)
+    private String region;
+
+    // 상태 필터 (null 이면 전체), today 기준으로 계산
+    private FestivalStatus status;
+    private LocalDate today;
+
+    // 검색 인덱스에서 구한 후보 이벤트 id (null 이면 제한 없음)
+    private Collection<Long> eventIds;
+
+    // 키워드 관련도 순위 (이벤트 id → 0 부터, 작을수록 관련도 높음). null 이면 관련도 정렬 없음
+    // 있으면 정렬은 상태 → 관련도 순위 → 시작일 → id (없는 id 는 맨 뒤 순위)
+    private Map<Long, Integer> scoreTiers;
+
+    // master 가 있는 축제만
+    private boolean masterOnly;
+
+    // keyset 페이지: 이 위치 다음부터 (null 이면 처음부터)
+    private FestivalListCursor cursor;
+
+    // 최대 건수 (null 이면 전체)
+    private Integer limit;
+
+    /**
+     * 정렬/커서용 관련도 순위 (관련도 정렬이 없으면 0)
+     */
+    public int scoreTier(Long eventId) {
+        if (scoreTiers == null) return 0;
+        return scoreTiers.getOrDefault(eventId, UNRANKED_TIER);
+    }
+}
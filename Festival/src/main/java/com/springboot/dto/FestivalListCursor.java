@@ -0,0 +1,45 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 축제 목록 keyset 커서 (상태 순위, 관련도 순위, 시작일, id)
+ * - 목록 정렬 키와 같은 순서. 마지막으로 본 행의 키를 "순위_관련도_시작일_id" 문자열로 주고받음
+ * - 관련도 순위는 키워드 검색일 때만 의미 있음 (아니면 0)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalListCursor {
+
+    private int statusRank;
+    private int scoreTier;
+    private LocalDate fstvlStart;
+    private long id;
+
+    public String encode() {
+        return statusRank + "_" + scoreTier + "_" + fstvlStart + "_" + id;
+    }
+
+    /**
+     * 잘못된 값이면 null (처음 페이지로 취급)
+     */
+    public static FestivalListCursor decode(String value) {
+        if (value == null || value.isBlank()) return null;
+
+        String[] parts = value.trim().split("_");
+        if (parts.length != 4) return null;
+
+        try {
+            int rank = Integer.parseInt(parts[0]);
+            int tier = Integer.parseInt(parts[1]);
+            if (rank < 0 || rank > 2 || tier < 0) return null;
+            return new FestivalListCursor(rank, tier, LocalDate.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
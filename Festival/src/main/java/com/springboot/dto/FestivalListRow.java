@@ -0,0 +1,34 @@
+package com.springboot.dto;
+
+import com.springboot.domain.FestivalEventKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 축제 목록 화면용 projection
+ * - master 의 overview / image_urls LOB 은 읽지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalListRow {
+    private Long id;
+    private Long masterId;
+    private String fcltyNm;
+    private FestivalEventKind kind;
+    private String fstvlNm;
+    private String ctprvnNm;
+    private String signguNm;
+    private Integer signguCd;
+    private String addr1;
+    private String firstImageUrl;
+    private Double mapX;
+    private Double mapY;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+
+    public boolean isExpected() {
+        return kind == FestivalEventKind.EXPECTED;
+    }
+}
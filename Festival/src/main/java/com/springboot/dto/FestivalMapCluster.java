@@ -0,0 +1,15 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지도 클러스터 (여러 축제를 묶은 점, 좌표는 평균)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalMapCluster {
+    private double lat;
+    private double lng;
+    private int count;
+}
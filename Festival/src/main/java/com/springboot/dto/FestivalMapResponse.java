@@ -0,0 +1,16 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지도 영역 조회 결과: 묶인 클러스터 + 개별 마커
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalMapResponse {
+    private List<FestivalMapCluster> clusters;
+    private List<FestivalMarker> markers;
+}
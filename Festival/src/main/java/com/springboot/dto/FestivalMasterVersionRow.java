@@ -0,0 +1,24 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * 패턴 증분 분석용 master 한 줄 (이름 + 회차 버전 / 마지막 분석 버전 + 마지막 분석 때의 정규화한 이름)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalMasterVersionRow {
+    private Long id;
+    private String fstvlNm;
+    private Long eventVersion;
+    private Long patternVersion;
+    private String patternNameKey;
+
+    // 마지막 분석 뒤 회차가 바뀌었는지 (한 번도 분석 안 했으면 true)
+    public boolean isPatternDirty() {
+        return patternVersion == null || !Objects.equals(patternVersion, eventVersion);
+    }
+}
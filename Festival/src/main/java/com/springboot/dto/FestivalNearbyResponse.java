@@ -0,0 +1,22 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 내 주변 축제 (가까운 순)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalNearbyResponse {
+    private Long id;
+    private String name;
+    private Double lat;
+    private Double lng;
+    private String status; // "ONGOING", "UPCOMING", "PAST"
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+    private double distanceKm;
+}
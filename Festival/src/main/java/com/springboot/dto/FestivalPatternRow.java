@@ -0,0 +1,20 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 개최 패턴 분석용 실제 회차 한 줄 (master 정보 + 기간만, 엔티티 없이)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalPatternRow {
+    private Long masterId;
+    private String fstvlNm;
+    private String ctprvnNm;
+    private String signguNm;
+    private LocalDate fstvlStart;
+    private LocalDate fstvlEnd;
+}
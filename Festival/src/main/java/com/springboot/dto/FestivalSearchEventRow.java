@@ -0,0 +1,15 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 적재용 event 컬럼
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalSearchEventRow {
+    private Long id;
+    private Long masterId;
+    private String fcltyNm;
+}
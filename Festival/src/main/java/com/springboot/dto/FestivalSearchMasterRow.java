@@ -0,0 +1,18 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 적재용 master 텍스트 컬럼
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalSearchMasterRow {
+    private Long id;
+    private String fstvlNm;
+    private String ctprvnNm;
+    private String signguNm;
+    private String addr1;
+    private String overview;
+}
@@ -0,0 +1,19 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 자동완성 인덱스 적재용 master 컬럼 + 인기도/최신성 집계
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalSuggestRow {
+    private Long id;
+    private String fstvlNm;
+    private LocalDate latestStart;   // 가장 최근 회차 시작일 (이벤트 없으면 null)
+    private Long bookmarkCount;
+    private Long reviewCount;
+}
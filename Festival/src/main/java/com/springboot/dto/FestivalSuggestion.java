@@ -0,0 +1,17 @@
+package com.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 축제명 자동완성 항목
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalSuggestion {
+    private Long masterId;
+    private String name;
+    private LocalDate latestStart;
+}
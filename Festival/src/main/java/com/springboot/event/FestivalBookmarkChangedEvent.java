@@ -0,0 +1,20 @@
+package com.springboot.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 북마크 추가/삭제 알림 (어느 회원이 어느 축제 회차의 북마크를 바꿨는지)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalBookmarkChangedEvent {
+
+    private final Long memberId;
+    private final Long eventId;
+
+    @Override
+    public String toString() {
+        return "FestivalBookmarkChangedEvent{memberId=" + memberId + ", eventId=" + eventId + "}";
+    }
+}
@@ -0,0 +1,71 @@
+package com.springboot.event;
+
+import com.springboot.domain.FestivalEvent;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 축제 데이터 변경 알림
+ * - TourAPI 동기화, 예상 축제 생성기가 festival_event / festival_master 에 쓴 뒤 발행
+ * - 인메모리 인덱스들은 여기 담긴 id만 다시 읽어서 반영 (삭제된 id는 조회되지 않음 → 제거)
+ */
+@Getter
+public class FestivalDataChangedEvent {
+
+    private final Set<Long> eventIds;
+    private final Set<Long> masterIds;
+
+    public FestivalDataChangedEvent(Collection<Long> eventIds, Collection<Long> masterIds) {
+        this.eventIds = copyOf(eventIds);
+        this.masterIds = copyOf(masterIds);
+    }
+
+    /**
+     * 저장/삭제된 이벤트 목록으로 생성 (연결된 master id도 함께 수집)
+     */
+    public static FestivalDataChangedEvent ofEvents(Collection<FestivalEvent> events) {
+        Set<Long> eventIds = new LinkedHashSet<>();
+        Set<Long> masterIds = new LinkedHashSet<>();
+
+        for (FestivalEvent e : events) {
+            if (e.getId() != null) eventIds.add(e.getId());
+            if (e.getMaster() != null && e.getMaster().getId() != null) {
+                masterIds.add(e.getMaster().getId());
+            }
+        }
+        return new FestivalDataChangedEvent(eventIds, masterIds);
+    }
+
+    public static FestivalDataChangedEvent ofEvent(FestivalEvent event) {
+        return ofEvents(Collections.singletonList(event));
+    }
+
+    /**
+     * master 정보만 바뀐 경우 (overview, 이미지 등)
+     */
+    public static FestivalDataChangedEvent ofMasters(Collection<Long> masterIds) {
+        return new FestivalDataChangedEvent(Collections.emptySet(), masterIds);
+    }
+
+    public boolean isEmpty() {
+        return eventIds.isEmpty() && masterIds.isEmpty();
+    }
+
+    private static Set<Long> copyOf(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Collections.emptySet();
+        Set<Long> copy = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) copy.add(id);
+        }
+        return Collections.unmodifiableSet(copy);
+    }
+
+    @Override
+    public String toString() {
+        return "FestivalDataChangedEvent{events=" + eventIds.size() + ", masters=" + masterIds.size() + "}";
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 축제 데이터 버전 (FestivalDataChangedEvent 가 커밋될 때마다 1 증가)
+ * - 캐시/스냅샷은 만들 때의 버전을 들고 있다가 현재 버전과 다르면 버림
+ * - 리뷰는 회차(event id)별, 북마크는 회원별 버전을 따로 둠 (하나 바뀌었다고 다른 화면까지 바뀐 것으로 보지 않음)
+ *   id 를 해시한 고정 크기 칸에 기록 (메모리 고정, 같은 칸의 다른 id 가 바뀌면 같이 바뀐 것으로 봄 - 놓치지는 않음)
+ * - 버전은 메모리에만 있으므로 ETag 등 밖으로 내보낼 때는 bootId 를 같이 붙임 (재시작하면 0부터)
+ */
+@Component
+public class FestivalDataVersion {
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile long changedAt = System.currentTimeMillis();
+
+    // 리뷰/북마크 칸 수 (2의 거듭제곱)
+    private static final int STRIPES = 4096;
+
+    // 리뷰/북마크 버전은 전체에서 하나씩 증가하는 번호를 회차별/회원별 칸에 기록
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray reviewVersions = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray bookmarkVersions = new AtomicLongArray(STRIPES);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        version.incrementAndGet();
+        changedAt = System.currentTimeMillis();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(FestivalReviewChangedEvent event) {
+        stamp(reviewVersions, event.getEventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(FestivalBookmarkChangedEvent event) {
+        stamp(bookmarkVersions, event.getMemberId());
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public String bootId() {
+        return bootId;
+    }
+
+    /**
+     * 축제 데이터가 마지막으로 바뀐 시각 (바뀐 적 없으면 기동 시각, epoch millis)
+     */
+    public long changedAt() {
+        return changedAt;
+    }
+
+    /**
+     * 해당 회차의 리뷰 버전 (바뀐 적 없으면 0)
+     */
+    public long reviewVersion(Long eventId) {
+        return versionOf(reviewVersions, eventId);
+    }
+
+    /**
+     * 해당 회원의 북마크 버전 (바뀐 적 없으면 0)
+     */
+    public long bookmarkVersion(Long memberId) {
+        return versionOf(bookmarkVersions, memberId);
+    }
+
+    // ===== helpers =====
+
+    private void stamp(AtomicLongArray versions, Long key) {
+        if (key == null) return;
+        versions.set(stripe(key), sequence.incrementAndGet());
+    }
+
+    private static long versionOf(AtomicLongArray versions, Long key) {
+        return (key == null) ? 0 : versions.get(stripe(key));
+    }
+
+    // 연속된 id 가 이웃 칸에 몰리지 않게 섞어서
+    private static int stripe(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 52) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,19 @@
+package com.springboot.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 작성/수정/삭제 알림 (어느 축제 회차의 리뷰가 바뀌었는지)
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalReviewChangedEvent {
+
+    private final Long eventId;
+
+    @Override
+    public String toString() {
+        return "FestivalReviewChangedEvent{eventId=" + eventId + "}";
+    }
+}
@@ -0,0 +1,131 @@
+package com.springboot.global;
+
+import com.springboot.domain.Member;
+import com.springboot.event.FestivalDataVersion;
+import com.springboot.repository.MemberRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 축제 화면 / 조회 API 조건부 GET (ETag 만)
+ * - ETag = bootId - 축제 데이터 버전 [- 해당 회차 리뷰 버전] - 오늘 날짜 - 세션
+ *   · 리뷰는 /festivals/{eventId}, /api/reviews/event/{eventId} 에만 반영 (회차별 버전)
+ *   · 북마크 피드는 회원(세션 또는 구독 토큰)의 북마크 버전 반영
+ *   · 진행 중 여부가 날짜로 바뀌므로 날짜 포함, 로그인 상태/CSRF 토큰이 세션마다 다르므로 세션 포함
+ * - If-None-Match 가 맞으면 컨트롤러(리포지토리 조회) 전에 304 로 끝냄
+ * - Last-Modified 는 안 보냄: 날짜가 바뀌거나 로그인/로그아웃해도 시각은 그대로라
+ *   If-Modified-Since 만 보내는 클라이언트가 어제 화면 / 다른 로그인 상태 화면으로 304 를 받게 됨
+ * - Cache-Control: private, no-cache → 브라우저는 저장하되 매번 재검증 (공유 캐시에는 안 남김)
+ * - 플래시 메시지가 있는 요청은 한 번만 보여야 하므로 건너뜀
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    // 축제 데이터만 보는 화면/API
+    private static final Set<String> FESTIVAL_SCOPED = Set.of(
+            "/festivals",
+            "/festivals/list",
+            "/festivals/calendar",
+            "/festivals/api/markers",
+            "/festivals/api/map",
+            "/festivals/api/nearby",
+            "/festivals/api/suggest",
+            "/festivals/api/heatmap",
+            "/festivals/feeds/month/{month}.ics",
+            "/festivals/feeds/region.ics"
+    );
+
+    // 축제 데이터 + 해당 회차 리뷰를 보는 화면/API
+    private static final Set<String> REVIEW_SCOPED = Set.of(
+            "/festivals/{eventId}",
+            "/api/reviews/event/{eventId}"
+    );
+
+    // 축제 데이터 + 회원 북마크를 보는 화면/API (로그인 세션 또는 구독 토큰)
+    private static final Set<String> BOOKMARK_SCOPED = Set.of(
+            "/api/bookmarks/calendar.ics",
+            "/festivals/feeds/bookmarks/{token}.ics"
+    );
+
+    private final FestivalDataVersion dataVersion;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) return true;
+        if (RequestContextUtils.getInputFlashMap(request) != null) return true;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) return true;
+
+        StringBuilder etag = new StringBuilder("\"")
+                .append(dataVersion.bootId()).append('-')
+                .append(dataVersion.current());
+
+        if (REVIEW_SCOPED.contains(pattern.toString())) {
+            Long eventId = eventId(request);
+            if (eventId == null) return true;
+            etag.append('-').append(dataVersion.reviewVersion(eventId));
+        } else if (BOOKMARK_SCOPED.contains(pattern.toString())) {
+            Long memberId = memberId(request);
+            if (memberId == null) return true;
+            etag.append("-b").append(dataVersion.bookmarkVersion(memberId));
+        } else if (!FESTIVAL_SCOPED.contains(pattern.toString())) {
+            return true;
+        }
+
+        etag.append('-').append(Long.toString(LocalDate.now().toEpochDay(), 36))
+                .append('-').append(sessionTag(request))
+                .append('"');
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return !new ServletWebRequest(request, response).checkNotModified(etag.toString());
+    }
+
+    private static Long eventId(HttpServletRequest request) {
+        Map<String, String> vars = uriVariables(request);
+        if (vars == null) return null;
+        try {
+            return Long.valueOf(vars.get("eventId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 구독 토큰 주소면 토큰의 회원, 아니면 로그인할 때 세션에 넣어 둔 회원
+    // (없으면 조건부 처리 안 함 → 컨트롤러가 인증 / 404 처리)
+    private Long memberId(HttpServletRequest request) {
+        Map<String, String> vars = uriVariables(request);
+        if (vars != null && vars.containsKey("token")) {
+            return memberRepository.findIdByCalendarToken(vars.get("token")).orElse(null);
+        }
+
+        HttpSession session = request.getSession(false);
+        Object member = (session == null) ? null : session.getAttribute("member");
+        return (member instanceof Member m) ? m.getId() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> uriVariables(HttpServletRequest request) {
+        return (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    }
+
+    // 세션 id 는 그대로 내보내지 않고 해시만
+    private static String sessionTag(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return (session == null) ? "a" : Integer.toHexString(session.getId().hashCode());
+    }
+}
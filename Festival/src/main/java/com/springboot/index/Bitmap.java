@@ -0,0 +1,104 @@
+package com.springboot.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 비트맵 (long[] 워드, 필요한 만큼만 늘어남)
+ * - 이벤트 순번(ordinal)이 0부터 빽빽하게 붙으므로 압축 없이 워드 배열로 충분
+ *   (2만 건 기준 값 하나당 2.5KB)
+ * - 집합 연산은 워드 단위 AND/OR, 개수는 Long.bitCount
+ *
+ * 스레드 안전하지 않음 - 호출하는 쪽에서 잠금
+ */
+public final class Bitmap {
+
+    private long[] words;
+
+    public Bitmap() {
+        this(1);
+    }
+
+    public Bitmap(int wordCapacity) {
+        words = new long[Math.max(1, wordCapacity)];
+    }
+
+    private Bitmap(long[] words) {
+        this.words = words;
+    }
+
+    public void set(int bit) {
+        int w = bit >>> 6;
+        if (w >= words.length) words = Arrays.copyOf(words, Math.max(w + 1, words.length << 1));
+        words[w] |= 1L << bit;
+    }
+
+    public void clear(int bit) {
+        int w = bit >>> 6;
+        if (w < words.length) words[w] &= ~(1L << bit);
+    }
+
+    public boolean get(int bit) {
+        int w = bit >>> 6;
+        return w < words.length && (words[w] & (1L << bit)) != 0;
+    }
+
+    public boolean isEmpty() {
+        for (long w : words) {
+            if (w != 0) return false;
+        }
+        return true;
+    }
+
+    public int cardinality() {
+        int n = 0;
+        for (long w : words) n += Long.bitCount(w);
+        return n;
+    }
+
+    /**
+     * |this AND other| (새 비트맵을 만들지 않음)
+     */
+    public int andCardinality(Bitmap other) {
+        int len = Math.min(words.length, other.words.length);
+        int n = 0;
+        for (int i = 0; i < len; i++) n += Long.bitCount(words[i] & other.words[i]);
+        return n;
+    }
+
+    public Bitmap copy() {
+        return new Bitmap(words.clone());
+    }
+
+    public Bitmap and(Bitmap other) {
+        int len = Math.min(words.length, other.words.length);
+        for (int i = 0; i < len; i++) words[i] &= other.words[i];
+        for (int i = len; i < words.length; i++) words[i] = 0;
+        return this;
+    }
+
+    public Bitmap or(Bitmap other) {
+        if (other.words.length > words.length) words = Arrays.copyOf(words, other.words.length);
+        for (int i = 0; i < other.words.length; i++) words[i] |= other.words[i];
+        return this;
+    }
+
+    public Bitmap andNot(Bitmap other) {
+        int len = Math.min(words.length, other.words.length);
+        for (int i = 0; i < len; i++) words[i] &= ~other.words[i];
+        return this;
+    }
+
+    /**
+     * 켜진 비트 순서대로
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long w = words[i];
+            while (w != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(w));
+                w &= w - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.springboot.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) 기준 BK-tree (오타 허용 검색용)
+ * - 키마다 노드 하나, 자식은 부모 키와의 거리별로 한 칸씩
+ * - 질의와 노드 키의 거리가 d 이면 거리 [d - max, d + max] 자식만 내려감
+ *   → 모든 키와 편집 거리를 계산하지 않음 (삼각 부등식)
+ * - 문서 하나에 키 여러 개 가능 (HangulText.decompose 를 거친 값), 같은 키에 여러 문서 가능
+ * - 빼기는 노드에서 문서만 지움 (빈 노드도 경로로 남겨둠, 같은 키가 다시 들어오면 재사용)
+ *
+ * 스레드 안전하지 않음 - 호출하는 쪽에서 잠금 (조회끼리는 동시에 해도 됨)
+ */
+public final class BkTree {
+
+    /**
+     * 검색 결과 수신 (같은 문서가 키 개수만큼 여러 번 올 수 있음)
+     */
+    public interface Visitor {
+        void hit(int docId, int distance);
+    }
+
+    private Node root;
+    private int nodeCount;
+
+    private final Map<Integer, String[]> docKeys = new HashMap<>();
+
+    public int size() {
+        return docKeys.size();
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 문서 등록 (이미 있으면 교체). 빈 키는 건너뜀
+     */
+    public void put(int docId, String... keys) {
+        remove(docId);
+
+        int count = 0;
+        String[] added = new String[keys.length];
+        for (String key : keys) {
+            if (key == null || key.isEmpty()) continue;
+            if (contains(added, count, key)) continue;
+
+            insert(key).addDoc(docId);
+            added[count++] = key;
+        }
+
+        if (count > 0) {
+            String[] stored = new String[count];
+            System.arraycopy(added, 0, stored, 0, count);
+            docKeys.put(docId, stored);
+        }
+    }
+
+    public void remove(int docId) {
+        String[] keys = docKeys.remove(docId);
+        if (keys == null) return;
+
+        for (String key : keys) {
+            Node node = find(key);
+            if (node != null) node.removeDoc(docId);
+        }
+    }
+
+    /**
+     * query 와 편집 거리 maxDistance 이하인 키의 문서를 visitor 로 전달
+     */
+    public void search(String query, int maxDistance, Visitor visitor) {
+        if (root == null || query == null || query.isEmpty() || maxDistance < 0) return;
+
+        int[] prev = new int[query.length() + 1];
+        int[] curr = new int[query.length() + 1];
+        search(root, query, maxDistance, visitor, prev, curr);
+    }
+
+    // ===== helpers =====
+
+    private void search(Node node, String query, int max, Visitor visitor, int[] prev, int[] curr) {
+        int d = distance(query, node.key, prev, curr);
+
+        if (d <= max) {
+            for (int i = 0; i < node.docCount; i++) {
+                visitor.hit(node.docs[i], d);
+            }
+        }
+
+        int from = Math.max(1, d - max);
+        int to = Math.min(node.children.length - 1, d + max);
+        for (int dist = from; dist <= to; dist++) {
+            Node child = node.children[dist];
+            if (child != null) search(child, query, max, visitor, prev, curr);
+        }
+    }
+
+    private Node insert(String key) {
+        if (root == null) {
+            root = new Node(key);
+            nodeCount++;
+            return root;
+        }
+
+        int[] prev = new int[key.length() + 1];
+        int[] curr = new int[key.length() + 1];
+
+        Node node = root;
+        while (true) {
+            int d = distance(key, node.key, prev, curr);
+            if (d == 0) return node;
+
+            Node child = node.child(d);
+            if (child == null) {
+                child = new Node(key);
+                node.setChild(d, child);
+                nodeCount++;
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    private Node find(String key) {
+        int[] prev = new int[key.length() + 1];
+        int[] curr = new int[key.length() + 1];
+
+        Node node = root;
+        while (node != null) {
+            int d = distance(key, node.key, prev, curr);
+            if (d == 0) return node;
+            node = node.child(d);
+        }
+        return null;
+    }
+
+    // a 기준 두 줄짜리 DP (prev/curr 길이는 a.length() + 1)
+    private static int distance(String a, String b, int[] prev, int[] curr) {
+        int n = a.length();
+        for (int i = 0; i <= n; i++) prev[i] = i;
+
+        for (int j = 1; j <= b.length(); j++) {
+            char bc = b.charAt(j - 1);
+            curr[0] = j;
+            for (int i = 1; i <= n; i++) {
+                int cost = (a.charAt(i - 1) == bc) ? 0 : 1;
+                curr[i] = Math.min(Math.min(curr[i - 1] + 1, prev[i] + 1), prev[i - 1] + cost);
+            }
+            int[] t = prev;
+            prev = curr;
+            curr = t;
+        }
+        return prev[n];
+    }
+
+    private static boolean contains(String[] keys, int count, String key) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i].equals(key)) return true;
+        }
+        return false;
+    }
+
+    private static final class Node {
+        private final String key;
+
+        // children[d] = 이 노드 키와 거리 d 인 하위 트리
+        private Node[] children = new Node[0];
+
+        private int[] docs = new int[0];
+        private int docCount;
+
+        private Node(String key) {
+            this.key = key;
+        }
+
+        private Node child(int d) {
+            return (d < children.length) ? children[d] : null;
+        }
+
+        private void setChild(int d, Node child) {
+            if (d >= children.length) {
+                Node[] grown = new Node[Math.max(d + 1, children.length * 2)];
+                System.arraycopy(children, 0, grown, 0, children.length);
+                children = grown;
+            }
+            children[d] = child;
+        }
+
+        private void addDoc(int doc) {
+            if (docCount == docs.length) {
+                int[] grown = new int[Math.max(1, docCount * 2)];
+                System.arraycopy(docs, 0, grown, 0, docCount);
+                docs = grown;
+            }
+            docs[docCount++] = doc;
+        }
+
+        private void removeDoc(int doc) {
+            for (int i = 0; i < docCount; i++) {
+                if (docs[i] == doc) {
+                    docs[i] = docs[--docCount];
+                    return;
+                }
+            }
+        }
+    }
+}
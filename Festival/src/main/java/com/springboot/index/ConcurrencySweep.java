@@ -0,0 +1,63 @@
+package com.springboot.index;
+
+import java.util.Arrays;
+
+/**
+ * 기간 겹침 개수 계산 (정렬된 끝점 sweep, O((n + q) log(n + q)))
+ * - 질의 구간 [qs, qe] 와 겹치는 구간 수 = (시작 <= qe 인 수) - (끝 < qs 인 수)
+ * - 시작/끝을 각각 정렬해 두고 질의도 정렬된 순서로 훑으면서 포인터만 전진
+ * - 날짜는 epochDay 같은 정수, 구간은 양 끝 포함
+ */
+public final class ConcurrencySweep {
+
+    private ConcurrencySweep() {
+    }
+
+    /**
+     * @return 각 질의 구간과 겹치는 구간 수 (질의 구간이 목록에 있으면 자기 자신 포함)
+     */
+    public static int[] overlapCounts(int[] starts, int[] ends, int[] queryStarts, int[] queryEnds) {
+        int n = starts.length;
+        int q = queryStarts.length;
+
+        int[] sortedStarts = Arrays.copyOf(starts, n);
+        int[] sortedEnds = Arrays.copyOf(ends, n);
+        Arrays.sort(sortedStarts);
+        Arrays.sort(sortedEnds);
+
+        int[] counts = new int[q];
+
+        // 시작 <= qe 인 구간 수 : 질의를 끝 기준으로 정렬해서 sweep
+        int[] byEnd = orderBy(queryEnds);
+        int p = 0;
+        for (int k : byEnd) {
+            while (p < n && sortedStarts[p] <= queryEnds[k]) p++;
+            counts[k] = p;
+        }
+
+        // 끝 < qs 인 구간 수 : 질의를 시작 기준으로 정렬해서 sweep
+        int[] byStart = orderBy(queryStarts);
+        p = 0;
+        for (int k : byStart) {
+            while (p < n && sortedEnds[p] < queryStarts[k]) p++;
+            counts[k] -= p;
+        }
+
+        return counts;
+    }
+
+    // values 오름차순 위치 (상위 32비트 값, 하위 32비트 원래 위치로 묶어서 정렬)
+    private static int[] orderBy(int[] values) {
+        long[] packed = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            packed[i] = ((long) values[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[values.length];
+        for (int i = 0; i < packed.length; i++) {
+            order[i] = (int) packed[i];
+        }
+        return order;
+    }
+}
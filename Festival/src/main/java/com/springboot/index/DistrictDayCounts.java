@@ -0,0 +1,102 @@
+package com.springboot.index;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * (지역, 날짜) → 그날 열리는 축제 수
+ * - 지역별/연도별 int[366] (dayOfYear - 1 위치), 조회는 배열 접근 한 번
+ * - 전체 적재는 load() 로 지역마다 한 번에 (ConcurrencySweep 으로 날짜별 개수를 구해서 씀)
+ * - 축제 추가/삭제 시 기간에 해당하는 칸만 +1 / -1
+ *
+ * 스레드 안전하지 않음 - 호출하는 쪽에서 잠금
+ */
+public final class DistrictDayCounts {
+
+    private final Map<String, Map<Integer, int[]>> counts = new HashMap<>();
+
+    /**
+     * [start, end] 기간의 날짜별 개수에 delta 를 더함 (연도 경계는 나눠서 반영)
+     */
+    public void add(String area, LocalDate start, LocalDate end, int delta) {
+        if (area == null || start == null || end == null || end.isBefore(start)) return;
+
+        Map<Integer, int[]> byYear = counts.computeIfAbsent(area, k -> new HashMap<>());
+
+        LocalDate from = start;
+        while (!from.isAfter(end)) {
+            int year = from.getYear();
+            LocalDate yearEnd = LocalDate.of(year, 12, 31);
+            LocalDate to = end.isBefore(yearEnd) ? end : yearEnd;
+
+            int[] days = byYear.computeIfAbsent(year, k -> new int[366]);
+            for (int d = from.getDayOfYear() - 1; d < to.getDayOfYear(); d++) {
+                days[d] += delta;
+            }
+            from = to.plusDays(1);
+        }
+    }
+
+    /**
+     * 지역의 축제 기간들로 날짜별 개수를 새로 씀 (starts / ends: epoch day, 양 끝 포함, 같은 길이)
+     * 기존 값은 지움
+     */
+    public void load(String area, int[] starts, int[] ends) {
+        counts.remove(area);
+        if (area == null || starts.length == 0) return;
+
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (int i = 0; i < starts.length; i++) {
+            first = Math.min(first, starts[i]);
+            last = Math.max(last, ends[i]);
+        }
+
+        // 날짜 하나짜리 질의 구간을 first ~ last 까지
+        int[] days = new int[last - first + 1];
+        for (int i = 0; i < days.length; i++) days[i] = first + i;
+        int[] daily = ConcurrencySweep.overlapCounts(starts, ends, days, days);
+
+        Map<Integer, int[]> byYear = new HashMap<>();
+        for (int i = 0; i < daily.length; i++) {
+            if (daily[i] == 0) continue;
+            LocalDate date = LocalDate.ofEpochDay(first + i);
+            byYear.computeIfAbsent(date.getYear(), k -> new int[366])[date.getDayOfYear() - 1] = daily[i];
+        }
+        counts.put(area, byYear);
+    }
+
+    public int get(String area, LocalDate date) {
+        Map<Integer, int[]> byYear = counts.get(area);
+        if (byYear == null || date == null) return 0;
+
+        int[] days = byYear.get(date.getYear());
+        return (days == null) ? 0 : days[date.getDayOfYear() - 1];
+    }
+
+    /**
+     * [start, end] 기간 중 가장 많은 날의 개수
+     */
+    public int peak(String area, LocalDate start, LocalDate end) {
+        Map<Integer, int[]> byYear = counts.get(area);
+        if (byYear == null || start == null || end == null || end.isBefore(start)) return 0;
+
+        int max = 0;
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            int[] days = byYear.get(year);
+            if (days == null) continue;
+
+            int from = (year == start.getYear()) ? start.getDayOfYear() - 1 : 0;
+            int to = (year == end.getYear()) ? end.getDayOfYear() : days.length;
+            for (int d = from; d < to; d++) {
+                if (days[d] > max) max = days[d];
+            }
+        }
+        return max;
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+}
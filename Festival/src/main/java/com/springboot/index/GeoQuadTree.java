@@ -0,0 +1,335 @@
+package com.springboot.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 좌표 + 기간 점들의 정적 쿼드트리 (지도 클러스터링, 가까운 축제 검색용)
+ * - 노드마다 점 개수, 좌표 합, 시작/종료일 최소·최대를 미리 계산해 둠
+ * - 노드가 영역 안에 다 들어가고, 기간 조건도 전부 만족하고, 셀 크기보다 작으면
+ *   점을 하나씩 보지 않고 노드 집계값을 그대로 클러스터로 내보냄
+ * - 점들은 노드별로 연속 구간이 되도록 재배열, pos 는 build 때 넘긴 원래 위치
+ *
+ * 만든 뒤에는 읽기 전용 (여러 스레드에서 조회 가능)
+ */
+public final class GeoQuadTree {
+
+    private static final int LEAF_SIZE = 16;
+    private static final int MAX_DEPTH = 24;
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * 조회 결과 받는 쪽
+     */
+    public interface Visitor {
+
+        // 집계된 점 묶음 (count >= 2)
+        void cluster(double lat, double lng, int count);
+
+        // 개별 점 (build 때의 원래 위치)
+        void point(int pos);
+    }
+
+    /**
+     * 가까운 점 검색 결과
+     */
+    public record Hit(int pos, double distanceKm) {
+    }
+
+    // 재배열된 점
+    private final int[] pos;
+    private final double[] lat;
+    private final double[] lng;
+    private final int[] start;
+    private final int[] end;
+
+    // 노드 (0 이 루트)
+    private int nodeCount;
+    private int[] from;
+    private int[] to;
+    private int[] firstChild;
+    private int[] childCount;
+    private double[] minLat;
+    private double[] maxLat;
+    private double[] minLng;
+    private double[] maxLng;
+    private double[] sumLat;
+    private double[] sumLng;
+    private int[] minStart;
+    private int[] maxStart;
+    private int[] minEnd;
+    private int[] maxEnd;
+
+    private GeoQuadTree(double[] lats, double[] lngs, int[] starts, int[] ends) {
+        int n = lats.length;
+        pos = new int[n];
+        lat = new double[n];
+        lng = new double[n];
+        start = new int[n];
+        end = new int[n];
+        for (int i = 0; i < n; i++) {
+            pos[i] = i;
+            lat[i] = lats[i];
+            lng[i] = lngs[i];
+            start[i] = starts[i];
+            end[i] = ends[i];
+        }
+
+        int cap = Math.max(1, (n / LEAF_SIZE) * 2 + 1);
+        from = new int[cap];
+        to = new int[cap];
+        firstChild = new int[cap];
+        childCount = new int[cap];
+        minLat = new double[cap];
+        maxLat = new double[cap];
+        minLng = new double[cap];
+        maxLng = new double[cap];
+        sumLat = new double[cap];
+        sumLng = new double[cap];
+        minStart = new int[cap];
+        maxStart = new int[cap];
+        minEnd = new int[cap];
+        maxEnd = new int[cap];
+    }
+
+    /**
+     * @param lats   위도
+     * @param lngs   경도
+     * @param starts 시작일 (epochDay)
+     * @param ends   종료일 (epochDay)
+     */
+    public static GeoQuadTree build(double[] lats, double[] lngs, int[] starts, int[] ends) {
+        GeoQuadTree t = new GeoQuadTree(lats, lngs, starts, ends);
+        if (lats.length > 0) {
+            int root = t.newNode(0, lats.length);
+            t.split(root, 0);
+        }
+        return t;
+    }
+
+    public int size() {
+        return pos.length;
+    }
+
+    /**
+     * [south, north] x [west, east] 안에 있고 기간이 [dayFrom, dayTo] 와 겹치는 점 조회
+     * - cellSize(도) 보다 작은 노드는 집계값으로 내보냄, 음수면 항상 개별 점
+     * - dayFrom > dayTo 도 허용 (start <= dayTo 이고 end >= dayFrom 인 점)
+     */
+    public void query(double south, double west, double north, double east,
+                      int dayFrom, int dayTo, double cellSize, Visitor visitor) {
+        if (nodeCount == 0) return;
+        visit(0, south, west, north, east, dayFrom, dayTo, cellSize, visitor);
+    }
+
+    /**
+     * (lat, lng) 에서 가까운 순으로 최대 k 개 (haversine 거리)
+     * - 시작일 ∈ [startLo, startHi], 종료일 ∈ [endLo, endHi] 인 점만
+     * - 노드 박스까지의 최소 거리 순으로 탐색하고, k 번째 거리보다 먼 노드는 보지 않음
+     */
+    public List<Hit> nearest(double qLat, double qLng, int k,
+                             int startLo, int startHi, int endLo, int endHi) {
+        List<Hit> result = new ArrayList<>();
+        if (nodeCount == 0 || k <= 0) return result;
+
+        // 지금까지 찾은 k 개 (먼 것이 위)
+        PriorityQueue<Hit> best = new PriorityQueue<>(k + 1,
+                (a, b) -> Double.compare(b.distanceKm(), a.distanceKm()));
+        // 탐색할 노드 {최소 거리, 노드}
+        PriorityQueue<double[]> frontier = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        frontier.add(new double[]{boxDistanceKm(0, qLat, qLng), 0});
+
+        while (!frontier.isEmpty()) {
+            double[] top = frontier.poll();
+            if (best.size() == k && top[0] >= best.peek().distanceKm()) break;
+
+            int node = (int) top[1];
+            if (minStart[node] > startHi || maxStart[node] < startLo
+                    || minEnd[node] > endHi || maxEnd[node] < endLo) continue;
+
+            if (childCount[node] == 0) {
+                for (int i = from[node]; i < to[node]; i++) {
+                    if (start[i] < startLo || start[i] > startHi || end[i] < endLo || end[i] > endHi) continue;
+
+                    double d = haversineKm(qLat, qLng, lat[i], lng[i]);
+                    if (best.size() < k) {
+                        best.add(new Hit(pos[i], d));
+                    } else if (d < best.peek().distanceKm()) {
+                        best.poll();
+                        best.add(new Hit(pos[i], d));
+                    }
+                }
+                continue;
+            }
+
+            for (int c = firstChild[node]; c < firstChild[node] + childCount[node]; c++) {
+                frontier.add(new double[]{boxDistanceKm(c, qLat, qLng), c});
+            }
+        }
+
+        result.addAll(best);
+        result.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return result;
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // ===== helpers =====
+
+    private void visit(int node, double south, double west, double north, double east,
+                       int dayFrom, int dayTo, double cellSize, Visitor visitor) {
+        // 영역/기간 모두 벗어나면 skip
+        if (maxLat[node] < south || minLat[node] > north || maxLng[node] < west || minLng[node] > east) return;
+        if (minStart[node] > dayTo || maxEnd[node] < dayFrom) return;
+
+        int count = to[node] - from[node];
+        boolean inside = minLat[node] >= south && maxLat[node] <= north
+                && minLng[node] >= west && maxLng[node] <= east;
+        boolean allMatch = maxStart[node] <= dayTo && minEnd[node] >= dayFrom;
+        boolean small = Math.max(maxLat[node] - minLat[node], maxLng[node] - minLng[node]) <= cellSize;
+
+        if (inside && allMatch && small && count > 1) {
+            visitor.cluster(sumLat[node] / count, sumLng[node] / count, count);
+            return;
+        }
+
+        if (childCount[node] == 0) {
+            for (int i = from[node]; i < to[node]; i++) {
+                if (lat[i] < south || lat[i] > north || lng[i] < west || lng[i] > east) continue;
+                if (start[i] > dayTo || end[i] < dayFrom) continue;
+                visitor.point(pos[i]);
+            }
+            return;
+        }
+
+        for (int c = firstChild[node]; c < firstChild[node] + childCount[node]; c++) {
+            visit(c, south, west, north, east, dayFrom, dayTo, cellSize, visitor);
+        }
+    }
+
+    // 노드 박스 안에서 질의 좌표에 가장 가까운 점까지의 거리
+    // (위경도를 박스로 잘라낸 점 기준 - 국내 범위처럼 극/날짜변경선에 걸치지 않으면 하한으로 충분)
+    private double boxDistanceKm(int node, double qLat, double qLng) {
+        double y = Math.max(minLat[node], Math.min(qLat, maxLat[node]));
+        double x = Math.max(minLng[node], Math.min(qLng, maxLng[node]));
+        return haversineKm(qLat, qLng, y, x);
+    }
+
+    // 노드 [lo, hi) 를 사분면으로 나눔 (모든 점이 같은 좌표면 더 못 나누므로 leaf)
+    private void split(int node, int depth) {
+        int lo = from[node];
+        int hi = to[node];
+        if (hi - lo <= LEAF_SIZE || depth >= MAX_DEPTH) return;
+        if (maxLat[node] == minLat[node] && maxLng[node] == minLng[node]) return;
+
+        double midLat = (minLat[node] + maxLat[node]) / 2;
+        double midLng = (minLng[node] + maxLng[node]) / 2;
+
+        // 남/북으로 나누고 각각 서/동으로 나눔
+        int m = partition(lo, hi, true, midLat);
+        int m1 = partition(lo, m, false, midLng);
+        int m2 = partition(m, hi, false, midLng);
+
+        int[] bounds = {lo, m1, m, m2, hi};
+        int first = -1;
+        int children = 0;
+        for (int q = 0; q < 4; q++) {
+            if (bounds[q] == bounds[q + 1]) continue;
+            int child = newNode(bounds[q], bounds[q + 1]);
+            if (first < 0) first = child;
+            children++;
+        }
+        firstChild[node] = first;
+        childCount[node] = children;
+
+        for (int c = first; c < first + children; c++) {
+            split(c, depth + 1);
+        }
+    }
+
+    // [lo, hi) 에서 값 < mid 인 점을 앞으로 모으고 경계 반환
+    private int partition(int lo, int hi, boolean byLat, double mid) {
+        int i = lo;
+        int j = hi - 1;
+        while (i <= j) {
+            double v = byLat ? lat[i] : lng[i];
+            if (v < mid) {
+                i++;
+            } else {
+                swap(i, j--);
+            }
+        }
+        return i;
+    }
+
+    private void swap(int a, int b) {
+        int p = pos[a]; pos[a] = pos[b]; pos[b] = p;
+        double y = lat[a]; lat[a] = lat[b]; lat[b] = y;
+        double x = lng[a]; lng[a] = lng[b]; lng[b] = x;
+        int s = start[a]; start[a] = start[b]; start[b] = s;
+        int e = end[a]; end[a] = end[b]; end[b] = e;
+    }
+
+    private int newNode(int lo, int hi) {
+        if (nodeCount == from.length) grow();
+        int node = nodeCount++;
+
+        from[node] = lo;
+        to[node] = hi;
+        firstChild[node] = -1;
+        childCount[node] = 0;
+
+        minLat[node] = Double.POSITIVE_INFINITY;
+        maxLat[node] = Double.NEGATIVE_INFINITY;
+        minLng[node] = Double.POSITIVE_INFINITY;
+        maxLng[node] = Double.NEGATIVE_INFINITY;
+        minStart[node] = Integer.MAX_VALUE;
+        maxStart[node] = Integer.MIN_VALUE;
+        minEnd[node] = Integer.MAX_VALUE;
+        maxEnd[node] = Integer.MIN_VALUE;
+        sumLat[node] = 0;
+        sumLng[node] = 0;
+
+        for (int i = lo; i < hi; i++) {
+            minLat[node] = Math.min(minLat[node], lat[i]);
+            maxLat[node] = Math.max(maxLat[node], lat[i]);
+            minLng[node] = Math.min(minLng[node], lng[i]);
+            maxLng[node] = Math.max(maxLng[node], lng[i]);
+            sumLat[node] += lat[i];
+            sumLng[node] += lng[i];
+            minStart[node] = Math.min(minStart[node], start[i]);
+            maxStart[node] = Math.max(maxStart[node], start[i]);
+            minEnd[node] = Math.min(minEnd[node], end[i]);
+            maxEnd[node] = Math.max(maxEnd[node], end[i]);
+        }
+        return node;
+    }
+
+    private void grow() {
+        int cap = from.length << 1;
+        from = Arrays.copyOf(from, cap);
+        to = Arrays.copyOf(to, cap);
+        firstChild = Arrays.copyOf(firstChild, cap);
+        childCount = Arrays.copyOf(childCount, cap);
+        minLat = Arrays.copyOf(minLat, cap);
+        maxLat = Arrays.copyOf(maxLat, cap);
+        minLng = Arrays.copyOf(minLng, cap);
+        maxLng = Arrays.copyOf(maxLng, cap);
+        sumLat = Arrays.copyOf(sumLat, cap);
+        sumLng = Arrays.copyOf(sumLng, cap);
+        minStart = Arrays.copyOf(minStart, cap);
+        maxStart = Arrays.copyOf(maxStart, cap);
+        minEnd = Arrays.copyOf(minEnd, cap);
+        maxEnd = Arrays.copyOf(maxEnd, cap);
+    }
+}
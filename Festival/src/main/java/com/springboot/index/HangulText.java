@@ -0,0 +1,130 @@
+package com.springboot.index;
+
+import java.text.Normalizer;
+
+/**
+ * 검색용 한글 텍스트 처리
+ */
+public final class HangulText {
+
+    private static final char SYLLABLE_FIRST = '\uAC00'; // 가
+    private static final char SYLLABLE_LAST = '\uD7A3';  // 힣
+
+    // 초성 19개 (호환용 자모)
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 중성 21개, 종성 28개 (0 = 받침 없음)
+    private static final char[] MEDIALS = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ',
+            'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final char[] FINALS = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ',
+            'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 종성 인덱스(0~27) → 다음 글자 초성으로 떼어낼 자음 / 남는 종성 인덱스
+    // 입력 중인 "강릉컾" 은 "강릉커" + 초성 ㅍ, "닭" 은 "달" + 초성 ㄱ 으로도 볼 수 있음
+    private static final char[] DETACHED = {
+            0, 'ㄱ', 'ㄲ', 'ㅅ', 'ㄴ', 'ㅈ', 'ㅎ', 'ㄷ', 'ㄹ', 'ㄱ', 'ㅁ', 'ㅂ', 'ㅅ', 'ㅌ',
+            'ㅍ', 'ㅎ', 'ㅁ', 'ㅂ', 'ㅅ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int[] KEPT_FINAL = {
+            0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8,
+            8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    private HangulText() {
+    }
+
+    /**
+     * 검색 정규화: NFC 합성 → 소문자 → 글자/숫자만 남김 (공백, 기호 제거)
+     * - "부산 불꽃-축제" / "부산불꽃축제" 를 같은 문자열로 취급하기 위함
+     */
+    public static String normalize(String s) {
+        if (s == null || s.isEmpty()) return "";
+
+        String nfc = Normalizer.isNormalized(s, Normalizer.Form.NFC)
+                ? s
+                : Normalizer.normalize(s, Normalizer.Form.NFC);
+
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 (한글 음절이 아니면 그대로)
+     */
+    public static char initialOf(char c) {
+        if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) return c;
+        return INITIALS[(c - SYLLABLE_FIRST) / 588];
+    }
+
+    /**
+     * 초성 투영: "강릉커피축제" → "ㄱㄹㅋㅍㅊㅈ" (한글 음절 외 글자는 그대로)
+     */
+    public static String initials(String s) {
+        if (s == null || s.isEmpty()) return "";
+
+        char[] out = new char[s.length()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = initialOf(s.charAt(i));
+        }
+        return new String(out);
+    }
+
+    /**
+     * 초성으로 쓸 수 있는 호환용 자음인지 (ㄱ ~ ㅎ)
+     */
+    public static boolean isInitial(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 받침을 다음 글자 초성으로 뗐을 때의 자음 (받침 없으면 0)
+     */
+    public static char detachedInitial(char c) {
+        if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) return 0;
+        return DETACHED[(c - SYLLABLE_FIRST) % 28];
+    }
+
+    /**
+     * 받침을 뗀 음절 (겹받침은 앞 자음만 남김). 받침 없으면 그대로
+     */
+    public static char withoutDetachedFinal(char c) {
+        if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) return c;
+        int jong = (c - SYLLABLE_FIRST) % 28;
+        return (char) (c - jong + KEPT_FINAL[jong]);
+    }
+
+    /**
+     * 자모 분해: "불꽃" → "ㅂㅜㄹㄲㅗㅊ" (한글 음절 외 글자는 그대로)
+     * - 오타 허용 검색에서 글자 하나 틀린 것을 자모 한두 개 차이로 보기 위함
+     */
+    public static String decompose(String s) {
+        if (s == null || s.isEmpty()) return "";
+
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) {
+                sb.append(c);
+                continue;
+            }
+            int offset = c - SYLLABLE_FIRST;
+            sb.append(INITIALS[offset / 588]);
+            sb.append(MEDIALS[(offset % 588) / 28]);
+            if (offset % 28 != 0) sb.append(FINALS[offset % 28]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.springboot.index;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없는 가변 int 배열 (인덱스 내부 수집용)
+ */
+public final class IntList {
+
+    private int[] data;
+    private int size;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int capacity) {
+        this.data = new int[Math.max(capacity, 4)];
+    }
+
+    public void add(int v) {
+        if (size == data.length) data = Arrays.copyOf(data, size << 1);
+        data[size++] = v;
+    }
+
+    public int get(int i) {
+        return data[i];
+    }
+
+    public int removeLast() {
+        return data[--size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+}
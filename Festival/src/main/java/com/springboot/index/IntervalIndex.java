@@ -0,0 +1,144 @@
+package com.springboot.index;
+
+import java.util.Arrays;
+
+/**
+ * 기간(시작일~종료일) 조회 전용 인터벌 인덱스 (불변)
+ * - 시작일 기준으로 정렬된 배열 위에 암묵적 균형 이진트리를 얹고,
+ *   각 노드에 서브트리의 최대 종료일(maxEnd)을 저장
+ * - maxEnd 가 조회 시작보다 작은 서브트리, 시작일이 조회 끝보다 큰 오른쪽은 통째로 건너뜀
+ * - 날짜는 epochDay(int) 로 다룸
+ *
+ * 결과는 항상 (시작일, id) 오름차순 위치 배열로 반환
+ */
+public final class IntervalIndex {
+
+    private static final IntervalIndex EMPTY = new IntervalIndex(new long[0], new long[0], new int[0], new int[0]);
+
+    private final long[] ids;
+    private final long[] masterIds;   // master 없으면 0
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnd;
+
+    private IntervalIndex(long[] ids, long[] masterIds, int[] starts, int[] ends) {
+        this.ids = ids;
+        this.masterIds = masterIds;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnd = new int[ids.length];
+        buildMaxEnd(0, ids.length);
+    }
+
+    public static IntervalIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 정렬되지 않은 입력으로 인덱스 생성 (입력 배열은 변경하지 않음)
+     */
+    public static IntervalIndex build(long[] ids, long[] masterIds, int[] starts, int[] ends) {
+        int n = ids.length;
+        if (masterIds.length != n || starts.length != n || ends.length != n) {
+            throw new IllegalArgumentException("배열 길이가 서로 다릅니다.");
+        }
+        if (n == 0) return EMPTY;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> {
+            int c = Integer.compare(starts[a], starts[b]);
+            return (c != 0) ? c : Long.compare(ids[a], ids[b]);
+        });
+
+        long[] sortedIds = new long[n];
+        long[] sortedMasters = new long[n];
+        int[] sortedStarts = new int[n];
+        int[] sortedEnds = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            int p = order[i];
+            sortedIds[i] = ids[p];
+            sortedMasters[i] = masterIds[p];
+            sortedStarts[i] = starts[p];
+            sortedEnds[i] = ends[p];
+        }
+        return new IntervalIndex(sortedIds, sortedMasters, sortedStarts, sortedEnds);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int pos) { return ids[pos]; }
+    public long masterId(int pos) { return masterIds[pos]; }
+    public int start(int pos) { return starts[pos]; }
+    public int end(int pos) { return ends[pos]; }
+
+    /**
+     * [from, to] 과 하루라도 겹치는 항목의 위치
+     */
+    public int[] overlapping(int from, int to) {
+        if (from > to || ids.length == 0) return new int[0];
+
+        IntList out = new IntList();
+        collect(0, ids.length, from, to, out);
+        return out.toArray();
+    }
+
+    /**
+     * day 에 진행 중인 항목의 위치
+     */
+    public int[] ongoing(int day) {
+        return overlapping(day, day);
+    }
+
+    /**
+     * 시작일이 [from, to] 안에 있는 항목의 위치 범위 {lo, hi} (hi 미포함)
+     * - 시작일 정렬이므로 이진 탐색 두 번으로 끝
+     */
+    public int[] startingBetween(int from, int to) {
+        if (from > to) return new int[]{0, 0};
+        int lo = lowerBound(from);
+        int hi = lowerBound(to + 1);
+        return new int[]{lo, hi};
+    }
+
+    // ===== helpers =====
+
+    private int buildMaxEnd(int lo, int hi) {
+        if (lo >= hi) return Integer.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        int m = Math.max(ends[mid], Math.max(buildMaxEnd(lo, mid), buildMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = m;
+        return m;
+    }
+
+    private void collect(int lo, int hi, int from, int to, IntList out) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+
+        // 이 서브트리 어디에도 from 이후에 끝나는 항목이 없음
+        if (maxEnd[mid] < from) return;
+
+        collect(lo, mid, from, to, out);
+
+        // mid 부터 오른쪽은 모두 to 이후에 시작
+        if (starts[mid] > to) return;
+
+        if (ends[mid] >= from) out.add(mid);
+
+        collect(mid + 1, hi, from, to, out);
+    }
+
+    private int lowerBound(int key) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
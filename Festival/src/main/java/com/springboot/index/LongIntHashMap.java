@@ -0,0 +1,89 @@
+package com.springboot.index;
+
+/**
+ * long → int 해시맵 (오픈 어드레싱, 박싱 없음)
+ * - 키 0 은 빈 슬롯 표시로 쓰므로 별도 필드로 보관
+ */
+public final class LongIntHashMap {
+
+    private static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(64);
+    }
+
+    public LongIntHashMap(int expected) {
+        int cap = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        keys = new long[cap];
+        values = new int[cap];
+        mask = cap - 1;
+    }
+
+    /**
+     * 값 조회 (없으면 -1)
+     */
+    public int get(long key) {
+        if (key == 0L) return hasZeroKey ? zeroValue : MISSING;
+
+        int i = slot(key);
+        while (keys[i] != 0L) {
+            if (keys[i] == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    public void put(long key, int value) {
+        if (key == 0L) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int i = slot(key);
+        while (keys[i] != 0L) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+
+        if (size * 2 > keys.length) resize();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        mask = keys.length - 1;
+        size = hasZeroKey ? 1 : 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0L) put(oldKeys[i], oldValues[i]);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.springboot.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 글자 n-gram 역색인 (한글 검색용)
+ * - 한글은 띄어쓰기/조사가 불규칙해서 형태소 대신 글자 단위 n-gram 사용
+ * - gram 은 최대 3글자까지 long 하나로 인코딩, gram → 문서 id 는 정렬된 int[] postings
+ * - 질의는 [minGram, maxGram] 범위에서 가장 긴 gram 으로 쪼개 postings 교집합
+ * - keepText=true 면 정규화된 원문을 들고 있다가 gram 보다 긴 질의는 실제 포함 여부까지 확인
+ *   (keepText=false 면 gram 교집합만으로 판단 → gram 순서가 달라도 걸림, 질의가 maxGram 이하일 때만 정확)
+ *
+ * 스레드 안전하지 않음 - 호출하는 쪽에서 잠금
+ */
+public final class NgramIndex {
+
+    private final int minGram;
+    private final int maxGram;
+    private final boolean keepText;
+
+    private final LongIntHashMap gramIds = new LongIntHashMap(1024);
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+    private int gramCount;
+
+    private final Map<Integer, int[]> docGrams = new HashMap<>();
+    private final Map<Integer, String> docTexts = new HashMap<>();
+
+    public NgramIndex(int minGram, int maxGram, boolean keepText) {
+        if (minGram < 1 || maxGram > 3 || minGram > maxGram) {
+            throw new IllegalArgumentException("gram 범위는 1~3 이어야 합니다: " + minGram + "~" + maxGram);
+        }
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+        this.keepText = keepText;
+    }
+
+    /**
+     * 문서 등록 (이미 있으면 교체). text 는 HangulText.normalize 를 거친 값
+     */
+    public void put(int docId, String text) {
+        remove(docId);
+        if (text == null || text.length() < minGram) return;
+
+        long[] keys = gramKeys(text);
+        int[] ids = new int[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            int gramId = gramIds.get(keys[i]);
+            if (gramId < 0) {
+                gramId = newGram(keys[i]);
+            }
+            ids[i] = gramId;
+            addPosting(gramId, docId);
+        }
+
+        docGrams.put(docId, ids);
+        if (keepText) docTexts.put(docId, text);
+    }
+
+    public void remove(int docId) {
+        int[] ids = docGrams.remove(docId);
+        if (ids == null) return;
+
+        for (int gramId : ids) {
+            removePosting(gramId, docId);
+        }
+        docTexts.remove(docId);
+    }
+
+    public int size() {
+        return docGrams.size();
+    }
+
+    /**
+     * 이 인덱스로 답할 수 있는 질의인지 (minGram 보다 짧으면 불가)
+     */
+    public boolean canSearch(String query) {
+        return query != null && query.length() >= minGram;
+    }
+
+    /**
+     * 질의(정규화된 값)를 포함하는 문서 id (오름차순)
+     */
+    public int[] search(String query) {
+        if (!canSearch(query)) return new int[0];
+
+        int n = Math.min(query.length(), maxGram);
+        long[] keys = gramKeys(query, n, n);
+
+        int[] gramList = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int gramId = gramIds.get(keys[i]);
+            if (gramId < 0 || postingSizes[gramId] == 0) return new int[0];
+            gramList[i] = gramId;
+        }
+
+        // 짧은 postings 부터 교집합
+        Integer[] order = new Integer[gramList.length];
+        for (int i = 0; i < order.length; i++) order[i] = gramList[i];
+        Arrays.sort(order, (a, b) -> Integer.compare(postingSizes[a], postingSizes[b]));
+
+        int first = order[0];
+        int[] acc = Arrays.copyOf(postings[first], postingSizes[first]);
+        int accSize = acc.length;
+
+        for (int i = 1; i < order.length && accSize > 0; i++) {
+            int g = order[i];
+            accSize = intersectInto(acc, accSize, postings[g], postingSizes[g]);
+        }
+
+        // gram 보다 긴 질의는 원문 포함 여부로 확정
+        if (keepText && query.length() > n) {
+            int w = 0;
+            for (int i = 0; i < accSize; i++) {
+                String text = docTexts.get(acc[i]);
+                if (text != null && text.contains(query)) acc[w++] = acc[i];
+            }
+            accSize = w;
+        }
+
+        return Arrays.copyOf(acc, accSize);
+    }
+
+    // ===== helpers =====
+
+    private long[] gramKeys(String text) {
+        return gramKeys(text, minGram, maxGram);
+    }
+
+    /**
+     * text 의 [from, to] 길이 gram 을 중복 없이 long 으로 인코딩
+     * - (길이 << 48) | (c0 << 32) | (c1 << 16) | c2
+     */
+    private static long[] gramKeys(String text, int from, int to) {
+        int len = text.length();
+        int max = 0;
+        for (int n = from; n <= to; n++) max += Math.max(0, len - n + 1);
+
+        long[] keys = new long[max];
+        int k = 0;
+        for (int n = from; n <= to; n++) {
+            for (int i = 0; i + n <= len; i++) {
+                long key = (long) n << 48;
+                for (int j = 0; j < n; j++) {
+                    key |= (long) text.charAt(i + j) << (32 - 16 * j);
+                }
+                keys[k++] = key;
+            }
+        }
+
+        Arrays.sort(keys, 0, k);
+        int w = 0;
+        for (int i = 0; i < k; i++) {
+            if (w == 0 || keys[w - 1] != keys[i]) keys[w++] = keys[i];
+        }
+        return Arrays.copyOf(keys, w);
+    }
+
+    private int newGram(long key) {
+        int gramId = gramCount++;
+        if (gramId == postings.length) {
+            postings = Arrays.copyOf(postings, gramId << 1);
+            postingSizes = Arrays.copyOf(postingSizes, gramId << 1);
+        }
+        gramIds.put(key, gramId);
+        return gramId;
+    }
+
+    private void addPosting(int gramId, int docId) {
+        int[] p = postings[gramId];
+        int size = postingSizes[gramId];
+
+        if (p == null) {
+            p = new int[4];
+            postings[gramId] = p;
+        }
+
+        int pos;
+        if (size == 0 || p[size - 1] < docId) {
+            pos = size; // 대량 적재 시 id 순으로 들어오므로 대부분 여기
+        } else {
+            pos = Arrays.binarySearch(p, 0, size, docId);
+            if (pos >= 0) return;
+            pos = -pos - 1;
+        }
+
+        if (size == p.length) {
+            p = Arrays.copyOf(p, size + (size >> 1) + 1);
+            postings[gramId] = p;
+        }
+        System.arraycopy(p, pos, p, pos + 1, size - pos);
+        p[pos] = docId;
+        postingSizes[gramId] = size + 1;
+    }
+
+    private void removePosting(int gramId, int docId) {
+        int[] p = postings[gramId];
+        int size = postingSizes[gramId];
+        if (p == null || size == 0) return;
+
+        int pos = Arrays.binarySearch(p, 0, size, docId);
+        if (pos < 0) return;
+
+        System.arraycopy(p, pos + 1, p, pos, size - pos - 1);
+        postingSizes[gramId] = size - 1;
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합을 acc 앞쪽에 덮어쓰고 크기 반환
+     */
+    private static int intersectInto(int[] acc, int accSize, int[] other, int otherSize) {
+        int i = 0, j = 0, w = 0;
+        while (i < accSize && j < otherSize) {
+            int a = acc[i];
+            int b = other[j];
+            if (a < b) i++;
+            else if (a > b) j++;
+            else {
+                acc[w++] = a;
+                i++;
+                j++;
+            }
+        }
+        return w;
+    }
+}
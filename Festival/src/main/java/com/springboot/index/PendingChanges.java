@@ -0,0 +1,63 @@
+package com.springboot.index;
+
+import com.springboot.event.FestivalDataChangedEvent;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 아직 인덱스에 반영되지 않은 변경 id 모음
+ * - 쓰기 쪽(이벤트 리스너)은 id만 쌓고, 읽기 쪽이 필요할 때 한 번에 꺼내서(drain) 반영
+ * - 동기화처럼 건건이 커밋되는 작업에서 조회 쿼리가 건수만큼 나가는 것을 막기 위함
+ * - 인덱스 쪽은 refresh() 로 전체 적재 / 변경 반영 순서를 맞춤 (적재와 비우기 사이에 들어온 변경을 잃지 않게)
+ */
+public class PendingChanges {
+
+    private final Set<Long> eventIds = new LinkedHashSet<>();
+    private final Set<Long> masterIds = new LinkedHashSet<>();
+
+    public synchronized void add(FestivalDataChangedEvent event) {
+        if (event == null) return;
+        eventIds.addAll(event.getEventIds());
+        masterIds.addAll(event.getMasterIds());
+    }
+
+    public synchronized boolean isEmpty() {
+        return eventIds.isEmpty() && masterIds.isEmpty();
+    }
+
+    /**
+     * 쌓인 변경분을 하나로 합쳐 꺼내고 비움 (없으면 null)
+     */
+    public synchronized FestivalDataChangedEvent drain() {
+        if (isEmpty()) return null;
+
+        FestivalDataChangedEvent merged = new FestivalDataChangedEvent(eventIds, masterIds);
+        eventIds.clear();
+        masterIds.clear();
+        return merged;
+    }
+
+    /**
+     * 인덱스 갱신 (처음이면 전체 적재 후 변경 반영, 아니면 쌓인 변경만 반영, 호출하는 쪽 잠금 안에서)
+     * - 전체 적재 전에 먼저 비움: 변경은 커밋된 뒤에만 쌓이므로 그 전 것은 적재 쿼리에 이미 들어 있음
+     * - 적재 쿼리 도중 쌓인 변경은 남아 있다가 적재 직후 apply 로 다시 읽어서 반영 (두 번 반영돼도 결과는 같음)
+     * @return 적재하거나 반영한 것이 있으면 true
+     */
+    public boolean refresh(boolean loaded, Runnable loadAll, Consumer<FestivalDataChangedEvent> apply) {
+        boolean changed = false;
+        if (!loaded) {
+            drain();
+            loadAll.run();
+            changed = true;
+        }
+
+        FestivalDataChangedEvent changes = drain();
+        if (changes != null) {
+            apply.accept(changes);
+            changed = true;
+        }
+        return changed;
+    }
+}
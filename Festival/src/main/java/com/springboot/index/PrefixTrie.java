@@ -0,0 +1,338 @@
+package com.springboot.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 자동완성용 압축 트라이 (radix trie)
+ * - 문서 하나에 키 하나 (HangulText.normalize / initials 를 거친 값), 같은 키에 여러 문서 가능
+ * - 노드마다 하위 트리의 점수 상위 k 개를 미리 들고 있어서 조회는 접두어 경로만 따라가면 끝
+ * - 넣기/빼기는 바뀐 말단에서 루트까지 상위 k 만 다시 계산
+ * - 조회 결과는 호출하는 쪽 배열에 점수 내림차순(같으면 문서 id 오름차순)으로 병합 → 조회 중 할당 없음
+ *
+ * 스레드 안전하지 않음 - 호출하는 쪽에서 잠금
+ */
+public final class PrefixTrie {
+
+    private final int k;
+    private final Node root;
+
+    private final Map<Integer, Node> terminalOf = new HashMap<>();
+
+    public PrefixTrie(int k) {
+        if (k < 1) throw new IllegalArgumentException("k 는 1 이상이어야 합니다: " + k);
+        this.k = k;
+        this.root = new Node("", k);
+    }
+
+    public int size() {
+        return terminalOf.size();
+    }
+
+    /**
+     * 문서 등록 (이미 있으면 교체). 빈 키는 등록하지 않음
+     */
+    public void put(int docId, String key, int score) {
+        remove(docId);
+        Node node = insert(docId, key, score);
+        if (node != null) recomputeUp(node);
+    }
+
+    /**
+     * 전체 교체 적재 (넣은 뒤 상위 k 를 한 번에 계산)
+     */
+    public void load(int[] docIds, String[] keys, int[] scores) {
+        root.children = new Node[0];
+        root.childCount = 0;
+        root.docCount = 0;
+        root.topSize = 0;
+        terminalOf.clear();
+
+        for (int i = 0; i < docIds.length; i++) {
+            insert(docIds[i], keys[i], scores[i]);
+        }
+        recomputeAll(root);
+    }
+
+    public void remove(int docId) {
+        Node node = terminalOf.remove(docId);
+        if (node == null) return;
+
+        node.removeDoc(docId);
+
+        // 빈 말단 제거
+        while (node != root && node.docCount == 0 && node.childCount == 0) {
+            Node parent = node.parent;
+            parent.removeChild(node);
+            node = parent;
+        }
+
+        // 문서 없고 자식 하나뿐인 노드는 자식과 합침 (압축 유지)
+        if (node != root && node.docCount == 0 && node.childCount == 1) {
+            Node parent = node.parent;
+            Node only = node.children[0];
+            only.label = node.label + only.label;
+            only.parent = parent;
+            parent.children[parent.childIndex(only.label.charAt(0))] = only;
+            node = parent;
+        }
+
+        recomputeUp(node);
+    }
+
+    /**
+     * prefix 로 시작하는 키의 상위 문서를 (docs, scores) 의 앞 size 개에 병합
+     * @return 병합 후 개수 (최대 docs.length)
+     */
+    public int collect(String prefix, int[] docs, int[] scores, int size) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int idx = node.childIndex(prefix.charAt(i));
+            if (idx < 0) return size;
+
+            Node child = node.children[idx];
+            int matched = matchLabel(child.label, prefix, i);
+            if (matched < 0) return size;
+            if (i + matched == prefix.length()) {
+                return merge(child, docs, scores, size); // 간선 중간 또는 끝에서 끝남
+            }
+            node = child;
+            i += matched;
+        }
+        return merge(node, docs, scores, size);
+    }
+
+    /**
+     * prefix 바로 다음 글자의 초성이 initial 인 키의 상위 문서를 병합
+     * - "강릉ㅋ" 처럼 마지막 글자를 초성만 친 입력용
+     */
+    public int collectWithInitial(String prefix, char initial, int[] docs, int[] scores, int size) {
+        Node node = root;
+        int i = 0;
+        while (true) {
+            if (i == prefix.length()) {
+                for (int c = 0; c < node.childCount; c++) {
+                    Node child = node.children[c];
+                    if (HangulText.initialOf(child.label.charAt(0)) == initial) {
+                        size = merge(child, docs, scores, size);
+                    }
+                }
+                return size;
+            }
+
+            int idx = node.childIndex(prefix.charAt(i));
+            if (idx < 0) return size;
+
+            Node child = node.children[idx];
+            int matched = matchLabel(child.label, prefix, i);
+            if (matched < 0) return size;
+            if (i + matched == prefix.length() && matched < child.label.length()) {
+                // 간선 중간에서 끝남 → 다음 글자는 간선 위에 하나뿐
+                return HangulText.initialOf(child.label.charAt(matched)) == initial
+                        ? merge(child, docs, scores, size)
+                        : size;
+            }
+            node = child;
+            i += matched;
+        }
+    }
+
+    // ===== helpers =====
+
+    private Node insert(int docId, String key, int score) {
+        if (key == null || key.isEmpty()) return null;
+
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int idx = node.childIndex(key.charAt(i));
+            if (idx < 0) {
+                Node leaf = new Node(key.substring(i), k);
+                node.insertChild(-idx - 1, leaf);
+                node = leaf;
+                break;
+            }
+
+            Node child = node.children[idx];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라짐 → 공통 부분을 새 노드로 분리
+                Node mid = new Node(child.label.substring(0, common), k);
+                child.label = child.label.substring(common);
+                node.children[idx] = mid;
+                mid.parent = node;
+                mid.insertChild(0, child);
+                mid.copyTop(child);
+                child = mid;
+            }
+            node = child;
+            i += common;
+        }
+
+        node.addDoc(docId, score);
+        terminalOf.put(docId, node);
+        return node;
+    }
+
+    private void recomputeUp(Node node) {
+        for (Node n = node; n != null; n = n.parent) {
+            recomputeTop(n);
+        }
+    }
+
+    // 자식 먼저 (깊이는 키 길이 이하)
+    private void recomputeAll(Node node) {
+        for (int c = 0; c < node.childCount; c++) {
+            recomputeAll(node.children[c]);
+        }
+        recomputeTop(node);
+    }
+
+    private static void recomputeTop(Node n) {
+        n.topSize = 0;
+        for (int d = 0; d < n.docCount; d++) {
+            n.topSize = offer(n.topDocs, n.topScores, n.topSize, n.docs[d], n.docScores[d]);
+        }
+        for (int c = 0; c < n.childCount; c++) {
+            Node child = n.children[c];
+            for (int t = 0; t < child.topSize; t++) {
+                n.topSize = offer(n.topDocs, n.topScores, n.topSize, child.topDocs[t], child.topScores[t]);
+            }
+        }
+    }
+
+    private static int merge(Node node, int[] docs, int[] scores, int size) {
+        for (int t = 0; t < node.topSize; t++) {
+            size = offer(docs, scores, size, node.topDocs[t], node.topScores[t]);
+        }
+        return size;
+    }
+
+    // 정렬 유지 삽입 (점수 내림차순, 같으면 id 오름차순), 용량 넘치면 꼴찌 버림, 중복 문서 무시
+    private static int offer(int[] docs, int[] scores, int size, int doc, int score) {
+        for (int j = 0; j < size; j++) {
+            if (docs[j] == doc) return size;
+        }
+
+        int pos = size;
+        while (pos > 0 && before(doc, score, docs[pos - 1], scores[pos - 1])) pos--;
+        if (pos >= docs.length) return size;
+
+        int last = Math.min(size, docs.length - 1);
+        System.arraycopy(docs, pos, docs, pos + 1, last - pos);
+        System.arraycopy(scores, pos, scores, pos + 1, last - pos);
+        docs[pos] = doc;
+        scores[pos] = score;
+        return last + 1;
+    }
+
+    private static boolean before(int doc, int score, int otherDoc, int otherScore) {
+        return score > otherScore || (score == otherScore && doc < otherDoc);
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int n = Math.min(label.length(), key.length() - from);
+        int i = 0;
+        while (i < n && label.charAt(i) == key.charAt(from + i)) i++;
+        return i;
+    }
+
+    // prefix[from..] 와 label 비교: 어긋나면 -1, 아니면 맞춘 글자 수
+    private static int matchLabel(String label, String prefix, int from) {
+        int n = Math.min(label.length(), prefix.length() - from);
+        for (int i = 0; i < n; i++) {
+            if (label.charAt(i) != prefix.charAt(from + i)) return -1;
+        }
+        return n;
+    }
+
+    private static final class Node {
+        private String label;
+        private Node parent;
+
+        // 자식은 label 첫 글자 순으로 정렬 (이진 탐색)
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        // 이 노드에서 끝나는 키의 문서
+        private int[] docs = new int[0];
+        private int[] docScores = new int[0];
+        private int docCount;
+
+        // 하위 트리 상위 k
+        private final int[] topDocs;
+        private final int[] topScores;
+        private int topSize;
+
+        private Node(String label, int k) {
+            this.label = label;
+            this.topDocs = new int[k];
+            this.topScores = new int[k];
+        }
+
+        // 있으면 위치, 없으면 -(삽입 위치) - 1
+        private int childIndex(char c) {
+            int lo = 0;
+            int hi = childCount - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char m = children[mid].label.charAt(0);
+                if (m < c) lo = mid + 1;
+                else if (m > c) hi = mid - 1;
+                else return mid;
+            }
+            return -lo - 1;
+        }
+
+        private void insertChild(int pos, Node child) {
+            if (childCount == children.length) {
+                Node[] grown = new Node[Math.max(2, childCount * 2)];
+                System.arraycopy(children, 0, grown, 0, childCount);
+                children = grown;
+            }
+            System.arraycopy(children, pos, children, pos + 1, childCount - pos);
+            children[pos] = child;
+            child.parent = this;
+            childCount++;
+        }
+
+        private void removeChild(Node child) {
+            int pos = childIndex(child.label.charAt(0));
+            System.arraycopy(children, pos + 1, children, pos, childCount - pos - 1);
+            children[--childCount] = null;
+        }
+
+        private void addDoc(int doc, int score) {
+            if (docCount == docs.length) {
+                int cap = Math.max(1, docCount * 2);
+                int[] d = new int[cap];
+                int[] s = new int[cap];
+                System.arraycopy(docs, 0, d, 0, docCount);
+                System.arraycopy(docScores, 0, s, 0, docCount);
+                docs = d;
+                docScores = s;
+            }
+            docs[docCount] = doc;
+            docScores[docCount] = score;
+            docCount++;
+        }
+
+        private void removeDoc(int doc) {
+            for (int i = 0; i < docCount; i++) {
+                if (docs[i] == doc) {
+                    docCount--;
+                    docs[i] = docs[docCount];
+                    docScores[i] = docScores[docCount];
+                    return;
+                }
+            }
+        }
+
+        private void copyTop(Node other) {
+            System.arraycopy(other.topDocs, 0, topDocs, 0, other.topSize);
+            System.arraycopy(other.topScores, 0, topScores, 0, other.topSize);
+            topSize = other.topSize;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.springboot.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시도 / 시군구 사전 (이름·별칭 → 작은 정수 코드)
+ * - 시도 코드: 1 ~ 17 (아래 CTPRVN 순서)
+ * - 시군구 코드: 시도 코드 * 100 + 시도 안 순번(1부터) → 시군구 코드만 보고도 시도를 알 수 있음
+ * - 0 = 알 수 없음
+ * - 코드는 DB(festival_master.ctprvn_cd / signgu_cd)에 저장되므로 목록 중간에 끼워 넣지 말고 뒤에만 추가
+ *
+ * 별칭: "부산광역시" / "부산시" / "부산", "강원도" / "강원특별자치도" / "강원",
+ *       시군구는 "해운대구" / "해운대" (접미사 뺀 이름이 두 글자 이상일 때)
+ */
+public final class RegionDictionary {
+
+    // { 정식 명칭, 별칭..., "|", 시군구 (공백 구분) }
+    private static final String[][] CTPRVN = {
+            {"서울특별시", "서울", "서울시", "|",
+                    "종로구 중구 용산구 성동구 광진구 동대문구 중랑구 성북구 강북구 도봉구 노원구 은평구 서대문구 " +
+                    "마포구 양천구 강서구 구로구 금천구 영등포구 동작구 관악구 서초구 강남구 송파구 강동구"},
+            {"부산광역시", "부산", "부산시", "|",
+                    "중구 서구 동구 영도구 부산진구 동래구 남구 북구 해운대구 사하구 금정구 강서구 연제구 수영구 " +
+                    "사상구 기장군"},
+            {"대구광역시", "대구", "대구시", "|",
+                    "중구 동구 서구 남구 북구 수성구 달서구 달성군 군위군"},
+            {"인천광역시", "인천", "인천시", "|",
+                    "중구 동구 미추홀구 연수구 남동구 부평구 계양구 서구 강화군 옹진군"},
+            {"광주광역시", "광주", "|",
+                    "동구 서구 남구 북구 광산구"},
+            {"대전광역시", "대전", "대전시", "|",
+                    "동구 중구 서구 유성구 대덕구"},
+            {"울산광역시", "울산", "울산시", "|",
+                    "중구 남구 동구 북구 울주군"},
+            {"세종특별자치시", "세종", "세종시", "|",
+                    "세종특별자치시"},
+            {"경기도", "경기", "|",
+                    "수원시 성남시 의정부시 안양시 부천시 광명시 평택시 동두천시 안산시 고양시 과천시 구리시 " +
+                    "남양주시 오산시 시흥시 군포시 의왕시 하남시 용인시 파주시 이천시 안성시 김포시 화성시 " +
+                    "광주시 양주시 포천시 여주시 연천군 가평군 양평군"},
+            {"강원특별자치도", "강원도", "강원", "|",
+                    "춘천시 원주시 강릉시 동해시 태백시 속초시 삼척시 홍천군 횡성군 영월군 평창군 정선군 철원군 " +
+                    "화천군 양구군 인제군 고성군 양양군"},
+            {"충청북도", "충북", "|",
+                    "청주시 충주시 제천시 보은군 옥천군 영동군 증평군 진천군 괴산군 음성군 단양군"},
+            {"충청남도", "충남", "|",
+                    "천안시 공주시 보령시 아산시 서산시 논산시 계룡시 당진시 금산군 부여군 서천군 청양군 홍성군 " +
+                    "예산군 태안군"},
+            {"전북특별자치도", "전라북도", "전북", "|",
+                    "전주시 군산시 익산시 정읍시 남원시 김제시 완주군 진안군 무주군 장수군 임실군 순창군 고창군 부안군"},
+            {"전라남도", "전남", "|",
+                    "목포시 여수시 순천시 나주시 광양시 담양군 곡성군 구례군 고흥군 보성군 화순군 장흥군 강진군 " +
+                    "해남군 영암군 무안군 함평군 영광군 장성군 완도군 진도군 신안군"},
+            {"경상북도", "경북", "|",
+                    "포항시 경주시 김천시 안동시 구미시 영주시 영천시 상주시 문경시 경산시 의성군 청송군 영양군 " +
+                    "영덕군 청도군 고령군 성주군 칠곡군 예천군 봉화군 울진군 울릉군"},
+            {"경상남도", "경남", "|",
+                    "창원시 진주시 통영시 사천시 김해시 밀양시 거제시 양산시 의령군 함안군 창녕군 고성군 남해군 " +
+                    "하동군 산청군 함양군 거창군 합천군"},
+            {"제주특별자치도", "제주도", "제주", "|",
+                    "제주시 서귀포시"},
+    };
+
+    // 2023.7 경북 → 대구 편입 (예전 주소 "경상북도 군위군" 도 대구 군위군으로)
+    private static final String[][] MOVED = {
+            {"경상북도", "군위군", "대구광역시"},
+    };
+
+    private static final Map<String, Integer> ctprvnCodes = new HashMap<>();
+    private static final Map<String, Integer> signguCodes = new HashMap<>();    // "시도코드:이름"
+    private static final Map<String, Integer> uniqueSignguCodes = new HashMap<>(); // 이름 (전국 유일할 때만, 겹치면 0)
+    private static final String[] ctprvnNames = new String[CTPRVN.length + 1];
+    private static final Map<Integer, String> signguNames = new HashMap<>();
+    private static final int[] signguCounts = new int[CTPRVN.length + 1];
+
+    static {
+        for (int i = 0; i < CTPRVN.length; i++) {
+            int ctprvn = i + 1;
+            String[] entry = CTPRVN[i];
+            ctprvnNames[ctprvn] = entry[0];
+
+            int j = 0;
+            for (; !"|".equals(entry[j]); j++) {
+                ctprvnCodes.put(entry[j], ctprvn);
+            }
+
+            String[] signgus = entry[j + 1].split(" ");
+            signguCounts[ctprvn] = signgus.length;
+            for (int s = 0; s < signgus.length; s++) {
+                int code = ctprvn * 100 + s + 1;
+                signguNames.put(code, signgus[s]);
+                for (String alias : signguAliases(signgus[s])) {
+                    signguCodes.put(ctprvn + ":" + alias, code);
+                    uniqueSignguCodes.merge(alias, code, (a, b) -> 0);
+                }
+            }
+        }
+
+        for (String[] moved : MOVED) {
+            int from = ctprvnCodes.get(moved[0]);
+            int code = signguCodes.get(ctprvnCodes.get(moved[2]) + ":" + moved[1]);
+            for (String alias : signguAliases(moved[1])) {
+                signguCodes.put(from + ":" + alias, code);
+            }
+        }
+    }
+
+    private RegionDictionary() {
+    }
+
+    /**
+     * 시도 이름/별칭 → 시도 코드 (모르면 0)
+     */
+    public static int ctprvnCode(String name) {
+        if (name == null) return 0;
+        Integer code = ctprvnCodes.get(name.trim());
+        return (code == null) ? 0 : code;
+    }
+
+    /**
+     * 시도 안의 시군구 이름/별칭 → 시군구 코드 (모르면 0)
+     * - "수원시 장안구" 처럼 구가 붙어 있으면 앞 단어만 봄
+     * - 시군구가 하나뿐인 시도(세종)는 이름 없이도 그 코드
+     */
+    public static int signguCode(int ctprvnCode, String name) {
+        if (ctprvnCode <= 0 || ctprvnCode >= signguCounts.length) return 0;
+
+        String first = firstWord(name);
+        if (first != null) {
+            Integer code = signguCodes.get(ctprvnCode + ":" + first);
+            if (code != null) return code;
+        }
+        return (signguCounts[ctprvnCode] == 1) ? ctprvnCode * 100 + 1 : 0;
+    }
+
+    /**
+     * 시도/시군구 컬럼과 주소로 가장 구체적인 지역 코드 (시군구 코드 > 시도 코드 > 0)
+     * - 컬럼이 비었거나 모르는 값이면 주소 앞 두 단어("부산광역시 해운대구 ...")로 판단
+     */
+    public static int codeOf(String ctprvnNm, String signguNm, String addr1) {
+        int ctprvn = ctprvnCode(ctprvnNm);
+        int signgu = signguCode(ctprvn, signguNm);
+        if (signgu != 0) return signgu;
+
+        int fromAddr = codeOfAddress(addr1);
+        if (ctprvn == 0) return fromAddr;
+        return (ctprvnOf(fromAddr) == ctprvn) ? fromAddr : ctprvn;
+    }
+
+    /**
+     * 주소 → 가장 구체적인 지역 코드 (모르면 0)
+     */
+    public static int codeOfAddress(String addr) {
+        if (addr == null || addr.isBlank()) return 0;
+
+        String[] words = addr.trim().split("\\s+", 3);
+        int ctprvn = ctprvnCode(words[0]);
+        if (ctprvn == 0) return 0;
+
+        int signgu = signguCode(ctprvn, (words.length > 1) ? words[1] : null);
+        return (signgu != 0) ? signgu : ctprvn;
+    }
+
+    /**
+     * 사전으로 안 풀리는 지역 검색어 일치 (시도 / 시군구 / 주소 중 하나에 포함)
+     * 목록 SQL(FestivalEventQueryRepositoryImpl) 의 LIKE 조건과 같은 규칙 - 바꿀 때 같이 바꿀 것
+     */
+    public static boolean matchesText(String text, String ctprvnNm, String signguNm, String addr1) {
+        if (text == null || text.isBlank()) return true;
+        String q = text.trim();
+        return contains(ctprvnNm, q) || contains(signguNm, q) || contains(addr1, q);
+    }
+
+    private static boolean contains(String value, String q) {
+        return value != null && value.contains(q);
+    }
+
+    /**
+     * 검색 조건 문자열 → 지역 코드 (모르면 0)
+     * - "부산" → 시도 코드, "부산 해운대구" / "부산광역시 해운대" → 시군구 코드
+     * - 시도 없이 시군구만 주면 전국에서 하나뿐인 이름일 때만 ("해운대구" O, "중구" X)
+     */
+    public static int resolve(String text) {
+        if (text == null || text.isBlank()) return 0;
+
+        String[] words = text.trim().split("\\s+");
+        int ctprvn = ctprvnCode(words[0]);
+        if (ctprvn != 0) {
+            if (words.length == 1) return ctprvn;
+            Integer code = signguCodes.get(ctprvn + ":" + words[1]);
+            return (code == null) ? 0 : code;
+        }
+
+        if (words.length > 1) return 0;
+        Integer code = uniqueSignguCodes.get(words[0]);
+        return (code == null) ? 0 : code;
+    }
+
+    /**
+     * 시군구 코드인지 (아니면 시도 코드 또는 0)
+     */
+    public static boolean isSignguCode(int code) {
+        return code >= 100;
+    }
+
+    /**
+     * 지역 코드의 시도 코드
+     */
+    public static int ctprvnOf(int code) {
+        return isSignguCode(code) ? code / 100 : code;
+    }
+
+    /**
+     * 시도 정식 명칭 (모르는 코드면 null)
+     */
+    public static String ctprvnName(int ctprvnCode) {
+        return (ctprvnCode > 0 && ctprvnCode < ctprvnNames.length) ? ctprvnNames[ctprvnCode] : null;
+    }
+
+    /**
+     * 시군구 명칭 (모르는 코드면 null)
+     */
+    public static String signguName(int signguCode) {
+        return signguNames.get(signguCode);
+    }
+
+    /**
+     * 지역 코드 표시 이름 ("부산광역시", "부산광역시 해운대구", 모르는 코드면 null)
+     */
+    public static String displayName(int code) {
+        if (!isSignguCode(code)) return ctprvnName(code);
+        String signgu = signguName(code);
+        return (signgu == null) ? null : ctprvnName(ctprvnOf(code)) + " " + signgu;
+    }
+
+    // ===== helpers =====
+
+    // "해운대구" → [해운대구, 해운대], "중구" → [중구]
+    private static String[] signguAliases(String name) {
+        String stem = name.substring(0, name.length() - 1);
+        boolean suffixed = name.endsWith("시") || name.endsWith("군") || name.endsWith("구");
+        return (suffixed && stem.length() >= 2) ? new String[]{name, stem} : new String[]{name};
+    }
+
+    private static String firstWord(String s) {
+        if (s == null || s.isBlank()) return null;
+        String t = s.trim();
+        int space = t.indexOf(' ');
+        return (space < 0) ? t : t.substring(0, space);
+    }
+}
@@ -0,0 +1,109 @@
+package com.springboot.index;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 해 날짜별 축제 수 (지역별, 실제 / 예상 따로)
+ * - 지역 코드: 0 = 전국, 그 외 RegionDictionary 시도/시군구 코드
+ * - 쌓을 때는 차분 배열(시작일 +1, 종료 다음 날 -1)이라 기간 길이와 상관없이 축제당 두 칸
+ * - finish() 에서 누적합으로 short[일수] 를 만들고 차분 배열은 버림 (short 범위를 넘으면 최대값으로)
+ *
+ * finish() 뒤에는 읽기 전용 - 여러 스레드가 같이 읽어도 됨, 돌려준 배열은 수정하지 말 것
+ */
+public final class YearHeatmap {
+
+    public static final int NATIONWIDE = 0;
+
+    private final int year;
+    private final int days;
+
+    // 지역 코드 → [실제, 예상] 차분 배열 (finish 전까지)
+    private Map<Integer, int[][]> diffs = new HashMap<>();
+
+    // 지역 코드 → [실제, 예상] 날짜별 개수 (finish 후)
+    private final Map<Integer, short[][]> counts = new HashMap<>();
+
+    private final short[] zeros;
+
+    public YearHeatmap(int year) {
+        this.year = year;
+        this.days = Year.of(year).length();
+        this.zeros = new short[days];
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    /**
+     * [start, end] 기간을 전국 / 시도 / 시군구 칸에 한 번씩 반영 (올해 밖은 잘라냄)
+     */
+    public void add(int ctprvnCode, int signguCode, LocalDate start, LocalDate end, boolean expected) {
+        if (diffs == null) throw new IllegalStateException("이미 finish() 된 히트맵");
+        if (start == null || end == null || end.isBefore(start)) return;
+        if (end.getYear() < year || start.getYear() > year) return;
+
+        int from = (start.getYear() < year) ? 0 : start.getDayOfYear() - 1;
+        int to = (end.getYear() > year) ? days - 1 : end.getDayOfYear() - 1;
+        int kind = expected ? 1 : 0;
+
+        mark(NATIONWIDE, kind, from, to);
+        if (ctprvnCode > 0) mark(ctprvnCode, kind, from, to);
+        if (RegionDictionary.isSignguCode(signguCode)) mark(signguCode, kind, from, to);
+    }
+
+    /**
+     * 누적합으로 날짜별 개수 확정
+     */
+    public YearHeatmap finish() {
+        if (diffs == null) return this;
+
+        for (Map.Entry<Integer, int[][]> e : diffs.entrySet()) {
+            int[][] d = e.getValue();
+            counts.put(e.getKey(), new short[][]{prefixSum(d[0]), prefixSum(d[1])});
+        }
+        diffs = null;
+        return this;
+    }
+
+    /**
+     * 날짜별 실제 축제 수 ([dayOfYear - 1], 없는 지역이면 전부 0)
+     */
+    public short[] real(int regionCode) {
+        short[][] c = counts.get(regionCode);
+        return (c == null) ? zeros : c[0];
+    }
+
+    /**
+     * 날짜별 예상 축제 수 ([dayOfYear - 1], 없는 지역이면 전부 0)
+     */
+    public short[] expected(int regionCode) {
+        short[][] c = counts.get(regionCode);
+        return (c == null) ? zeros : c[1];
+    }
+
+    // ===== helpers =====
+
+    private void mark(int region, int kind, int from, int to) {
+        int[] d = diffs.computeIfAbsent(region, k -> new int[2][days + 1])[kind];
+        d[from]++;
+        d[to + 1]--;
+    }
+
+    private short[] prefixSum(int[] diff) {
+        short[] out = new short[days];
+        int running = 0;
+        for (int i = 0; i < days; i++) {
+            running += diff[i];
+            out[i] = (short) Math.min(running, Short.MAX_VALUE);
+        }
+        return out;
+    }
+}
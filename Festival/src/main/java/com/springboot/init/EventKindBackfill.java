@@ -0,0 +1,75 @@
+package com.springboot.init;
+
+import com.springboot.domain.FestivalEvent;
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.domain.FestivalMaster;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.repository.FestivalEventRepository;
+import com.springboot.repository.FestivalMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * kind 컬럼 추가 전에 저장된 이벤트 채우기
+ * - fcltyNm 이 "[예상]" 으로 시작하면 EXPECTED (접두어는 떼고, 같은 이름의 master 를 source 로 연결)
+ * - 나머지는 REAL (UPDATE 한 번)
+ * - 예상 축제 생성기(ApplicationReadyEvent)보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class EventKindBackfill implements CommandLineRunner {
+
+    private static final String LEGACY_PREFIX = "[예상]";
+
+    private final FestivalEventRepository eventRepository;
+    private final FestivalMasterRepository masterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        List<FestivalEvent> expected = eventRepository.findByKindIsNullAndFcltyNmStartingWith(LEGACY_PREFIX);
+
+        if (!expected.isEmpty()) {
+            Map<String, FestivalMaster> sources = sourcesByName(expected);
+            for (FestivalEvent e : expected) {
+                String name = e.getFcltyNm().substring(LEGACY_PREFIX.length()).trim();
+                e.setFcltyNm(name);
+                e.setKind(FestivalEventKind.EXPECTED);
+                e.setSourceMaster(sources.get(name));
+            }
+            eventRepository.saveAll(expected);
+            eventPublisher.publishEvent(FestivalDataChangedEvent.ofEvents(expected));
+        }
+
+        int real = eventRepository.updateKindWhereNull(FestivalEventKind.REAL);
+
+        if (!expected.isEmpty() || real > 0) {
+            log.info("[EventKind] kind 채움: 예상={}건, 실제={}건", expected.size(), real);
+        }
+    }
+
+    // 이름이 같은 master 가 여럿이면 패턴이 있는 쪽
+    private Map<String, FestivalMaster> sourcesByName(List<FestivalEvent> expected) {
+        Set<String> names = new HashSet<>();
+        for (FestivalEvent e : expected) {
+            names.add(e.getFcltyNm().substring(LEGACY_PREFIX.length()).trim());
+        }
+
+        Map<String, FestivalMaster> byName = new HashMap<>();
+        for (FestivalMaster m : masterRepository.findByFstvlNmIn(names)) {
+            byName.merge(m.getFstvlNm(), m, (a, b) -> (a.getExpectedMonth() == null) ? b : a);
+        }
+        return byName;
+    }
+}
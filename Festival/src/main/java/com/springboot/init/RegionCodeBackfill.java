@@ -0,0 +1,44 @@
+package com.springboot.init;
+
+import com.springboot.domain.FestivalMaster;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.repository.FestivalMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 지역 코드 컬럼(ctprvn_cd / signgu_cd) 추가 전에 저장된 master 채우기
+ * - 이후 저장분은 FestivalMaster 의 @PrePersist/@PreUpdate 가 계산
+ * - TourAPI 동기화보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RegionCodeBackfill implements CommandLineRunner {
+
+    private final FestivalMasterRepository masterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void run(String... args) {
+        List<FestivalMaster> masters = masterRepository.findByCtprvnCdIsNull();
+        if (masters.isEmpty()) return;
+
+        masters.forEach(FestivalMaster::refreshRegionCodes);
+        masterRepository.saveAll(masters);
+
+        eventPublisher.publishEvent(FestivalDataChangedEvent.ofMasters(
+                masters.stream().map(FestivalMaster::getId).collect(Collectors.toList())));
+
+        log.info("[RegionCode] 지역 코드 채움: master={}건", masters.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.springboot.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 응답 시간 / SQL 문 수 / 엔티티 적재 수 (Micrometer, /actuator/metrics · /actuator/prometheus)
+ * - festival.endpoint.latency    : 응답 시간 히스토그램
+ * - festival.endpoint.statements : 요청당 SQL 문 수 (N+1 이면 여기서 튐)
+ * - festival.endpoint.entities   : 요청당 엔티티로 채운 행 수
+ * - 태그 endpoint 는 매핑 패턴("/festivals/{id}") 이라 id 마다 늘어나지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EndpointMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTR = EndpointMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTR, System.nanoTime());
+        RequestQueryStats.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        RequestQueryStats stats = RequestQueryStats.end();
+        Object start = request.getAttribute(START_ATTR);
+        if (stats == null || !(start instanceof Long)) return;
+
+        long elapsed = System.nanoTime() - (Long) start;
+        String endpoint = endpoint(request);
+        String method = request.getMethod();
+        String status = String.valueOf(response.getStatus());
+
+        Timer.builder("festival.endpoint.latency")
+                .tags("endpoint", endpoint, "method", method, "status", status)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("festival.endpoint.statements")
+                .tags("endpoint", endpoint, "method", method)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getStatements());
+
+        DistributionSummary.builder("festival.endpoint.entities")
+                .tags("endpoint", endpoint, "method", method)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.getEntities());
+
+        log.debug("[Metrics] {} {} → {} {}ms, SQL {}건, 엔티티 {}건",
+                method, endpoint, status, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                stats.getStatements(), stats.getEntities());
+    }
+
+    // 매핑 패턴 (매핑 못 찾은 요청은 하나로 묶음)
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return (pattern == null) ? "UNMAPPED" : pattern.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.springboot.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티가 하나 채워질 때마다(PostLoad) 현재 요청의 적재 행 수를 셈
+ * - DTO 생성자 projection 결과는 엔티티가 아니므로 세지 않음 (SQL 문 수에는 잡힘)
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityLoadCounter implements PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getEventListenerRegistry()
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats.entityLoaded();
+    }
+}
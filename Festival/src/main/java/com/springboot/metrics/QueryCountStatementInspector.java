@@ -0,0 +1,16 @@
+package com.springboot.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 SQL 을 준비할 때마다 현재 요청의 SQL 문 수를 셈 (SQL 은 그대로 돌려줌)
+ * - spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.statementExecuted();
+        return sql;
+    }
+}
@@ -0,0 +1,48 @@
+package com.springboot.metrics;
+
+/**
+ * 요청 하나 동안 실행된 SQL 문 수 / 엔티티로 읽어 들인 행 수 (스레드별)
+ * - EndpointMetricsInterceptor 가 요청 시작 때 begin, 끝날 때 end
+ * - 요청 밖(스케줄러, 초기 적재 등)에서 실행된 SQL 은 세지 않음
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entities;
+
+    private RequestQueryStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new RequestQueryStats());
+    }
+
+    /**
+     * 현재 요청 집계를 떼어 냄 (시작 안 했으면 null)
+     */
+    public static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void statementExecuted() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) stats.statements++;
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) stats.entities++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntities() {
+        return entities;
+    }
+}
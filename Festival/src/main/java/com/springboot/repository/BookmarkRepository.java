@@ -3,9 +3,14 @@ package com.springboot.repository;
 import com.springboot.domain.Bookmark;
 import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.Member;
+import com.springboot.dto.FestivalIcsRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +28,15 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     
     // 특정 회원의 북마크 개수
     long countByMember(Member member);
+
+    // 특정 회원의 북마크 iCalendar 피드용 ((시작일, id) 키셋 페이지)
+    @Query("SELECT new com.springboot.dto.FestivalIcsRow(e.id, e.fcltyNm, e.kind, m.fstvlNm, m.addr1, e.fstvlStart, e.fstvlEnd) " +
+           "FROM Bookmark b JOIN b.event e LEFT JOIN e.master m " +
+           "WHERE b.member.id = :memberId AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL " +
+           "AND (e.fstvlStart > :afterStart OR (e.fstvlStart = :afterStart AND e.id > :afterId)) " +
+           "ORDER BY e.fstvlStart, e.id")
+    List<FestivalIcsRow> findIcsRowsByMemberId(@Param("memberId") Long memberId,
+                                               @Param("afterStart") LocalDate afterStart,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.springboot.repository;
+
+import com.springboot.domain.FestivalEvent;
+import com.springboot.dto.FestivalListCondition;
+import com.springboot.dto.FestivalListRow;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 동적 조건 조회 (Criteria API) - FestivalEventRepository 에 합쳐서 사용
+ */
+public interface FestivalEventQueryRepository {
+
+    // 목록 화면 조회 (상태 → 시작일 → id 순, condition.cursor 다음부터 condition.limit 건)
+    // condition.eventIds 가 많으면 IN 조건을 나눠서 조회
+    List<FestivalListRow> findListRows(FestivalListCondition condition);
+
+    // id 목록으로 조회 (인덱스 조회 결과 로딩용, master 같이, IN 조건은 나눠서) - 순서 보장 없음
+    List<FestivalEvent> findAllWithMasterByIdIn(Collection<Long> ids);
+}
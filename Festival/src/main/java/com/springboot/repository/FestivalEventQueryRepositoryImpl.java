@@ -0,0 +1,254 @@
+package com.springboot.repository;
+
+import com.springboot.domain.FestivalEvent;
+import com.springboot.domain.FestivalMaster;
+import com.springboot.domain.FestivalStatus;
+import com.springboot.dto.FestivalListCondition;
+import com.springboot.dto.FestivalListCursor;
+import com.springboot.dto.FestivalListRow;
+import com.springboot.index.RegionDictionary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class FestivalEventQueryRepositoryImpl implements FestivalEventQueryRepository {
+
+    // id IN 조건 한 번에 넣는 최대 개수 (넘으면 나눠서 조회, 목록은 정렬 순서대로 합침)
+    private static final int ID_CHUNK = 1000;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<FestivalListRow> findListRows(FestivalListCondition condition) {
+        Collection<Long> ids = condition.getEventIds();
+        if (ids == null || ids.size() <= ID_CHUNK) return findListRowsOnce(condition);
+
+        // 조각마다 같은 cursor / limit 로 앞쪽만 받으면 전체 앞쪽 limit 건은 그 합집합 안에 있음
+        List<Long> sorted = ids.stream().sorted().toList();
+        List<FestivalListRow> merged = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += ID_CHUNK) {
+            List<Long> chunk = sorted.subList(from, Math.min(sorted.size(), from + ID_CHUNK));
+            merged.addAll(findListRowsOnce(condition.toBuilder().eventIds(chunk).build()));
+        }
+
+        LocalDate today = (condition.getToday() != null) ? condition.getToday() : LocalDate.now();
+        merged.sort(listOrder(condition, today));
+        Integer limit = condition.getLimit();
+        return (limit == null || merged.size() <= limit) ? merged : new ArrayList<>(merged.subList(0, limit));
+    }
+
+    @Override
+    public List<FestivalEvent> findAllWithMasterByIdIn(Collection<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<FestivalEvent> result = new ArrayList<>(list.size());
+        for (int from = 0; from < list.size(); from += ID_CHUNK) {
+            List<Long> chunk = list.subList(from, Math.min(list.size(), from + ID_CHUNK));
+            result.addAll(em.createQuery(
+                            "SELECT e FROM FestivalEvent e LEFT JOIN FETCH e.master m WHERE e.id IN :ids",
+                            FestivalEvent.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+        }
+        return result;
+    }
+
+    private List<FestivalListRow> findListRowsOnce(FestivalListCondition condition) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<FestivalListRow> cq = cb.createQuery(FestivalListRow.class);
+
+        Root<FestivalEvent> e = cq.from(FestivalEvent.class);
+        Join<FestivalEvent, FestivalMaster> m = e.join("master", JoinType.LEFT);
+
+        cq.select(cb.construct(FestivalListRow.class,
+                e.get("id"),
+                m.get("id"),
+                e.get("fcltyNm"),
+                e.get("kind"),
+                m.get("fstvlNm"),
+                m.get("ctprvnNm"),
+                m.get("signguNm"),
+                m.get("signguCd"),
+                m.get("addr1"),
+                m.get("firstImageUrl"),
+                m.get("mapX"),
+                m.get("mapY"),
+                e.get("fstvlStart"),
+                e.get("fstvlEnd")
+        ));
+
+        LocalDate today = (condition.getToday() != null) ? condition.getToday() : LocalDate.now();
+        Expression<Integer> rank = statusRank(cb, e, today);
+        Expression<Integer> tier = scoreTier(cb, e, condition);
+
+        List<Predicate> where = listPredicates(cb, e, m, condition);
+        if (condition.getCursor() != null) {
+            where.add(after(cb, rank, tier, e, condition.getCursor()));
+        }
+        cq.where(where.toArray(new Predicate[0]));
+
+        List<Order> order = new ArrayList<>();
+        order.add(cb.asc(rank));
+        if (tier != null) order.add(cb.asc(tier));
+        order.add(cb.asc(e.get("fstvlStart")));
+        order.add(cb.asc(e.get("id")));
+        cq.orderBy(order);
+
+        TypedQuery<FestivalListRow> query = em.createQuery(cq);
+        if (condition.getLimit() != null) {
+            query.setMaxResults(condition.getLimit());
+        }
+        return query.getResultList();
+    }
+
+    // ===== helpers =====
+
+    private List<Predicate> listPredicates(CriteriaBuilder cb,
+                                           Root<FestivalEvent> e,
+                                           Join<FestivalEvent, FestivalMaster> m,
+                                           FestivalListCondition c) {
+        List<Predicate> where = new ArrayList<>();
+
+        Path<LocalDate> start = e.get("fstvlStart");
+        Path<LocalDate> end = e.get("fstvlEnd");
+
+        // 기간 겹침
+        if (c.getRangeStart() != null) where.add(cb.greaterThanOrEqualTo(end, c.getRangeStart()));
+        if (c.getRangeEnd() != null) where.add(cb.lessThanOrEqualTo(start, c.getRangeEnd()));
+
+        // 지역: 사전에 있는 시도/시군구면 코드 비교, 아니면 시도 / 시군구 / 주소 포함 (RegionDictionary.matchesText 와 같은 규칙)
+        if (c.getRegion() != null && !c.getRegion().isBlank()) {
+            int code = RegionDictionary.resolve(c.getRegion());
+            if (RegionDictionary.isSignguCode(code)) {
+                where.add(cb.equal(m.get("signguCd"), code));
+            } else if (code != 0) {
+                where.add(cb.equal(m.get("ctprvnCd"), code));
+            } else {
+                String like = "%" + escapeLike(c.getRegion().trim()) + "%";
+                where.add(cb.or(
+                        cb.like(m.get("ctprvnNm"), like, '\\'),
+                        cb.like(m.get("signguNm"), like, '\\'),
+                        cb.like(m.get("addr1"), like, '\\')
+                ));
+            }
+        }
+
+        // 상태
+        if (c.getStatus() != null) {
+            LocalDate today = (c.getToday() != null) ? c.getToday() : LocalDate.now();
+            where.add(statusPredicate(cb, start, end, c.getStatus(), today));
+        }
+
+        // 검색 인덱스 후보
+        if (c.getEventIds() != null) {
+            where.add(e.get("id").in(c.getEventIds()));
+        }
+
+        if (c.isMasterOnly()) {
+            where.add(cb.isNotNull(m.get("id")));
+        }
+
+        return where;
+    }
+
+    private Predicate statusPredicate(CriteriaBuilder cb, Path<LocalDate> start, Path<LocalDate> end,
+                                      FestivalStatus status, LocalDate today) {
+        return switch (status) {
+            case ONGOING -> cb.and(
+                    cb.lessThanOrEqualTo(start, today),
+                    cb.greaterThanOrEqualTo(end, today));
+            case UPCOMING -> cb.greaterThan(start, today);
+            case PAST -> cb.lessThan(end, today);
+        };
+    }
+
+    // (rank, tier, start, id) > cursor (tier 가 null 이면 관련도 비교 없음)
+    private Predicate after(CriteriaBuilder cb, Expression<Integer> rank, Expression<Integer> tier,
+                            Root<FestivalEvent> e, FestivalListCursor cursor) {
+        Path<LocalDate> start = e.get("fstvlStart");
+        Path<Long> id = e.get("id");
+
+        Predicate afterStart = cb.or(
+                cb.greaterThan(start, cursor.getFstvlStart()),
+                cb.and(
+                        cb.equal(start, cursor.getFstvlStart()),
+                        cb.greaterThan(id, cursor.getId())
+                )
+        );
+        Predicate afterTier = (tier == null) ? afterStart : cb.or(
+                cb.greaterThan(tier, cursor.getScoreTier()),
+                cb.and(
+                        cb.equal(tier, cursor.getScoreTier()),
+                        afterStart
+                )
+        );
+
+        return cb.or(
+                cb.greaterThan(rank, cursor.getStatusRank()),
+                cb.and(
+                        cb.equal(rank, cursor.getStatusRank()),
+                        afterTier
+                )
+        );
+    }
+
+    // findListRows 정렬 (statusRank → 관련도 순위 → 시작일 → id, 시작일 null 은 DB 와 같이 앞)
+    private static Comparator<FestivalListRow> listOrder(FestivalListCondition condition, LocalDate today) {
+        return Comparator
+                .comparingInt((FestivalListRow r) -> statusRank(r.getFstvlStart(), r.getFstvlEnd(), today))
+                .thenComparingInt(r -> condition.scoreTier(r.getId()))
+                .thenComparing(FestivalListRow::getFstvlStart, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(FestivalListRow::getId);
+    }
+
+    // 키워드 관련도 순위 (조건에 scoreTiers 가 없으면 null)
+    // 이번 조회 후보(eventIds, 나눠서 조회하면 그 조각)만 순위별 IN 으로 묶음
+    private Expression<Integer> scoreTier(CriteriaBuilder cb, Root<FestivalEvent> e, FestivalListCondition c) {
+        Map<Long, Integer> tiers = c.getScoreTiers();
+        if (tiers == null) return null;
+
+        Collection<Long> ids = (c.getEventIds() != null) ? c.getEventIds() : tiers.keySet();
+        TreeMap<Integer, List<Long>> byTier = new TreeMap<>();
+        for (Long id : ids) {
+            Integer t = tiers.get(id);
+            if (t != null) byTier.computeIfAbsent(t, k -> new ArrayList<>()).add(id);
+        }
+
+        CriteriaBuilder.Case<Integer> tier = cb.selectCase();
+        for (Map.Entry<Integer, List<Long>> entry : byTier.entrySet()) {
+            tier = tier.when(e.get("id").in(entry.getValue()), entry.getKey());
+        }
+        return tier.otherwise(FestivalListCondition.UNRANKED_TIER);
+    }
+
+    private static int statusRank(LocalDate start, LocalDate end, LocalDate today) {
+        if (start == null || end == null) return 2;
+        if (!start.isAfter(today) && !end.isBefore(today)) return 0;
+        return start.isAfter(today) ? 1 : 2;
+    }
+
+    // 진행 중 0, 예정 1, 종료 2
+    private Expression<Integer> statusRank(CriteriaBuilder cb, Root<FestivalEvent> e, LocalDate today) {
+        Path<LocalDate> start = e.get("fstvlStart");
+        Path<LocalDate> end = e.get("fstvlEnd");
+
+        return cb.<Integer>selectCase()
+                .when(cb.and(cb.lessThanOrEqualTo(start, today), cb.greaterThanOrEqualTo(end, today)), 0)
+                .when(cb.greaterThan(start, today), 1)
+                .otherwise(2);
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,17 +1,32 @@
 package com.springboot.repository;
 
 import com.springboot.domain.FestivalEvent;
+import com.springboot.domain.FestivalEventKind;
 import com.springboot.domain.FestivalMaster;
+import com.springboot.dto.FestivalCalendarRow;
+import com.springboot.dto.FestivalDistrictRow;
+import com.springboot.dto.FestivalFacetRow;
+import com.springboot.dto.FestivalGeoRow;
+import com.springboot.dto.FestivalIcsRow;
+import com.springboot.dto.FestivalIntervalRow;
+import com.springboot.dto.FestivalPatternRow;
+import com.springboot.dto.FestivalSearchEventRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface FestivalEventRepository extends JpaRepository<FestivalEvent, Long> {
+public interface FestivalEventRepository extends JpaRepository<FestivalEvent, Long>, FestivalEventQueryRepository {
 
     // 진행 중인 축제 조회
     @Query("SELECT e FROM FestivalEvent e " +
@@ -33,14 +48,16 @@ public interface FestivalEventRepository extends JpaRepository<FestivalEvent, Lo
     @Query("SELECT e FROM FestivalEvent e " +
            "LEFT JOIN FETCH e.master m " +
            "WHERE e.fstvlEnd >= :start AND e.fstvlStart <= :end " +
+           "AND (e.fstvlStart > :afterStart OR (e.fstvlStart = :afterStart AND e.id > :afterId)) " +
            "ORDER BY e.fstvlStart")
     List<FestivalEvent> findOverlapping(@Param("start") LocalDate start,
                                         @Param("end") LocalDate end);
 
-    // fcltyNm으로 검색 (FestivalPatternService용)
+    // fcltyNm으로 검색 (FestivalPatternService용 - 실제 회차만)
     @Query("SELECT e FROM FestivalEvent e " +
            "LEFT JOIN FETCH e.master m " +
            "WHERE e.fcltyNm LIKE %:keyword% " +
+           "AND e.kind = com.springboot.domain.FestivalEventKind.REAL " +
            "ORDER BY e.fstvlStart ASC")
     List<FestivalEvent> findByFcltyNmContaining(@Param("keyword") String keyword);
 
@@ -55,12 +72,190 @@ public interface FestivalEventRepository extends JpaRepository<FestivalEvent, Lo
     @Query("SELECT e FROM FestivalEvent e LEFT JOIN FETCH e.master WHERE e.master = :master ORDER BY e.fstvlStart ASC")
     List<FestivalEvent> findByMaster(@Param("master") FestivalMaster master);
 
+    // 여러 Master의 이벤트 한 번에 조회 (패턴 일괄 분석용)
+    @Query("SELECT e FROM FestivalEvent e JOIN e.master m WHERE m.id IN :masterIds ORDER BY e.fstvlStart ASC")
+    List<FestivalEvent> findByMasterIdIn(@Param("masterIds") Collection<Long> masterIds);
+
+    // 여러 Master의 패턴 분석용 회차 전체 (증분 분석용)
+    @Query("SELECT new com.springboot.dto.FestivalPatternRow(m.id, m.fstvlNm, m.ctprvnNm, m.signguNm, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE m.id IN :masterIds AND e.fstvlStart IS NOT NULL " +
+           "ORDER BY m.id, e.fstvlStart")
+    List<FestivalPatternRow> findAllPatternRowsByMasterIdIn(@Param("masterIds") Collection<Long> masterIds);
+
+    // 패턴 일괄 분석용 (실제 회차 전체, master 순 커서 - 읽기 트랜잭션 안에서 닫을 것)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.springboot.dto.FestivalPatternRow(m.id, m.fstvlNm, m.ctprvnNm, m.signguNm, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE e.fstvlStart IS NOT NULL " +
+           "ORDER BY m.id, e.fstvlStart")
+    Stream<FestivalPatternRow> streamPatternRows();
+
     Optional<FestivalEvent> findTopByOrderByFstvlStartDesc();
 
-    // 중복 체크용 메서드 (예상 축제 저장 전 확인)
-    boolean existsByFcltyNmAndFstvlStartAndFstvlEnd(
-        String fcltyNm,
-        LocalDate fstvlStart,
-        LocalDate fstvlEnd
-    );
+    // 특정 source master 들의 예상 회차 (기간이 겹치는 것, 증분 갱신용)
+    @Query("SELECT e FROM FestivalEvent e JOIN FETCH e.sourceMaster s " +
+           "WHERE e.kind = com.springboot.domain.FestivalEventKind.EXPECTED " +
+           "AND s.id IN :masterIds AND e.fstvlEnd >= :start AND e.fstvlStart <= :end")
+    List<FestivalEvent> findExpectedBySourceMasterIdInOverlapping(@Param("masterIds") Collection<Long> masterIds,
+                                                                  @Param("start") LocalDate start,
+                                                                  @Param("end") LocalDate end);
+
+    // 종류별 가장 늦게 시작하는 회차 (실제 데이터 최신 연도 확인용)
+    Optional<FestivalEvent> findTopByKindOrderByFstvlStartDesc(FestivalEventKind kind);
+
+    // 종류별 기간이 겹치는 회차 수 (idx_event_kind_dates)
+    @Query("SELECT COUNT(e) FROM FestivalEvent e " +
+           "WHERE e.kind = :kind AND e.fstvlEnd >= :start AND e.fstvlStart <= :end")
+    long countByKindOverlapping(@Param("kind") FestivalEventKind kind,
+                                @Param("start") LocalDate start,
+                                @Param("end") LocalDate end);
+
+    // 종류별 기간이 겹치는 회차 id (예상 축제 삭제용)
+    @Query("SELECT e.id FROM FestivalEvent e " +
+           "WHERE e.kind = :kind AND e.fstvlEnd >= :start AND e.fstvlStart <= :end")
+    List<Long> findIdsByKindOverlapping(@Param("kind") FestivalEventKind kind,
+                                        @Param("start") LocalDate start,
+                                        @Param("end") LocalDate end);
+
+    // 같은 master 에서 같은 기간으로 만든 예상 회차가 있는지 (중복 저장 방지)
+    boolean existsBySourceMasterAndFstvlStartAndFstvlEnd(FestivalMaster sourceMaster,
+                                                         LocalDate fstvlStart,
+                                                         LocalDate fstvlEnd);
+
+    // kind 컬럼 추가 전 데이터 채우기용
+    List<FestivalEvent> findByKindIsNullAndFcltyNmStartingWith(String prefix);
+
+    @Modifying
+    @Query("UPDATE FestivalEvent e SET e.kind = :kind WHERE e.kind IS NULL")
+    int updateKindWhereNull(@Param("kind") FestivalEventKind kind);
+
+
+    // 인터벌 인덱스 전체 적재용
+    @Query("SELECT new com.springboot.dto.FestivalIntervalRow(e.id, m.id, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m " +
+           "WHERE e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalIntervalRow> findAllIntervalRows();
+
+    // 인터벌 인덱스 변경분 적재용
+    @Query("SELECT new com.springboot.dto.FestivalIntervalRow(e.id, m.id, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m " +
+           "WHERE e.id IN :ids AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalIntervalRow> findIntervalRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 인덱스 전체 적재용
+    @Query("SELECT new com.springboot.dto.FestivalSearchEventRow(e.id, m.id, e.fcltyNm) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m")
+    List<FestivalSearchEventRow> findAllSearchRows();
+
+    // 검색 인덱스 변경분 적재용
+    @Query("SELECT new com.springboot.dto.FestivalSearchEventRow(e.id, m.id, e.fcltyNm) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m WHERE e.id IN :ids")
+    List<FestivalSearchEventRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 혼잡도 테이블 전체 적재용
+    @Query("SELECT new com.springboot.dto.FestivalDistrictRow(e.id, m.signguCd, m.ctprvnNm, m.signguNm, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalDistrictRow> findAllDistrictRows();
+
+    // 혼잡도 테이블 변경분 적재용 (이벤트 단위)
+    @Query("SELECT new com.springboot.dto.FestivalDistrictRow(e.id, m.signguCd, m.ctprvnNm, m.signguNm, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE e.id IN :ids AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalDistrictRow> findDistrictRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 혼잡도 테이블 변경분 적재용 (master 주소 변경)
+    @Query("SELECT new com.springboot.dto.FestivalDistrictRow(e.id, m.signguCd, m.ctprvnNm, m.signguNm, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE m.id IN :masterIds AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalDistrictRow> findDistrictRowsByMasterIdIn(@Param("masterIds") Collection<Long> masterIds);
+
+    // 지도 공간 인덱스 전체 적재용 (좌표 있는 master 의 이벤트)
+    @Query("SELECT new com.springboot.dto.FestivalGeoRow(e.id, m.fstvlNm, m.mapX, m.mapY, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE m.mapX IS NOT NULL AND m.mapY IS NOT NULL " +
+           "AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalGeoRow> findAllGeoRows();
+
+    // 지도 공간 인덱스 변경분 적재용 (이벤트 단위)
+    @Query("SELECT new com.springboot.dto.FestivalGeoRow(e.id, m.fstvlNm, m.mapX, m.mapY, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE e.id IN :ids AND m.mapX IS NOT NULL AND m.mapY IS NOT NULL " +
+           "AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalGeoRow> findGeoRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 회차 id → 소속 master id (자동완성 인기도 갱신용)
+    @Query("SELECT DISTINCT e.master.id FROM FestivalEvent e WHERE e.id IN :ids AND e.master IS NOT NULL")
+    List<Long> findMasterIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 지도 공간 인덱스 변경분 적재용 (master 좌표 변경) - 좌표가 지워진 경우를 위해 조건 없이 id 만
+    @Query("SELECT e.id FROM FestivalEvent e WHERE e.master.id IN :masterIds")
+    List<Long> findIdsByMasterIdIn(@Param("masterIds") Collection<Long> masterIds);
+
+    // 패싯 인덱스 전체 적재용
+    @Query("SELECT new com.springboot.dto.FestivalFacetRow(e.id, m.id, e.fcltyNm, e.kind, m.ctprvnNm, m.signguNm, m.addr1, m.ctprvnCd, m.signguCd, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m")
+    List<FestivalFacetRow> findAllFacetRows();
+
+    // 패싯 인덱스 변경분 적재용 (이벤트 단위)
+    @Query("SELECT new com.springboot.dto.FestivalFacetRow(e.id, m.id, e.fcltyNm, e.kind, m.ctprvnNm, m.signguNm, m.addr1, m.ctprvnCd, m.signguCd, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m WHERE e.id IN :ids")
+    List<FestivalFacetRow> findFacetRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 패싯 인덱스 변경분 적재용 (master 주소 변경)
+    @Query("SELECT new com.springboot.dto.FestivalFacetRow(e.id, m.id, e.fcltyNm, e.kind, m.ctprvnNm, m.signguNm, m.addr1, m.ctprvnCd, m.signguCd, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m WHERE m.id IN :masterIds")
+    List<FestivalFacetRow> findFacetRowsByMasterIdIn(@Param("masterIds") Collection<Long> masterIds);
+
+    // 연간 히트맵 적재용 (기간이 겹치는 이벤트)
+    @Query("SELECT new com.springboot.dto.FestivalFacetRow(e.id, m.id, e.fcltyNm, e.kind, m.ctprvnNm, m.signguNm, m.addr1, m.ctprvnCd, m.signguCd, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m " +
+           "WHERE e.fstvlEnd >= :start AND e.fstvlStart <= :end")
+    List<FestivalFacetRow> findFacetRowsOverlapping(@Param("start") LocalDate start,
+                                                    @Param("end") LocalDate end);
+
+    // 캘린더 월 스냅샷 적재용
+    @Query("SELECT new com.springboot.dto.FestivalCalendarRow(e.id, m.id, e.fcltyNm, e.kind, m.fstvlNm, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m " +
+           "WHERE e.id IN :ids AND e.fstvlStart IS NOT NULL AND e.fstvlEnd IS NOT NULL")
+    List<FestivalCalendarRow> findCalendarRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // iCalendar 피드용 (기간이 겹치는 축제, (시작일, id) 키셋 페이지)
+    @Query("SELECT new com.springboot.dto.FestivalIcsRow(e.id, e.fcltyNm, e.kind, m.fstvlNm, m.addr1, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e LEFT JOIN e.master m " +
+           "WHERE e.fstvlEnd >= :start AND e.fstvlStart <= :end " +
+           "AND (e.fstvlStart > :afterStart OR (e.fstvlStart = :afterStart AND e.id > :afterId)) " +
+           "ORDER BY e.fstvlStart, e.id")
+    List<FestivalIcsRow> findIcsRows(@Param("start") LocalDate start,
+                                     @Param("end") LocalDate end,
+                                     @Param("afterStart") LocalDate afterStart,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    // iCalendar 지역 피드용 (시도 코드, 키셋 페이지)
+    @Query("SELECT new com.springboot.dto.FestivalIcsRow(e.id, e.fcltyNm, e.kind, m.fstvlNm, m.addr1, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE m.ctprvnCd = :ctprvnCd AND e.fstvlEnd >= :start AND e.fstvlStart <= :end " +
+           "AND (e.fstvlStart > :afterStart OR (e.fstvlStart = :afterStart AND e.id > :afterId)) " +
+           "ORDER BY e.fstvlStart, e.id")
+    List<FestivalIcsRow> findIcsRowsByCtprvn(@Param("ctprvnCd") Integer ctprvnCd,
+                                             @Param("start") LocalDate start,
+                                             @Param("end") LocalDate end,
+                                             @Param("afterStart") LocalDate afterStart,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    // iCalendar 지역 피드용 (시군구 코드, 키셋 페이지)
+    @Query("SELECT new com.springboot.dto.FestivalIcsRow(e.id, e.fcltyNm, e.kind, m.fstvlNm, m.addr1, e.fstvlStart, e.fstvlEnd) " +
+           "FROM FestivalEvent e JOIN e.master m " +
+           "WHERE m.signguCd = :signguCd AND e.fstvlEnd >= :start AND e.fstvlStart <= :end " +
+           "AND (e.fstvlStart > :afterStart OR (e.fstvlStart = :afterStart AND e.id > :afterId)) " +
+           "ORDER BY e.fstvlStart, e.id")
+    List<FestivalIcsRow> findIcsRowsBySigngu(@Param("signguCd") Integer signguCd,
+                                             @Param("start") LocalDate start,
+                                             @Param("end") LocalDate end,
+                                             @Param("afterStart") LocalDate afterStart,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
 }
\ No newline at end of file
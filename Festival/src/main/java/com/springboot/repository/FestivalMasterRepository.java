@@ -1,11 +1,55 @@
 package com.springboot.repository;
 
 import com.springboot.domain.FestivalMaster;
+import com.springboot.dto.FestivalMasterVersionRow;
+import com.springboot.dto.FestivalSearchMasterRow;
+import com.springboot.dto.FestivalSuggestRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FestivalMasterRepository extends JpaRepository<FestivalMaster, Long> {
     
     Optional<FestivalMaster> findByTourApiContentId(Long tourApiContentId);
-}
\ No newline at end of file
+
+    // 지역 코드가 아직 계산되지 않은 master (컬럼 추가 전 데이터)
+    List<FestivalMaster> findByCtprvnCdIsNull();
+
+    // 예상 회차의 source master 채우기용 (이름으로 찾기)
+    List<FestivalMaster> findByFstvlNmIn(Collection<String> names);
+
+    // 패턴 증분 분석용 (master 전체의 이름 + 버전만)
+    @Query("SELECT new com.springboot.dto.FestivalMasterVersionRow(m.id, m.fstvlNm, m.eventVersion, m.patternVersion, m.patternNameKey) " +
+           "FROM FestivalMaster m")
+    List<FestivalMasterVersionRow> findAllVersionRows();
+
+    // 검색 인덱스 전체 적재용
+    @Query("SELECT new com.springboot.dto.FestivalSearchMasterRow(m.id, m.fstvlNm, m.ctprvnNm, m.signguNm, m.addr1, m.overview) " +
+           "FROM FestivalMaster m")
+    List<FestivalSearchMasterRow> findAllSearchRows();
+
+    // 검색 인덱스 변경분 적재용
+    @Query("SELECT new com.springboot.dto.FestivalSearchMasterRow(m.id, m.fstvlNm, m.ctprvnNm, m.signguNm, m.addr1, m.overview) " +
+           "FROM FestivalMaster m WHERE m.id IN :ids")
+    List<FestivalSearchMasterRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 자동완성 인덱스 전체 적재용 (최근 회차 시작일, 북마크/리뷰 수 포함)
+    @Query("SELECT new com.springboot.dto.FestivalSuggestRow(m.id, m.fstvlNm, " +
+           "(SELECT MAX(e.fstvlStart) FROM FestivalEvent e WHERE e.master = m), " +
+           "(SELECT COUNT(b) FROM Bookmark b WHERE b.event.master = m), " +
+           "(SELECT COUNT(r) FROM FestivalReview r WHERE r.event.master = m)) " +
+           "FROM FestivalMaster m")
+    List<FestivalSuggestRow> findAllSuggestRows();
+
+    // 자동완성 인덱스 변경분 적재용
+    @Query("SELECT new com.springboot.dto.FestivalSuggestRow(m.id, m.fstvlNm, " +
+           "(SELECT MAX(e.fstvlStart) FROM FestivalEvent e WHERE e.master = m), " +
+           "(SELECT COUNT(b) FROM Bookmark b WHERE b.event.master = m), " +
+           "(SELECT COUNT(r) FROM FestivalReview r WHERE r.event.master = m)) " +
+           "FROM FestivalMaster m WHERE m.id IN :ids")
+    List<FestivalSuggestRow> findSuggestRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,7 @@
+package com.springboot.repository;
+
+import com.springboot.domain.FestivalPattern;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FestivalPatternRepository extends JpaRepository<FestivalPattern, String> {
+}
@@ -0,0 +1,7 @@
+package com.springboot.repository;
+
+import com.springboot.domain.FestivalPatternRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FestivalPatternRunRepository extends JpaRepository<FestivalPatternRun, Long> {
+}
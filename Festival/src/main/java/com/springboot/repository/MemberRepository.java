@@ -2,6 +2,8 @@ package com.springboot.repository;
 
 import com.springboot.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +12,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 북마크 캘린더 구독 토큰 → 회원 id
+    @Query("SELECT m.id FROM Member m WHERE m.calendarToken = :token")
+    Optional<Long> findIdByCalendarToken(@Param("token") String token);
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package com.springboot.service;
 import com.springboot.domain.Bookmark;
 import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.Member;
+import com.springboot.event.FestivalBookmarkChangedEvent;
 import com.springboot.repository.BookmarkRepository;
 import com.springboot.repository.FestivalEventRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final FestivalEventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 북마크 추가
     @Transactional
@@ -34,7 +37,9 @@ public class BookmarkService {
         bookmark.setMember(member);
         bookmark.setEvent(event);
 
-        return bookmarkRepository.save(bookmark);
+        Bookmark saved = bookmarkRepository.save(bookmark);
+        eventPublisher.publishEvent(new FestivalBookmarkChangedEvent(member.getId(), eventId));
+        return saved;
     }
 
     // 북마크 제거
@@ -47,6 +52,7 @@ public class BookmarkService {
                 .orElseThrow(() -> new IllegalArgumentException("북마크를 찾을 수 없습니다."));
 
         bookmarkRepository.delete(bookmark);
+        eventPublisher.publishEvent(new FestivalBookmarkChangedEvent(member.getId(), eventId));
     }
 
     // 북마크 ID로 제거
@@ -61,6 +67,7 @@ public class BookmarkService {
         }
 
         bookmarkRepository.delete(bookmark);
+        eventPublisher.publishEvent(new FestivalBookmarkChangedEvent(member.getId(), bookmark.getEvent().getId()));
     }
 
     // 북마크 여부 확인
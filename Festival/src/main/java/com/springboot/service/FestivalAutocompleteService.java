@@ -0,0 +1,230 @@
+package com.springboot.service;
+
+import com.springboot.dto.FestivalSuggestRow;
+import com.springboot.dto.FestivalSuggestion;
+import com.springboot.event.FestivalBookmarkChangedEvent;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.event.FestivalReviewChangedEvent;
+import com.springboot.index.HangulText;
+import com.springboot.index.PendingChanges;
+import com.springboot.index.PrefixTrie;
+import com.springboot.repository.FestivalEventRepository;
+import com.springboot.repository.FestivalMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 축제명 자동완성 (인메모리 압축 트라이)
+ * - FestivalMaster.fstvlNm 을 정규화한 키와 초성 투영 키("ㄱㄹㅋㅍㅊㅈ")를 각각 트라이로 색인
+ * - "강릉ㅋ", "강릉컾" 처럼 마지막 글자를 치는 중인 입력은 마지막 글자의 초성으로 한 단계 더 펼침
+ * - 순위: 인기도(북마크 + 리뷰 수) × POPULARITY_DAYS + 최근 회차 시작일 (같으면 master id 오름차순)
+ * - 첫 조회 시 전체 적재, 이후 FestivalDataChangedEvent 로 들어온 master id만 다시 읽어 반영
+ * - 리뷰/북마크가 바뀌면 그 회차의 master 를 다시 읽어 인기도 점수만 새로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalAutocompleteService {
+
+    // 노드마다 들고 있는 상위 개수 = 한 번에 돌려줄 수 있는 최대 개수
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // 북마크/리뷰 1건 = 최근 회차 시작일 90일 차이
+    private static final int POPULARITY_DAYS = 90;
+    private static final long RECENCY_BASE = LocalDate.of(2000, 1, 1).toEpochDay();
+
+    private final FestivalMasterRepository masterRepository;
+    private final FestivalEventRepository eventRepository;
+
+    private final PendingChanges pending = new PendingChanges();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final PrefixTrie nameTrie = new PrefixTrie(MAX_SUGGESTIONS);
+    private final PrefixTrie initialTrie = new PrefixTrie(MAX_SUGGESTIONS);
+
+    // 응답 객체는 적재 때 만들어 두고 조회 때는 꺼내기만 함
+    private final Map<Integer, FestivalSuggestion> suggestions = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        pending.add(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(FestivalReviewChangedEvent event) {
+        addPopularityChange(event.getEventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(FestivalBookmarkChangedEvent event) {
+        addPopularityChange(event.getEventId());
+    }
+
+    /**
+     * 입력 중인 검색어로 축제명 추천 (점수 내림차순 최대 limit 개)
+     */
+    public List<FestivalSuggestion> suggest(String input, int limit) {
+        String q = HangulText.normalize(input);
+        if (q.isEmpty()) return Collections.emptyList();
+
+        ensureFresh();
+
+        int k = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        int[] docs = new int[k];
+        int[] scores = new int[k];
+        int size;
+
+        lock.readLock().lock();
+        try {
+            size = collect(q, docs, scores);
+
+            List<FestivalSuggestion> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(suggestions.get(docs[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== helpers =====
+
+    // 회차 id 로 쌓아 두고 반영할 때 master id 로 바꿈
+    private void addPopularityChange(Long eventId) {
+        if (eventId == null) return;
+        pending.add(new FestivalDataChangedEvent(List.of(eventId), List.of()));
+    }
+
+    private int collect(String q, int[] docs, int[] scores) {
+        int initialCount = 0;
+        for (int i = 0; i < q.length(); i++) {
+            if (HangulText.isInitial(q.charAt(i))) initialCount++;
+        }
+
+        // "ㄱㄹㅋ" → 초성 트라이
+        if (initialCount == q.length()) {
+            return initialTrie.collect(q, docs, scores, 0);
+        }
+
+        int size = nameTrie.collect(q, docs, scores, 0);
+
+        String head = q.substring(0, q.length() - 1);
+        char last = q.charAt(q.length() - 1);
+        if (HangulText.isInitial(last)) {
+            // "강릉ㅋ" → "강릉" 다음 글자 초성이 ㅋ
+            size = nameTrie.collectWithInitial(head, last, docs, scores, size);
+        } else {
+            // "강릉컾" → "강릉커" 다음 글자 초성이 ㅍ
+            char detached = HangulText.detachedInitial(last);
+            if (detached != 0) {
+                size = nameTrie.collectWithInitial(
+                        head + HangulText.withoutDetachedFinal(last), detached, docs, scores, size);
+            }
+        }
+
+        // "강릉ㅋㅍ" 처럼 초성이 섞였는데 부족하면 초성 투영으로 보충
+        if (initialCount > 0 && size < docs.length) {
+            size = initialTrie.collect(HangulText.initials(q), docs, scores, size);
+        }
+        return size;
+    }
+
+    private void ensureFresh() {
+        if (loaded && pending.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            pending.refresh(loaded, this::loadAll, this::applyChanges);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadAll() {
+        List<FestivalSuggestRow> rows = masterRepository.findAllSuggestRows();
+
+        int n = rows.size();
+        int[] ids = new int[n];
+        String[] names = new String[n];
+        String[] initials = new String[n];
+        int[] scores = new int[n];
+
+        suggestions.clear();
+        for (int i = 0; i < n; i++) {
+            FestivalSuggestRow row = rows.get(i);
+            ids[i] = toDocId(row.getId());
+            names[i] = HangulText.normalize(row.getFstvlNm());
+            initials[i] = HangulText.initials(names[i]);
+            scores[i] = score(row);
+            suggestions.put(ids[i], toSuggestion(row));
+        }
+
+        nameTrie.load(ids, names, scores);
+        initialTrie.load(ids, initials, scores);
+
+        log.info("[Autocomplete] 적재 완료: master={}건", n);
+    }
+
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        if (changes == null) return;
+
+        // 회차만 바뀐 경우(리뷰/북마크 등)는 소속 master 를 다시 읽음
+        Set<Long> masterIds = new LinkedHashSet<>(changes.getMasterIds());
+        if (!changes.getEventIds().isEmpty()) {
+            masterIds.addAll(eventRepository.findMasterIdsByIdIn(changes.getEventIds()));
+        }
+        if (masterIds.isEmpty()) return;
+
+        // 지워진 master 는 변경 이벤트로 직접 들어온 것만 판단
+        Set<Long> missing = new HashSet<>(changes.getMasterIds());
+        for (FestivalSuggestRow row : masterRepository.findSuggestRowsByIdIn(masterIds)) {
+            int id = toDocId(row.getId());
+            String name = HangulText.normalize(row.getFstvlNm());
+            int score = score(row);
+
+            nameTrie.put(id, name, score);
+            initialTrie.put(id, HangulText.initials(name), score);
+            suggestions.put(id, toSuggestion(row));
+            missing.remove(row.getId());
+        }
+
+        for (Long id : missing) {
+            int docId = toDocId(id);
+            nameTrie.remove(docId);
+            initialTrie.remove(docId);
+            suggestions.remove(docId);
+        }
+
+        log.debug("[Autocomplete] 변경 반영: {}", changes);
+    }
+
+    private static int score(FestivalSuggestRow row) {
+        long popularity = count(row.getBookmarkCount()) + count(row.getReviewCount());
+        long recency = (row.getLatestStart() == null)
+                ? 0
+                : Math.max(0, row.getLatestStart().toEpochDay() - RECENCY_BASE);
+        return (int) Math.min(Integer.MAX_VALUE, popularity * POPULARITY_DAYS + recency);
+    }
+
+    private static long count(Long c) {
+        return (c == null) ? 0 : c;
+    }
+
+    private static FestivalSuggestion toSuggestion(FestivalSuggestRow row) {
+        return new FestivalSuggestion(row.getId(), row.getFstvlNm(), row.getLatestStart());
+    }
+
+    private static int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,253 @@
+package com.springboot.service;
+
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.dto.FestivalCalendarRow;
+import com.springboot.dto.FestivalIntervalRow;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.PendingChanges;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * 캘린더 월별 스냅샷 (날짜 → 정렬된 이벤트 id 배열)
+ * - 한 달치를 한 번 만들어 두고 월 이동은 조회만 함 (날짜별 펼치기/정렬은 만들 때 한 번)
+ * - 날짜별 순서: 시작일 → 축제명(master) → id
+ * - 전체 / 실제 / 예상(FestivalEvent.kind) 세 가지를 같이 만듦
+ * - FestivalDataChangedEvent 로 바뀐 이벤트/master 가 들어 있던 달, 바뀐 뒤 기간이 걸치는 달만 버림
+ *
+ * 스냅샷은 여러 요청이 같이 보므로 꺼낸 쪽에서 배열을 수정하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalCalendarSnapshotService {
+
+    // 들고 있을 최대 달 수 (LRU)
+    private static final int MAX_MONTHS = 120;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FestivalEventRepository eventRepository;
+    private final FestivalIntervalIndexService intervalIndex;
+
+    private final PendingChanges pending = new PendingChanges();
+
+    // 접근 순서 LinkedHashMap = LRU (months 로 동기화)
+    private final Map<YearMonth, MonthSnapshot> months = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<YearMonth, MonthSnapshot> eldest) {
+            return size() > MAX_MONTHS;
+        }
+    };
+
+    // 변경을 반영할 때마다 증가 (만드는 도중 변경이 반영되면 만든 결과를 넣지 않음)
+    private long generation;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        pending.add(event);
+    }
+
+    /**
+     * 해당 달 스냅샷 (없거나 버려졌으면 새로 만듦)
+     */
+    public MonthSnapshot month(YearMonth month) {
+        applyChanges(pending.drain());
+
+        long startGeneration;
+        synchronized (months) {
+            MonthSnapshot cached = months.get(month);
+            if (cached != null) return cached;
+            startGeneration = generation;
+        }
+
+        MonthSnapshot built = build(month);
+
+        synchronized (months) {
+            if (generation == startGeneration) months.put(month, built);
+        }
+        return built;
+    }
+
+    // ===== helpers =====
+
+    private MonthSnapshot build(YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+
+        List<Long> ids = intervalIndex.findOverlappingIds(monthStart, monthEnd);
+        List<FestivalCalendarRow> rows = ids.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(eventRepository.findCalendarRowsByIdIn(ids));
+
+        rows.sort(Comparator
+                .comparing(FestivalCalendarRow::getFstvlStart)
+                .thenComparing(r -> safe(r.getFstvlNm()))
+                .thenComparing(FestivalCalendarRow::getId));
+
+        int days = month.lengthOfMonth();
+        int[] allCounts = new int[days];
+        int[] expectedCounts = new int[days];
+
+        for (FestivalCalendarRow r : rows) {
+            int from = firstDay(r, monthStart);
+            int to = lastDay(r, monthEnd);
+            for (int d = from; d <= to; d++) {
+                allCounts[d]++;
+                if (isExpected(r)) expectedCounts[d]++;
+            }
+        }
+
+        long[][] all = new long[days][];
+        long[][] real = new long[days][];
+        long[][] expected = new long[days][];
+        for (int d = 0; d < days; d++) {
+            all[d] = sized(allCounts[d]);
+            real[d] = sized(allCounts[d] - expectedCounts[d]);
+            expected[d] = sized(expectedCounts[d]);
+        }
+
+        // 정렬된 순서대로 채움
+        int[] allFill = new int[days];
+        int[] realFill = new int[days];
+        int[] expectedFill = new int[days];
+        for (FestivalCalendarRow r : rows) {
+            boolean exp = isExpected(r);
+            int from = firstDay(r, monthStart);
+            int to = lastDay(r, monthEnd);
+            for (int d = from; d <= to; d++) {
+                all[d][allFill[d]++] = r.getId();
+                if (exp) expected[d][expectedFill[d]++] = r.getId();
+                else real[d][realFill[d]++] = r.getId();
+            }
+        }
+
+        long[] eventIds = new long[rows.size()];
+        long[] masterIds = new long[rows.size()];
+        int masterCount = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            eventIds[i] = rows.get(i).getId();
+            if (rows.get(i).getMasterId() != null) masterIds[masterCount++] = rows.get(i).getMasterId();
+        }
+        Arrays.sort(eventIds);
+        masterIds = Arrays.copyOf(masterIds, masterCount);
+        Arrays.sort(masterIds);
+
+        log.debug("[CalendarSnapshot] {} 생성: {}건", month, rows.size());
+        return new MonthSnapshot(month, all, real, expected, eventIds, masterIds);
+    }
+
+    // 바뀐 이벤트/master 가 들어 있던 달 + 바뀐 뒤 기간이 걸치는 달을 버림
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        if (changes == null) return;
+
+        List<FestivalIntervalRow> fresh = changes.getEventIds().isEmpty()
+                ? Collections.emptyList()
+                : eventRepository.findIntervalRowsByIdIn(changes.getEventIds());
+
+        synchronized (months) {
+            generation++;
+
+            int before = months.size();
+            months.values().removeIf(s ->
+                    s.containsAny(s.eventIds, changes.getEventIds())
+                            || s.containsAny(s.masterIds, changes.getMasterIds())
+                            || fresh.stream().anyMatch(r -> s.overlaps(r.getFstvlStart(), r.getFstvlEnd())));
+
+            log.debug("[CalendarSnapshot] 변경 반영: {} → {}개월 버림", changes, before - months.size());
+        }
+    }
+
+    private static int firstDay(FestivalCalendarRow r, LocalDate monthStart) {
+        return r.getFstvlStart().isBefore(monthStart) ? 0 : r.getFstvlStart().getDayOfMonth() - 1;
+    }
+
+    private static int lastDay(FestivalCalendarRow r, LocalDate monthEnd) {
+        return r.getFstvlEnd().isAfter(monthEnd) ? monthEnd.getDayOfMonth() - 1 : r.getFstvlEnd().getDayOfMonth() - 1;
+    }
+
+    private static boolean isExpected(FestivalCalendarRow r) {
+        return r.getKind() == FestivalEventKind.EXPECTED;
+    }
+
+    private static long[] sized(int n) {
+        return (n == 0) ? EMPTY : new long[n];
+    }
+
+    private static String safe(String s) {
+        return (s == null) ? "" : s;
+    }
+
+    /**
+     * 한 달치 캘린더 (불변)
+     */
+    public static final class MonthSnapshot {
+        private final YearMonth month;
+
+        // [일 - 1] → 이벤트 id (날짜별 표시 순서)
+        private final long[][] all;
+        private final long[][] real;
+        private final long[][] expected;
+
+        // 무효화 판단용 (오름차순)
+        private final long[] eventIds;
+        private final long[] masterIds;
+
+        private MonthSnapshot(YearMonth month, long[][] all, long[][] real, long[][] expected,
+                              long[] eventIds, long[] masterIds) {
+            this.month = month;
+            this.all = all;
+            this.real = real;
+            this.expected = expected;
+            this.eventIds = eventIds;
+            this.masterIds = masterIds;
+        }
+
+        public YearMonth getMonth() {
+            return month;
+        }
+
+        /**
+         * 해당 날짜의 이벤트 id (mode: "real" / "expected" / 그 외 전체)
+         */
+        public long[] day(int dayOfMonth, String mode) {
+            if (dayOfMonth < 1 || dayOfMonth > all.length) return EMPTY;
+            return variant(mode)[dayOfMonth - 1];
+        }
+
+        /**
+         * 이 달에 한 번이라도 나오는 이벤트 id (mode 기준, 순서 없음)
+         */
+        public List<Long> eventIds(String mode) {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (long[] day : variant(mode)) {
+                for (long id : day) ids.add(id);
+            }
+            return new ArrayList<>(ids);
+        }
+
+        private long[][] variant(String mode) {
+            if ("real".equalsIgnoreCase(mode)) return real;
+            if ("expected".equalsIgnoreCase(mode)) return expected;
+            return all;
+        }
+
+        private boolean containsAny(long[] sorted, Set<Long> ids) {
+            for (Long id : ids) {
+                if (Arrays.binarySearch(sorted, id) >= 0) return true;
+            }
+            return false;
+        }
+
+        private boolean overlaps(LocalDate start, LocalDate end) {
+            return !start.isAfter(month.atEndOfMonth()) && !end.isBefore(month.atDay(1));
+        }
+    }
+}
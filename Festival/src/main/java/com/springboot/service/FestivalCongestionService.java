@@ -0,0 +1,211 @@
+package com.springboot.service;
+
+import com.springboot.dto.FestivalDistrictRow;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.DistrictDayCounts;
+import com.springboot.index.PendingChanges;
+import com.springboot.index.RegionDictionary;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 축제 혼잡도 (같은 시군구에서 같은 날 열리는 축제 수)
+ * - 시군구는 RegionDictionary 코드로 묶음 (표기가 달라도 같은 시군구), 코드가 없는 master 만 이름으로
+ * - (시군구, 날짜) → 개최 수를 지역별/연도별 int 배열로 미리 계산해 둠
+ * - 첫 조회 시 전체 적재 (지역별로 시작/끝 정렬 sweep), 이후 FestivalDataChangedEvent 로 들어온 축제만 빼고 다시 더함
+ * - 축제 하나의 혼잡도는 기간 중 가장 붐비는 날 기준 (본인 포함), 라벨 기준은 festival.congestion.* 설정
+ * - 목록 필터/페이지와 무관하게 항상 같은 값
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalCongestionService {
+
+    public static final String RELAXED = "여유";
+    public static final String NORMAL = "보통";
+    public static final String CROWDED = "혼잡";
+
+    private final FestivalEventRepository eventRepository;
+
+    // 이 개수 이하면 여유
+    @Value("${festival.congestion.relaxed-max:2}")
+    private int relaxedMax;
+
+    // 이 개수 이하면 보통, 넘으면 혼잡
+    @Value("${festival.congestion.normal-max:6}")
+    private int normalMax;
+
+    private final PendingChanges pending = new PendingChanges();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final DistrictDayCounts table = new DistrictDayCounts();
+
+    // 이벤트별로 테이블에 반영해 둔 지역/기간 (변경 시 이만큼 빼고 다시 더함)
+    private final Map<Long, FestivalDistrictRow> applied = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        pending.add(event);
+    }
+
+    /**
+     * 해당 시군구에서 date 에 열리는 축제 수 (signguCd 가 없으면 이름으로)
+     */
+    public int count(Integer signguCd, String ctprvnNm, String signguNm, LocalDate date) {
+        String area = areaKey(signguCd, ctprvnNm, signguNm);
+        if (area == null) return 0;
+        ensureFresh();
+
+        lock.readLock().lock();
+        try {
+            return table.get(area, date);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대상 축제별 혼잡도 라벨 (시군구/기간 없는 축제는 빠짐)
+     */
+    public Map<Long, String> labels(Collection<FestivalDistrictRow> targets) {
+        Map<Long, String> result = new HashMap<>();
+        concurrentCounts(targets).forEach((id, n) -> result.put(id, label(n)));
+        return result;
+    }
+
+    /**
+     * 축제 하나의 혼잡도 라벨 (시군구/기간이 없으면 null)
+     */
+    public String label(FestivalDistrictRow target) {
+        return labels(List.of(target)).get(target.getId());
+    }
+
+    /**
+     * 대상 축제별 기간 중 최대 동시 개최 수 (본인 포함)
+     */
+    public Map<Long, Integer> concurrentCounts(Collection<FestivalDistrictRow> targets) {
+        Map<Long, Integer> result = new HashMap<>();
+        ensureFresh();
+
+        lock.readLock().lock();
+        try {
+            for (FestivalDistrictRow t : targets) {
+                if (!countable(t)) continue;
+                int n = table.peak(areaKey(t), t.getFstvlStart(), t.getFstvlEnd());
+                // 아직 테이블에 없는 축제(master 없음 등)도 본인은 센다
+                result.put(t.getId(), Math.max(n, 1));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 동시 개최 수 → 라벨
+     */
+    public String label(int concurrent) {
+        if (concurrent <= relaxedMax) return RELAXED;
+        if (concurrent <= normalMax) return NORMAL;
+        return CROWDED;
+    }
+
+    // ===== helpers =====
+
+    private void ensureFresh() {
+        if (loaded && pending.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            pending.refresh(loaded, this::loadAll, this::applyChanges);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadAll() {
+        List<FestivalDistrictRow> rows = eventRepository.findAllDistrictRows();
+
+        table.clear();
+        applied.clear();
+
+        Map<String, List<FestivalDistrictRow>> byArea = new HashMap<>();
+        for (FestivalDistrictRow row : rows) {
+            if (!countable(row)) continue;
+            byArea.computeIfAbsent(areaKey(row), k -> new ArrayList<>()).add(row);
+            applied.put(row.getId(), row);
+        }
+
+        byArea.forEach((area, list) -> {
+            int[] starts = new int[list.size()];
+            int[] ends = new int[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                starts[i] = (int) list.get(i).getFstvlStart().toEpochDay();
+                ends[i] = (int) list.get(i).getFstvlEnd().toEpochDay();
+            }
+            table.load(area, starts, ends);
+        });
+
+        log.info("[Congestion] 적재 완료: {}건", applied.size());
+    }
+
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        if (changes == null) return;
+
+        // 변경/삭제된 이벤트: 일단 빼고, 다시 조회되는 것만 더함
+        if (!changes.getEventIds().isEmpty()) {
+            changes.getEventIds().forEach(this::remove);
+            eventRepository.findDistrictRowsByIdIn(changes.getEventIds()).forEach(this::put);
+        }
+
+        // 주소가 바뀐 master: 소속 이벤트를 새 지역으로 옮김
+        if (!changes.getMasterIds().isEmpty()) {
+            eventRepository.findDistrictRowsByMasterIdIn(changes.getMasterIds()).forEach(this::put);
+        }
+
+        log.debug("[Congestion] 변경 반영: {}", changes);
+    }
+
+    private void put(FestivalDistrictRow row) {
+        remove(row.getId());
+        if (!countable(row)) return;
+
+        table.add(areaKey(row), row.getFstvlStart(), row.getFstvlEnd(), 1);
+        applied.put(row.getId(), row);
+    }
+
+    private void remove(Long eventId) {
+        FestivalDistrictRow prev = applied.remove(eventId);
+        if (prev == null) return;
+
+        table.add(areaKey(prev), prev.getFstvlStart(), prev.getFstvlEnd(), -1);
+    }
+
+    private static boolean countable(FestivalDistrictRow r) {
+        return r.getId() != null && areaKey(r) != null
+                && r.getFstvlStart() != null && r.getFstvlEnd() != null
+                && !r.getFstvlEnd().isBefore(r.getFstvlStart());
+    }
+
+    private static String areaKey(FestivalDistrictRow r) {
+        return areaKey(r.getSignguCd(), r.getCtprvnNm(), r.getSignguNm());
+    }
+
+    // 시군구 코드 "#코드", 없으면 "시도|시군구" 이름 (둘 다 없으면 null)
+    private static String areaKey(Integer signguCd, String ctprvnNm, String signguNm) {
+        if (signguCd != null && RegionDictionary.isSignguCode(signguCd)) return "#" + signguCd;
+        if (signguNm == null) return null;
+        return (ctprvnNm == null ? "" : ctprvnNm) + "|" + signguNm;
+    }
+}
@@ -0,0 +1,415 @@
+package com.springboot.service;
+
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.domain.FestivalStatus;
+import com.springboot.dto.FestivalFacetCounts;
+import com.springboot.dto.FestivalFacetRow;
+import com.springboot.dto.FestivalListCondition;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.Bitmap;
+import com.springboot.index.IntList;
+import com.springboot.index.PendingChanges;
+import com.springboot.index.RegionDictionary;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 목록 화면 패싯 개수 (시도 / 시군구 / 상태 / 실제·예상 / 월)
+ * - 이벤트마다 순번(ordinal)을 붙이고, 패싯 값마다 순번 비트맵을 유지
+ * - 필터 조합은 비트맵 AND, 개수는 AND 결과의 비트 수
+ * - 첫 조회 시 전체 적재, 이후 FestivalDataChangedEvent 로 들어온 이벤트만 비트를 지우고 다시 켬
+ * - 지역 패싯/필터는 RegionDictionary 코드 기준 (이름은 정식 명칭으로 표시, 사전에 없는 지역만 원래 이름)
+ * - 혼잡도 필터는 패싯 개수에 반영하지 않음
+ * - 기간이 MAX_MONTHS 달을 넘는 축제는 월 비트맵 대신 longRunning 에 두고, 조회할 때 조회 기간의 달만 날짜로 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalFacetService {
+
+    // 기간이 비정상적으로 긴 축제가 월 비트맵을 다 채우지 않도록 (이보다 긴 축제는 longRunning)
+    private static final int MAX_MONTHS = 24;
+
+    // 시군구 패싯은 많은 순으로 이만큼만
+    private static final int SIGNGU_LIMIT = 20;
+
+    private final FestivalEventRepository eventRepository;
+
+    private final PendingChanges pending = new PendingChanges();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 순번 ↔ 이벤트 (삭제된 순번은 재사용)
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final IntList freeOrdinals = new IntList();
+    private FestivalFacetRow[] rows = new FestivalFacetRow[1024];
+    private int ordinalCount;
+
+    private final Bitmap live = new Bitmap();
+    private final Bitmap withMaster = new Bitmap();
+    private final Bitmap expected = new Bitmap();
+    private final Map<String, Bitmap> byCtprvn = new HashMap<>();
+    private final Map<String, Bitmap> bySigngu = new HashMap<>();   // "시도 시군구"
+    private final Map<Integer, Bitmap> byCtprvnCode = new HashMap<>();
+    private final Map<Integer, Bitmap> bySignguCode = new HashMap<>();
+    private final Map<Integer, Bitmap> byMonth = new HashMap<>();   // year * 12 + (month - 1)
+    private final Bitmap longRunning = new Bitmap();
+
+    // 상태는 날짜에 따라 바뀌므로 하루 단위로 계산해 둠 (변경 반영 시 버림)
+    private volatile StatusBitmaps statusCache;
+
+    private volatile boolean loaded;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        pending.add(event);
+    }
+
+    /**
+     * 목록 조건 기준 패싯별 개수
+     */
+    public FestivalFacetCounts count(FestivalListCondition c) {
+        ensureFresh();
+
+        lock.readLock().lock();
+        try {
+            LocalDate today = (c.getToday() != null) ? c.getToday() : LocalDate.now();
+            StatusBitmaps st = statusBitmaps(today);
+
+            Bitmap window = (c.getRangeStart() != null && c.getRangeEnd() != null)
+                    ? window(c.getRangeStart(), c.getRangeEnd()) : null;
+            Bitmap region = regionBitmap(c.getRegion());
+            Bitmap status = (c.getStatus() != null) ? st.of(c.getStatus()) : null;
+            Bitmap candidates = (c.getEventIds() != null) ? idsBitmap(c.getEventIds()) : null;
+            Bitmap master = c.isMasterOnly() ? withMaster : null;
+
+            Bitmap all = intersect(window, region, status, candidates, master);
+            Bitmap noRegion = intersect(window, status, candidates, master);
+            Bitmap noStatus = intersect(window, region, candidates, master);
+            Bitmap noWindow = intersect(region, status, candidates, master);
+
+            Map<String, Integer> statusCounts = new LinkedHashMap<>();
+            for (FestivalStatus s : FestivalStatus.values()) {
+                statusCounts.put(s.name(), noStatus.andCardinality(st.of(s)));
+            }
+
+            int total = all.cardinality();
+            int expectedCount = all.andCardinality(expected);
+
+            return new FestivalFacetCounts(
+                    total,
+                    topCounts(noRegion, byCtprvn, Integer.MAX_VALUE),
+                    topCounts(noRegion, bySigngu, SIGNGU_LIMIT),
+                    statusCounts,
+                    total - expectedCount,
+                    expectedCount,
+                    monthCounts(noWindow, c.getRangeStart(), c.getRangeEnd())
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== helpers =====
+
+    // live AND 주어진 비트맵들 (null 은 조건 없음)
+    private Bitmap intersect(Bitmap... parts) {
+        Bitmap result = live.copy();
+        for (Bitmap p : parts) {
+            if (p != null) result.and(p);
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> topCounts(Bitmap base, Map<String, Bitmap> facet, int limit) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        for (Map.Entry<String, Bitmap> e : facet.entrySet()) {
+            int n = base.andCardinality(e.getValue());
+            if (n > 0) counts.add(Map.entry(e.getKey(), n));
+        }
+        counts.sort((a, b) -> {
+            int c = Integer.compare(b.getValue(), a.getValue());
+            return (c != 0) ? c : a.getKey().compareTo(b.getKey());
+        });
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < counts.size() && i < limit; i++) {
+            result.put(counts.get(i).getKey(), counts.get(i).getValue());
+        }
+        return result;
+    }
+
+    private Map<String, Integer> monthCounts(Bitmap base, LocalDate from, LocalDate to) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (from == null || to == null || to.isBefore(from)) return result;
+
+        // 긴 축제는 조회한 달과 겹치는지 날짜로
+        Bitmap longBase = base.copy().and(longRunning);
+
+        int first = monthKey(from);
+        int last = Math.min(monthKey(to), first + MAX_MONTHS - 1);
+        for (int m = first; m <= last; m++) {
+            Bitmap b = byMonth.get(m);
+            YearMonth ym = YearMonth.of(m / 12, m % 12 + 1);
+            int n = (b == null) ? 0 : base.andCardinality(b);
+            if (!longBase.isEmpty()) n += overlapping(longBase, ym.atDay(1), ym.atEndOfMonth()).cardinality();
+            result.put(ym.toString(), n);
+        }
+        return result;
+    }
+
+    // 기간 [from, to] 와 겹치는 이벤트: 다 걸치는 달은 월 비트맵 그대로, 양 끝 달만 날짜 확인
+    private Bitmap window(LocalDate from, LocalDate to) {
+        Bitmap result = new Bitmap();
+        if (to.isBefore(from)) return result;
+
+        for (int m = monthKey(from); m <= monthKey(to); m++) {
+            Bitmap b = byMonth.get(m);
+            if (b == null) continue;
+
+            YearMonth ym = YearMonth.of(m / 12, m % 12 + 1);
+            if (!ym.atDay(1).isBefore(from) && !ym.atEndOfMonth().isAfter(to)) {
+                result.or(b);
+            } else {
+                result.or(overlapping(b, from, to));
+            }
+        }
+        result.or(overlapping(longRunning, from, to));
+        return result;
+    }
+
+    // candidates 중 기간 [from, to] 와 겹치는 이벤트
+    private Bitmap overlapping(Bitmap candidates, LocalDate from, LocalDate to) {
+        Bitmap result = new Bitmap();
+        candidates.forEach(ord -> {
+            FestivalFacetRow r = rows[ord];
+            if (!r.getFstvlStart().isAfter(to) && !r.getFstvlEnd().isBefore(from)) result.set(ord);
+        });
+        return result;
+    }
+
+    // region 코드의 이벤트, 사전에 없으면 목록 조회와 같은 규칙(RegionDictionary.matchesText)으로 (region 없으면 null)
+    private Bitmap regionBitmap(String region) {
+        if (region == null || region.isBlank()) return null;
+
+        int code = RegionDictionary.resolve(region);
+        if (code != 0) {
+            Bitmap b = RegionDictionary.isSignguCode(code) ? bySignguCode.get(code) : byCtprvnCode.get(code);
+            return (b == null) ? new Bitmap() : b;
+        }
+
+        Bitmap result = new Bitmap();
+        live.forEach(ord -> {
+            FestivalFacetRow r = rows[ord];
+            if (RegionDictionary.matchesText(region, r.getCtprvnNm(), r.getSignguNm(), r.getAddr1())) result.set(ord);
+        });
+        return result;
+    }
+
+    private Bitmap idsBitmap(Collection<Long> ids) {
+        Bitmap result = new Bitmap();
+        for (Long id : ids) {
+            Integer ord = ordinalById.get(id);
+            if (ord != null) result.set(ord);
+        }
+        return result;
+    }
+
+    private StatusBitmaps statusBitmaps(LocalDate today) {
+        StatusBitmaps cached = statusCache;
+        if (cached != null && cached.day.equals(today)) return cached;
+
+        StatusBitmaps st = new StatusBitmaps(today);
+        for (int ord = 0; ord < ordinalCount; ord++) {
+            FestivalFacetRow r = rows[ord];
+            if (r == null) continue;
+
+            LocalDate begin = r.getFstvlStart();
+            LocalDate end = r.getFstvlEnd();
+            if (begin == null || end == null) st.past.set(ord);
+            else if (today.isBefore(begin)) st.upcoming.set(ord);
+            else if (today.isAfter(end)) st.past.set(ord);
+            else st.ongoing.set(ord);
+        }
+        statusCache = st;
+        return st;
+    }
+
+    private void ensureFresh() {
+        if (loaded && pending.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            pending.refresh(loaded, this::loadAll, this::applyChanges);
+            loaded = true;
+            statusCache = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadAll() {
+        List<FestivalFacetRow> all = eventRepository.findAllFacetRows();
+
+        all.forEach(this::put);
+        log.info("[FacetIndex] 적재 완료: {}건", ordinalById.size());
+    }
+
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        if (changes == null) return;
+
+        // 다시 조회되지 않은 이벤트는 삭제로 보고 제거
+        if (!changes.getEventIds().isEmpty()) {
+            Set<Long> missing = new HashSet<>(changes.getEventIds());
+            for (FestivalFacetRow row : eventRepository.findFacetRowsByIdIn(changes.getEventIds())) {
+                put(row);
+                missing.remove(row.getId());
+            }
+            missing.forEach(this::remove);
+        }
+
+        if (!changes.getMasterIds().isEmpty()) {
+            eventRepository.findFacetRowsByMasterIdIn(changes.getMasterIds()).forEach(this::put);
+        }
+
+        log.debug("[FacetIndex] 변경 반영: {}", changes);
+    }
+
+    private void put(FestivalFacetRow row) {
+        Integer ord = ordinalById.get(row.getId());
+        if (ord != null) {
+            unindex(ord);
+        } else {
+            ord = freeOrdinals.isEmpty() ? ordinalCount++ : freeOrdinals.removeLast();
+            if (ord >= rows.length) rows = Arrays.copyOf(rows, rows.length << 1);
+            ordinalById.put(row.getId(), ord);
+        }
+        rows[ord] = row;
+        index(ord, row);
+    }
+
+    private void remove(Long eventId) {
+        Integer ord = ordinalById.remove(eventId);
+        if (ord == null) return;
+
+        unindex(ord);
+        rows[ord] = null;
+        freeOrdinals.add(ord);
+    }
+
+    private void index(int ord, FestivalFacetRow r) {
+        live.set(ord);
+        if (r.getMasterId() != null) withMaster.set(ord);
+        if (isExpected(r)) expected.set(ord);
+
+        String ctprvn = ctprvnKey(r);
+        if (ctprvn != null) byCtprvn.computeIfAbsent(ctprvn, k -> new Bitmap()).set(ord);
+
+        String signgu = signguKey(r);
+        if (signgu != null) bySigngu.computeIfAbsent(signgu, k -> new Bitmap()).set(ord);
+
+        if (code(r.getCtprvnCd()) != 0) byCtprvnCode.computeIfAbsent(r.getCtprvnCd(), k -> new Bitmap()).set(ord);
+        if (code(r.getSignguCd()) != 0) bySignguCode.computeIfAbsent(r.getSignguCd(), k -> new Bitmap()).set(ord);
+
+        if (isLongRunning(r)) longRunning.set(ord);
+        else forEachMonth(r, m -> byMonth.computeIfAbsent(m, k -> new Bitmap()).set(ord));
+    }
+
+    private void unindex(int ord) {
+        FestivalFacetRow r = rows[ord];
+        if (r == null) return;
+
+        live.clear(ord);
+        withMaster.clear(ord);
+        expected.clear(ord);
+
+        String ctprvn = ctprvnKey(r);
+        if (ctprvn != null && byCtprvn.containsKey(ctprvn)) byCtprvn.get(ctprvn).clear(ord);
+
+        String signgu = signguKey(r);
+        if (signgu != null && bySigngu.containsKey(signgu)) bySigngu.get(signgu).clear(ord);
+
+        Bitmap ctprvnCode = byCtprvnCode.get(code(r.getCtprvnCd()));
+        if (ctprvnCode != null) ctprvnCode.clear(ord);
+
+        Bitmap signguCode = bySignguCode.get(code(r.getSignguCd()));
+        if (signguCode != null) signguCode.clear(ord);
+
+        longRunning.clear(ord);
+        if (!isLongRunning(r)) {
+            forEachMonth(r, m -> {
+                Bitmap b = byMonth.get(m);
+                if (b != null) b.clear(ord);
+            });
+        }
+    }
+
+    private static void forEachMonth(FestivalFacetRow r, IntConsumer action) {
+        if (!hasPeriod(r)) return;
+
+        for (int m = monthKey(r.getFstvlStart()); m <= monthKey(r.getFstvlEnd()); m++) action.accept(m);
+    }
+
+    private static boolean hasPeriod(FestivalFacetRow r) {
+        return r.getFstvlStart() != null && r.getFstvlEnd() != null && !r.getFstvlEnd().isBefore(r.getFstvlStart());
+    }
+
+    private static boolean isLongRunning(FestivalFacetRow r) {
+        return hasPeriod(r) && monthKey(r.getFstvlEnd()) - monthKey(r.getFstvlStart()) >= MAX_MONTHS;
+    }
+
+    private static boolean isExpected(FestivalFacetRow r) {
+        return r.getKind() == FestivalEventKind.EXPECTED;
+    }
+
+    private static String ctprvnKey(FestivalFacetRow r) {
+        if (code(r.getCtprvnCd()) != 0) return RegionDictionary.ctprvnName(r.getCtprvnCd());
+        return (r.getCtprvnNm() == null || r.getCtprvnNm().isBlank()) ? null : r.getCtprvnNm().trim();
+    }
+
+    private static String signguKey(FestivalFacetRow r) {
+        if (code(r.getSignguCd()) != 0) {
+            return RegionDictionary.ctprvnName(RegionDictionary.ctprvnOf(r.getSignguCd()))
+                    + " " + RegionDictionary.signguName(r.getSignguCd());
+        }
+        if (r.getSignguNm() == null || r.getSignguNm().isBlank()) return null;
+        String ctprvn = ctprvnKey(r);
+        return (ctprvn == null) ? r.getSignguNm().trim() : ctprvn + " " + r.getSignguNm().trim();
+    }
+
+    private static int code(Integer c) {
+        return (c == null) ? 0 : c;
+    }
+
+    private static int monthKey(LocalDate d) {
+        return d.getYear() * 12 + d.getMonthValue() - 1;
+    }
+
+    // 특정 날짜 기준 상태별 비트맵
+    private static final class StatusBitmaps {
+        private final LocalDate day;
+        private final Bitmap ongoing = new Bitmap();
+        private final Bitmap upcoming = new Bitmap();
+        private final Bitmap past = new Bitmap();
+
+        private StatusBitmaps(LocalDate day) {
+            this.day = day;
+        }
+
+        private Bitmap of(FestivalStatus status) {
+            return switch (status) {
+                case ONGOING -> ongoing;
+                case UPCOMING -> upcoming;
+                case PAST -> past;
+            };
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.springboot.service;
+
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.dto.FestivalFacetRow;
+import com.springboot.event.FestivalDataVersion;
+import com.springboot.index.YearHeatmap;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 연간 히트맵 (연도별 YearHeatmap 캐시)
+ * - 한 해에 걸치는 이벤트를 한 번 읽어 전국 / 시도 / 시군구를 같이 만듦
+ * - 만들 때의 데이터 버전을 같이 들고 있다가 FestivalDataVersion 이 바뀌면 다시 만듦
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalHeatmapService {
+
+    // 들고 있을 최대 연도 수 (LRU)
+    private static final int MAX_YEARS = 10;
+
+    private final FestivalEventRepository eventRepository;
+    private final FestivalDataVersion dataVersion;
+
+    // 접근 순서 LinkedHashMap = LRU (years 로 동기화)
+    private final Map<Integer, Cached> years = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Cached> eldest) {
+            return size() > MAX_YEARS;
+        }
+    };
+
+    /**
+     * 해당 연도 히트맵 (없거나 데이터가 바뀌었으면 새로 만듦)
+     */
+    public YearHeatmap year(int year) {
+        // 만들기 전 버전으로 넣어 둠 → 만드는 도중 바뀌면 다음 조회 때 다시 만듦
+        long version = dataVersion.current();
+
+        synchronized (years) {
+            Cached cached = years.get(year);
+            if (cached != null && cached.version == version) return cached.heatmap;
+        }
+
+        YearHeatmap built = build(year);
+
+        synchronized (years) {
+            years.put(year, new Cached(version, built));
+        }
+        return built;
+    }
+
+    // ===== helpers =====
+
+    private YearHeatmap build(int year) {
+        YearHeatmap heatmap = new YearHeatmap(year);
+
+        int rows = 0;
+        for (FestivalFacetRow r : eventRepository.findFacetRowsOverlapping(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            heatmap.add(code(r.getCtprvnCd()), code(r.getSignguCd()),
+                    r.getFstvlStart(), r.getFstvlEnd(), isExpected(r));
+            rows++;
+        }
+
+        log.debug("[Heatmap] {}년 생성: {}건", year, rows);
+        return heatmap.finish();
+    }
+
+    private static boolean isExpected(FestivalFacetRow r) {
+        return r.getKind() == FestivalEventKind.EXPECTED;
+    }
+
+    private static int code(Integer c) {
+        return (c == null) ? 0 : c;
+    }
+
+    private record Cached(long version, YearHeatmap heatmap) {
+    }
+}
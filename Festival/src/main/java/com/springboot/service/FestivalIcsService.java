@@ -0,0 +1,204 @@
+package com.springboot.service;
+
+import com.springboot.domain.FestivalEventKind;
+import com.springboot.dto.FestivalIcsRow;
+import com.springboot.event.FestivalDataVersion;
+import com.springboot.index.RegionDictionary;
+import com.springboot.repository.BookmarkRepository;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 축제 iCalendar(.ics) 피드 (월별 / 지역별 / 회원 북마크)
+ * - (시작일, id) 키셋으로 CHUNK 건씩 읽어서 바로 응답에 씀 → 전체 목록을 메모리에 올리지 않음
+ * - 쿼리마다 트랜잭션 없이 끝나므로 느린 클라이언트가 쓰는 동안 DB 커서 / 커넥션을 잡고 있지 않음
+ * - 축제는 종일 일정: DTSTART 시작일, DTEND 종료일 다음 날 (RFC 5545 는 DTEND 를 포함하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class FestivalIcsService {
+
+    // 예상 회차 제목 앞에 붙임
+    private static final String EXPECTED_PREFIX = "[예상]";
+
+    // 지역 피드 기간
+    private static final int REGION_PAST_DAYS = 30;
+    private static final int REGION_FUTURE_DAYS = 365;
+
+    // 한 번에 읽는 행 수
+    private static final int CHUNK = 500;
+
+    // 첫 페이지 키셋 (어떤 시작일보다도 앞)
+    private static final LocalDate FIRST_START = LocalDate.of(1000, 1, 1);
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter STAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final FestivalEventRepository eventRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final FestivalDataVersion dataVersion;
+
+    /**
+     * 해당 달에 걸치는 축제 (예상 축제 포함)
+     */
+    public void writeMonth(YearMonth month, String detailUrl, Writer out) throws IOException {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        write((afterStart, afterId, page) -> eventRepository.findIcsRows(start, end, afterStart, afterId, page),
+                "축제 캘린더 " + month, detailUrl, out);
+    }
+
+    /**
+     * 지역 축제 (code: RegionDictionary 시도/시군구 코드), 오늘 기준 지난 한 달 ~ 앞으로 1년
+     */
+    public void writeRegion(int code, LocalDate today, String detailUrl, Writer out) throws IOException {
+        LocalDate start = today.minusDays(REGION_PAST_DAYS);
+        LocalDate end = today.plusDays(REGION_FUTURE_DAYS);
+        IcsSource source = RegionDictionary.isSignguCode(code)
+                ? (afterStart, afterId, page) -> eventRepository.findIcsRowsBySigngu(code, start, end, afterStart, afterId, page)
+                : (afterStart, afterId, page) -> eventRepository.findIcsRowsByCtprvn(code, start, end, afterStart, afterId, page);
+        write(source, RegionDictionary.displayName(code) + " 축제", detailUrl, out);
+    }
+
+    /**
+     * 회원이 북마크한 축제
+     */
+    public void writeBookmarks(Long memberId, String detailUrl, Writer out) throws IOException {
+        write((afterStart, afterId, page) -> bookmarkRepository.findIcsRowsByMemberId(memberId, afterStart, afterId, page),
+                "북마크한 축제", detailUrl, out);
+    }
+
+    // ===== helpers =====
+
+    // (시작일, id) 키셋 다음 페이지
+    @FunctionalInterface
+    private interface IcsSource {
+        List<FestivalIcsRow> next(LocalDate afterStart, Long afterId, Pageable page);
+    }
+
+    private void write(IcsSource source, String calendarName, String detailUrl, Writer out)
+            throws IOException {
+        IcsWriter ics = new IcsWriter(out);
+        String stamp = STAMP.format(Instant.ofEpochMilli(dataVersion.changedAt()));
+
+        ics.line("BEGIN:VCALENDAR");
+        ics.line("VERSION:2.0");
+        ics.line("PRODID:-//FestivalCalendar//Festival Feed//KO");
+        ics.line("CALSCALE:GREGORIAN");
+        ics.line("METHOD:PUBLISH");
+        ics.text("X-WR-CALNAME", calendarName);
+        ics.line("X-WR-TIMEZONE:Asia/Seoul");
+
+        Pageable page = PageRequest.of(0, CHUNK);
+        LocalDate afterStart = FIRST_START;
+        Long afterId = 0L;
+        List<FestivalIcsRow> rows;
+        do {
+            rows = source.next(afterStart, afterId, page);
+            for (FestivalIcsRow r : rows) writeEvent(ics, r, stamp, detailUrl);
+            if (!rows.isEmpty()) {
+                FestivalIcsRow last = rows.get(rows.size() - 1);
+                afterStart = last.getFstvlStart();
+                afterId = last.getId();
+                out.flush();
+            }
+        } while (rows.size() == CHUNK);
+
+        ics.line("END:VCALENDAR");
+        out.flush();
+    }
+
+    private static void writeEvent(IcsWriter ics, FestivalIcsRow r, String stamp, String detailUrl)
+            throws IOException {
+        ics.line("BEGIN:VEVENT");
+        ics.line("UID:festival-event-" + r.getId() + "@festival-calendar");
+        ics.line("DTSTAMP:" + stamp);
+        ics.line("DTSTART;VALUE=DATE:" + DATE.format(r.getFstvlStart()));
+        ics.line("DTEND;VALUE=DATE:" + DATE.format(r.getFstvlEnd().plusDays(1)));
+        ics.text("SUMMARY", summary(r));
+        if (r.getAddr1() != null && !r.getAddr1().isBlank()) ics.text("LOCATION", r.getAddr1());
+        ics.line("URL:" + detailUrl + r.getId());
+        if (isExpected(r)) ics.line("STATUS:TENTATIVE");
+        ics.line("END:VEVENT");
+    }
+
+    private static String summary(FestivalIcsRow r) {
+        String name = (r.getFstvlNm() != null && !r.getFstvlNm().isBlank()) ? r.getFstvlNm() : r.getFcltyNm();
+        if (name == null) name = "";
+        return isExpected(r) ? EXPECTED_PREFIX + " " + name : name;
+    }
+
+    private static boolean isExpected(FestivalIcsRow r) {
+        return r.getKind() == FestivalEventKind.EXPECTED;
+    }
+
+    /**
+     * RFC 5545 줄 쓰기 (CRLF, 75 octet 넘으면 접기, TEXT 값 이스케이프)
+     */
+    private static final class IcsWriter {
+        private static final int MAX_OCTETS = 75;
+
+        private final Writer out;
+
+        private IcsWriter(Writer out) {
+            this.out = out;
+        }
+
+        private void text(String name, String value) throws IOException {
+            line(name + ":" + escape(value));
+        }
+
+        // 접을 때는 다음 줄 앞에 공백 한 칸 (UTF-8 한 글자가 두 줄로 갈라지지 않게 글자 단위로 셈)
+        private void line(String s) throws IOException {
+            int octets = 0;
+            for (int i = 0; i < s.length(); ) {
+                int cp = s.codePointAt(i);
+                int len = utf8Length(cp);
+                if (octets + len > MAX_OCTETS) {
+                    out.write("\r\n ");
+                    octets = 1;
+                }
+                out.write(s, i, Character.charCount(cp));
+                octets += len;
+                i += Character.charCount(cp);
+            }
+            out.write("\r\n");
+        }
+
+        private static String escape(String s) {
+            StringBuilder sb = new StringBuilder(s.length() + 8);
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                    case '\\' -> sb.append("\\\\");
+                    case ';' -> sb.append("\\;");
+                    case ',' -> sb.append("\\,");
+                    case '\n' -> sb.append("\\n");
+                    case '\r' -> { }
+                    default -> sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+
+        private static int utf8Length(int cp) {
+            if (cp < 0x80) return 1;
+            if (cp < 0x800) return 2;
+            if (cp < 0x10000) return 3;
+            return 4;
+        }
+    }
+}
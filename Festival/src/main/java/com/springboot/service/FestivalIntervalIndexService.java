@@ -0,0 +1,176 @@
+package com.springboot.service;
+
+import com.springboot.domain.FestivalEvent;
+import com.springboot.dto.FestivalIntervalRow;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.IntervalIndex;
+import com.springboot.index.PendingChanges;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * FestivalEvent 기간 조회용 인메모리 인터벌 인덱스
+ * - 첫 조회 시 (id, master id, 시작일, 종료일)만 한 번에 적재
+ * - 동기화/예상 축제 생성기의 쓰기는 FestivalDataChangedEvent 로 받아두었다가
+ *   다음 조회 때 변경된 id만 다시 읽어서 반영
+ * - 조회 결과 엔티티는 id(PK)로만 로딩하므로 기간 range scan 이 필요 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalIntervalIndexService {
+
+    private final FestivalEventRepository eventRepository;
+
+    private final PendingChanges pending = new PendingChanges();
+
+    // refresh() 안에서만 수정 (synchronized)
+    private final Map<Long, FestivalIntervalRow> rows = new HashMap<>();
+
+    private volatile IntervalIndex index;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        if (!event.getEventIds().isEmpty()) {
+            pending.add(event);
+        }
+    }
+
+    /**
+     * [start, end] 와 겹치는 이벤트 id (시작일 오름차순)
+     */
+    public List<Long> findOverlappingIds(LocalDate start, LocalDate end) {
+        IntervalIndex ix = current();
+        return toIds(ix, ix.overlapping(toDay(start), toDay(end)));
+    }
+
+    /**
+     * day 에 진행 중인 이벤트 id (시작일 오름차순)
+     */
+    public List<Long> findOngoingIds(LocalDate day) {
+        IntervalIndex ix = current();
+        return toIds(ix, ix.ongoing(toDay(day)));
+    }
+
+    /**
+     * 기간이 겹치는 축제 조회 (예상 축제 포함) - FestivalEventRepository.findOverlapping 대체
+     */
+    public List<FestivalEvent> findOverlapping(LocalDate start, LocalDate end) {
+        return loadInOrder(findOverlappingIds(start, end));
+    }
+
+    /**
+     * 진행 중인 축제 조회 (master 있는 것만, 시작일 순 limit 건)
+     */
+    public List<FestivalEvent> findOngoing(LocalDate today, int limit) {
+        IntervalIndex ix = current();
+        int[] positions = ix.ongoing(toDay(today));
+
+        List<Long> ids = new ArrayList<>();
+        for (int p : positions) {
+            if (ids.size() >= limit) break;
+            if (ix.masterId(p) != 0L) ids.add(ix.id(p));
+        }
+        return loadInOrder(ids);
+    }
+
+    /**
+     * 특정 기간에 시작하는 축제 조회 (master 있는 것만, 시작일 순 limit 건)
+     */
+    public List<FestivalEvent> findByStartBetween(LocalDate start, LocalDate end, int limit) {
+        IntervalIndex ix = current();
+        int[] range = ix.startingBetween(toDay(start), toDay(end));
+
+        List<Long> ids = new ArrayList<>();
+        for (int p = range[0]; p < range[1] && ids.size() < limit; p++) {
+            if (ix.masterId(p) != 0L) ids.add(ix.id(p));
+        }
+        return loadInOrder(ids);
+    }
+
+    // ===== helpers =====
+
+    private IntervalIndex current() {
+        IntervalIndex ix = index;
+        if (ix == null || !pending.isEmpty()) {
+            ix = refresh();
+        }
+        return ix;
+    }
+
+    private synchronized IntervalIndex refresh() {
+        if (pending.refresh(index != null, this::loadAll, this::applyChanges)) {
+            index = rebuild();
+        }
+        return index;
+    }
+
+    private void loadAll() {
+        rows.clear();
+        for (FestivalIntervalRow r : eventRepository.findAllIntervalRows()) rows.put(r.getId(), r);
+        log.info("[IntervalIndex] 적재 완료: {}건", rows.size());
+    }
+
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        Set<Long> ids = changes.getEventIds();
+        if (ids.isEmpty()) return;
+
+        List<FestivalIntervalRow> fresh = eventRepository.findIntervalRowsByIdIn(ids);
+
+        // 다시 조회되지 않은 id는 삭제(또는 날짜 없음)로 보고 제거
+        ids.forEach(rows::remove);
+        for (FestivalIntervalRow r : fresh) rows.put(r.getId(), r);
+
+        log.debug("[IntervalIndex] 변경 반영: 요청={}건, 반영={}건, 전체={}건", ids.size(), fresh.size(), rows.size());
+    }
+
+    private IntervalIndex rebuild() {
+        int n = rows.size();
+        long[] ids = new long[n];
+        long[] masterIds = new long[n];
+        int[] starts = new int[n];
+        int[] ends = new int[n];
+
+        int i = 0;
+        for (FestivalIntervalRow r : rows.values()) {
+            ids[i] = r.getId();
+            masterIds[i] = (r.getMasterId() != null) ? r.getMasterId() : 0L;
+            starts[i] = toDay(r.getFstvlStart());
+            ends[i] = toDay(r.getFstvlEnd());
+            i++;
+        }
+        return IntervalIndex.build(ids, masterIds, starts, ends);
+    }
+
+    private List<FestivalEvent> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        Map<Long, FestivalEvent> byId = new HashMap<>();
+        for (FestivalEvent e : eventRepository.findAllWithMasterByIdIn(ids)) {
+            byId.put(e.getId(), e);
+        }
+
+        List<FestivalEvent> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            FestivalEvent e = byId.get(id);
+            if (e != null) result.add(e);
+        }
+        return result;
+    }
+
+    private static List<Long> toIds(IntervalIndex ix, int[] positions) {
+        List<Long> ids = new ArrayList<>(positions.length);
+        for (int p : positions) ids.add(ix.id(p));
+        return ids;
+    }
+
+    private static int toDay(LocalDate d) {
+        return (int) d.toEpochDay();
+    }
+}
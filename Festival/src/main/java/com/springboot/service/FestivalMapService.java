@@ -0,0 +1,252 @@
+package com.springboot.service;
+
+import com.springboot.domain.FestivalStatus;
+import com.springboot.dto.FestivalGeoRow;
+import com.springboot.dto.FestivalMapCluster;
+import com.springboot.dto.FestivalMapResponse;
+import com.springboot.dto.FestivalMarker;
+import com.springboot.dto.FestivalNearbyResponse;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.GeoQuadTree;
+import com.springboot.index.PendingChanges;
+import com.springboot.repository.FestivalEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 지도 영역(bbox) + 줌 기준 축제 클러스터링, 내 주변 축제 검색
+ * - 좌표 있는 master 의 이벤트를 쿼드트리로 색인 (FestivalMaster.mapX/mapY)
+ * - 낮은 줌: 화면 CELL_PIXELS 크기 격자로 묶어서 클러스터 반환 (쿼드트리 노드 집계값 재사용)
+ * - MARKER_ZOOM 이상: 개별 마커만 반환
+ * - 주변 검색: 같은 쿼드트리에서 거리순 탐색 (k 번째보다 먼 노드는 건너뜀)
+ * - 변경은 FestivalDataChangedEvent 로 받아두었다가 다음 조회 때 해당 id만 다시 읽고 재색인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalMapService {
+
+    // 이 줌 이상이면 묶지 않고 개별 마커
+    public static final int MARKER_ZOOM = 13;
+
+    // 클러스터 격자 한 칸 크기 (화면 px)
+    private static final int CELL_PIXELS = 60;
+
+    private final FestivalEventRepository eventRepository;
+
+    private final PendingChanges pending = new PendingChanges();
+
+    // refresh() 안에서만 수정 (synchronized)
+    private final Map<Long, FestivalGeoRow> rows = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        pending.add(event);
+    }
+
+    /**
+     * 영역 안에서 기간이 [from, to] 와 겹치는 축제를 줌에 맞게 묶어서 조회
+     * - from > to 이면 (시작일 <= to, 종료일 >= from) 조건으로 동작 (진행 중 + 기간 겹침 조합용)
+     */
+    public FestivalMapResponse findInBounds(double south, double west, double north, double east,
+                                            int zoom, LocalDate from, LocalDate to, LocalDate today) {
+        Snapshot s = current();
+
+        double cellSize = (zoom >= MARKER_ZOOM) ? -1 : CELL_PIXELS * 360.0 / (256.0 * Math.pow(2, zoom));
+        Map<Long, Cell> cells = new LinkedHashMap<>();
+        List<FestivalMarker> markers = new ArrayList<>();
+
+        s.tree.query(south, west, north, east, toDay(from), toDay(to), cellSize, new GeoQuadTree.Visitor() {
+            @Override
+            public void cluster(double lat, double lng, int count) {
+                cell(cells, cellSize, lat, lng).add(lat, lng, count, -1);
+            }
+
+            @Override
+            public void point(int pos) {
+                if (cellSize < 0) {
+                    markers.add(s.marker(pos, today));
+                } else {
+                    cell(cells, cellSize, s.lats[pos], s.lngs[pos]).add(s.lats[pos], s.lngs[pos], 1, pos);
+                }
+            }
+        });
+
+        List<FestivalMapCluster> clusters = new ArrayList<>();
+        for (Cell c : cells.values()) {
+            if (c.count == 1 && c.pos >= 0) {
+                markers.add(s.marker(c.pos, today));
+            } else {
+                clusters.add(new FestivalMapCluster(c.sumLat / c.count, c.sumLng / c.count, c.count));
+            }
+        }
+        return new FestivalMapResponse(clusters, markers);
+    }
+
+    /**
+     * (lat, lng) 에서 가까운 축제 k 개 (haversine 거리순)
+     * - 기간이 [from, to] 와 겹치는 축제 중 status 에 해당하는 것만
+     * - status 가 null 이면 진행 중 + 예정 (오늘 이후 끝나는 축제)
+     */
+    public List<FestivalNearbyResponse> findNearest(double lat, double lng, int k,
+                                                    LocalDate from, LocalDate to,
+                                                    FestivalStatus status, LocalDate today) {
+        Snapshot s = current();
+
+        int t = toDay(today);
+        int startLo = Integer.MIN_VALUE;
+        int startHi = toDay(to);
+        int endLo = toDay(from);
+        int endHi = Integer.MAX_VALUE;
+
+        if (status == null) {
+            endLo = Math.max(endLo, t);
+        } else {
+            switch (status) {
+                case ONGOING -> {
+                    startHi = Math.min(startHi, t);
+                    endLo = Math.max(endLo, t);
+                }
+                case UPCOMING -> startLo = t + 1;
+                case PAST -> endHi = t - 1;
+            }
+        }
+
+        List<FestivalNearbyResponse> result = new ArrayList<>();
+        for (GeoQuadTree.Hit hit : s.tree.nearest(lat, lng, k, startLo, startHi, endLo, endHi)) {
+            int pos = hit.pos();
+            FestivalMarker m = s.marker(pos, today);
+            result.add(new FestivalNearbyResponse(
+                    m.getId(),
+                    m.getName(),
+                    m.getLat(),
+                    m.getLng(),
+                    m.getStatus(),
+                    LocalDate.ofEpochDay(s.starts[pos]),
+                    LocalDate.ofEpochDay(s.ends[pos]),
+                    hit.distanceKm()
+            ));
+        }
+        return result;
+    }
+
+    // ===== helpers =====
+
+    private static Cell cell(Map<Long, Cell> cells, double cellSize, double lat, double lng) {
+        long y = (long) Math.floor(lat / cellSize);
+        long x = (long) Math.floor(lng / cellSize);
+        return cells.computeIfAbsent((y << 32) ^ (x & 0xffffffffL), k -> new Cell());
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null || !pending.isEmpty()) {
+            s = refresh();
+        }
+        return s;
+    }
+
+    private synchronized Snapshot refresh() {
+        if (pending.refresh(snapshot != null, this::loadAll, this::applyChanges)) {
+            snapshot = rebuild();
+        }
+        return snapshot;
+    }
+
+    private void loadAll() {
+        rows.clear();
+        for (FestivalGeoRow r : eventRepository.findAllGeoRows()) rows.put(r.getId(), r);
+        log.info("[MapIndex] 적재 완료: {}건", rows.size());
+    }
+
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        // master 좌표가 바뀌면 소속 이벤트 전부 다시 읽음
+        Set<Long> ids = new HashSet<>(changes.getEventIds());
+        if (!changes.getMasterIds().isEmpty()) {
+            ids.addAll(eventRepository.findIdsByMasterIdIn(changes.getMasterIds()));
+        }
+        if (ids.isEmpty()) return;
+
+        // 다시 조회되지 않은 id는 삭제(또는 좌표/날짜 없음)로 보고 제거
+        List<FestivalGeoRow> fresh = eventRepository.findGeoRowsByIdIn(ids);
+        ids.forEach(rows::remove);
+        for (FestivalGeoRow r : fresh) rows.put(r.getId(), r);
+
+        log.debug("[MapIndex] 변경 반영: 요청={}건, 반영={}건, 전체={}건", ids.size(), fresh.size(), rows.size());
+    }
+
+    private Snapshot rebuild() {
+        int n = rows.size();
+        Snapshot s = new Snapshot(n);
+
+        int i = 0;
+        for (FestivalGeoRow r : rows.values()) {
+            s.ids[i] = r.getId();
+            s.names[i] = r.getFstvlNm();
+            s.lats[i] = r.getMapY();
+            s.lngs[i] = r.getMapX();
+            s.starts[i] = toDay(r.getFstvlStart());
+            s.ends[i] = toDay(r.getFstvlEnd());
+            i++;
+        }
+        s.tree = GeoQuadTree.build(s.lats, s.lngs, s.starts, s.ends);
+        return s;
+    }
+
+    private static int toDay(LocalDate d) {
+        return (int) d.toEpochDay();
+    }
+
+    // 색인 한 벌 (쿼드트리 + 원래 위치 기준 배열), 만든 뒤에는 읽기 전용
+    private static final class Snapshot {
+        private final long[] ids;
+        private final String[] names;
+        private final double[] lats;
+        private final double[] lngs;
+        private final int[] starts;
+        private final int[] ends;
+        private GeoQuadTree tree;
+
+        private Snapshot(int n) {
+            ids = new long[n];
+            names = new String[n];
+            lats = new double[n];
+            lngs = new double[n];
+            starts = new int[n];
+            ends = new int[n];
+        }
+
+        private FestivalMarker marker(int pos, LocalDate today) {
+            int day = toDay(today);
+            FestivalStatus status;
+            if (day < starts[pos]) status = FestivalStatus.UPCOMING;
+            else if (day > ends[pos]) status = FestivalStatus.PAST;
+            else status = FestivalStatus.ONGOING;
+
+            return new FestivalMarker(ids[pos], names[pos] == null ? "" : names[pos],
+                    lats[pos], lngs[pos], status.name());
+        }
+    }
+
+    // 격자 한 칸 누적값 (pos 는 개별 점 하나만 들어왔을 때 그 위치)
+    private static final class Cell {
+        private int count;
+        private double sumLat;
+        private double sumLng;
+        private int pos = -1;
+
+        private void add(double lat, double lng, int n, int pointPos) {
+            pos = (count == 0 && n == 1) ? pointPos : -1;
+            count += n;
+            sumLat += lat * n;
+            sumLng += lng * n;
+        }
+    }
+}
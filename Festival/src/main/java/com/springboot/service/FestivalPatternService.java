@@ -1,18 +1,18 @@
 package com.springboot.service;
 
 import com.springboot.domain.FestivalEvent;
+import com.springboot.domain.FestivalEventKind;
 import com.springboot.domain.FestivalMaster;
+import com.springboot.domain.FestivalPattern;
 import com.springboot.repository.FestivalEventRepository;
 import com.springboot.repository.FestivalMasterRepository;
+import com.springboot.repository.FestivalPatternRepository;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class FestivalPatternService {
@@ -21,11 +21,15 @@ public class FestivalPatternService {
     private final FestivalEventRepository eventRepository;
     private final FestivalMasterRepository masterRepository;
 
+    private final FestivalPatternRepository storedPatternRepository;
+
     public FestivalPatternService(FestivalEventRepository repository,
-                                  FestivalMasterRepository masterRepository) {
+                                  FestivalMasterRepository masterRepository,
+                                  FestivalPatternRepository storedPatternRepository) {
         this.repository = repository;
         this.eventRepository = repository;
         this.masterRepository = masterRepository;
+        this.storedPatternRepository = storedPatternRepository;
     }
 
     public static class ExpectedPeriod {
@@ -59,72 +63,24 @@ public class FestivalPatternService {
         public String getDayOfWeekKo() { return dayOfWeekKo; }
     }
 
-    private static class Key {
-        final int month;
-        final int weekOfMonth;
-        final DayOfWeek dayOfWeek;
-
-        Key(int month, int weekOfMonth, DayOfWeek dayOfWeek) {
-            this.month = month;
-            this.weekOfMonth = weekOfMonth;
-            this.dayOfWeek = dayOfWeek;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof Key)) return false;
-            Key key = (Key) o;
-            return month == key.month &&
-                    weekOfMonth == key.weekOfMonth &&
-                    dayOfWeek == key.dayOfWeek;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(month, weekOfMonth, dayOfWeek);
-        }
-    }
-
+    /**
+     * 축제명 기준 다음 개최 예상 (festival_pattern 에 저장된 일괄 분석 결과를 PK 로 조회)
+     */
     public Optional<ExpectedPeriod> predictNextYearByName(String festivalName, int targetYear) {
-        String baseName = normalizeName(festivalName);
-
-        List<FestivalEvent> history = repository.findByFcltyNmContaining(baseName);
-
-        if (history.size() < 3) return Optional.empty();
-
-        Map<Key, Long> counts = new HashMap<>();
-
-        for (FestivalEvent f : history) {
-            LocalDate d = f.getFstvlStart();
-            if (d == null) continue;
-
-            int month = d.getMonthValue();
-            int weekOfMonth = (d.getDayOfMonth() - 1) / 7 + 1;
-            DayOfWeek dow = d.getDayOfWeek();
-
-            Key key = new Key(month, weekOfMonth, dow);
-            counts.put(key, counts.getOrDefault(key, 0L) + 1L);
-        }
-
-        if (counts.isEmpty()) return Optional.empty();
-
-        Map.Entry<Key, Long> best = null;
-        for (Map.Entry<Key, Long> e : counts.entrySet()) {
-            if (best == null || e.getValue() > best.getValue()) best = e;
-        }
-
-        Key k = best.getKey();
-
-        return Optional.of(new ExpectedPeriod(
-                baseName,
-                history.size(),
-                targetYear,
-                k.month,
-                k.weekOfMonth,
-                k.dayOfWeek,
-                toKorean(k.dayOfWeek)
-        ));
+        if (festivalName == null || festivalName.isBlank()) return Optional.empty();
+        String baseName = PatternRules.normalizeName(festivalName);
+
+        return storedPatternRepository.findById(baseName)
+                .filter(p -> p.getExpectedDayOfWeek() != null)
+                .map(p -> new ExpectedPeriod(
+                        baseName,
+                        p.getOccurrenceCount(),
+                        targetYear,
+                        p.getExpectedMonth(),
+                        p.getExpectedWeekOfMonth(),
+                        p.getExpectedDayOfWeek(),
+                        PatternRules.toKorean(p.getExpectedDayOfWeek())
+                ));
     }
 
     public Optional<ExpectedPeriod> predictNextYearByName(String festivalName) {
@@ -139,6 +95,17 @@ public class FestivalPatternService {
         if (futureStart == null || futureEnd == null || futureEnd.isBefore(futureStart)) {
             return Collections.emptyList();
         }
+        return buildExpectedFestivalsForRange(futureStart, futureEnd, masterRepository.findAll());
+    }
+
+    /**
+     * 주어진 master 들만 예측 (패턴이 바뀐 master 의 예상 회차 증분 갱신용)
+     */
+    public List<FestivalEvent> buildExpectedFestivalsForRange(LocalDate futureStart, LocalDate futureEnd,
+                                                              Collection<FestivalMaster> masters) {
+        if (futureStart == null || futureEnd == null || futureEnd.isBefore(futureStart)) {
+            return Collections.emptyList();
+        }
 
         List<FestivalEvent> result = new ArrayList<>();
         Set<String> seen = new HashSet<>();
@@ -157,8 +124,8 @@ public class FestivalPatternService {
             targetMonths.add(d.getMonthValue());
         }
 
-        // 패턴이 있는 모든 Master 조회
-        List<FestivalMaster> mastersWithPattern = masterRepository.findAll().stream()
+        // 패턴이 있는 Master 만
+        List<FestivalMaster> mastersWithPattern = masters.stream()
             .filter(m -> m.getExpectedMonth() != null && targetMonths.contains(m.getExpectedMonth()))
             .collect(java.util.stream.Collectors.toList());
 
@@ -199,7 +166,7 @@ public class FestivalPatternService {
                     if (!seen.add(key)) continue;
 
                     FestivalEvent expected = FestivalEvent.createExpected(
-                            master.getFstvlNm(), 
+                            master,
                             predictedStart, 
                             predictedEnd
                     );
@@ -216,35 +183,9 @@ public class FestivalPatternService {
         return result;
     }
 
-    private static class BaseYearPick {
-        final int baseYear;
-        final List<FestivalEvent> baseFestivals;
-
-        BaseYearPick(int baseYear, List<FestivalEvent> baseFestivals) {
-            this.baseYear = baseYear;
-            this.baseFestivals = baseFestivals;
-        }
-    }
-
-    private BaseYearPick pickBaseYearForMonth(int month, int latestYear) {
-        int earliest = Math.max(1900, latestYear - 30);
-
-        for (int y = latestYear; y >= earliest; y--) {
-            LocalDate s = LocalDate.of(y, month, 1);
-            LocalDate e = s.withDayOfMonth(s.lengthOfMonth());
-
-            List<FestivalEvent> list = eventRepository.findByStartBetween(s, e, PageRequest.of(0, 5000));
-
-            if (list != null && !list.isEmpty()) {
-                return new BaseYearPick(y, list);
-            }
-        }
-        return new BaseYearPick(latestYear, Collections.emptyList());
-    }
-
     private int findLatestYearInDb() {
         try {
-            Optional<FestivalEvent> latest = eventRepository.findTopByOrderByFstvlStartDesc();
+            Optional<FestivalEvent> latest = eventRepository.findTopByKindOrderByFstvlStartDesc(FestivalEventKind.REAL);
             if (latest.isPresent() && latest.get().getFstvlStart() != null) {
                 return latest.get().getFstvlStart().getYear();
             }
@@ -264,410 +205,65 @@ public class FestivalPatternService {
         return date;
     }
 
-    private String normalizeName(String name) {
-        if (name == null) return "";
-        String n = name;
-        n = n.replaceAll("제\\d+회", "");
-        n = n.replaceAll("\\d{4}", "");
-        n = n.replaceAll("\\[예상\\]\\s*", "");
-        return n.trim();
-    }
-
-    private String toKorean(DayOfWeek dow) {
-        if (dow == null) return "";
-        return switch (dow) {
-            case MONDAY -> "월요일";
-            case TUESDAY -> "화요일";
-            case WEDNESDAY -> "수요일";
-            case THURSDAY -> "목요일";
-            case FRIDAY -> "금요일";
-            case SATURDAY -> "토요일";
-            case SUNDAY -> "일요일";
-        };
-    }
-
-    /**
-     * 특정 축제의 개최 패턴 분석 (기존 메서드)
-     */
-    public PatternAnalysisResult analyzeFestivalPattern(FestivalMaster master) {
-        if (master == null) {
-            return PatternAnalysisResult.invalid();
-        }
-        
-        List<FestivalEvent> events = eventRepository.findByMaster(master);
-        
-        if (events.size() < 3) {
-            return PatternAnalysisResult.invalid();
-        }
-        
-        // 월-주차-요일 패턴 카운트
-        Map<Key, Integer> patternCounts = new HashMap<>();
-        Map<Key, List<Integer>> durationsByPattern = new HashMap<>();
-        
-        for (FestivalEvent event : events) {
-            LocalDate start = event.getFstvlStart();
-            LocalDate end = event.getFstvlEnd();
-            
-            if (start == null || end == null) continue;
-            
-            int month = start.getMonthValue();
-            int weekOfMonth = (start.getDayOfMonth() - 1) / 7 + 1;
-            DayOfWeek dayOfWeek = start.getDayOfWeek();
-            
-            Key key = new Key(month, weekOfMonth, dayOfWeek);
-            patternCounts.merge(key, 1, Integer::sum);
-            
-            // 지속 기간 수집
-            int duration = (int) ChronoUnit.DAYS.between(start, end);
-            durationsByPattern.computeIfAbsent(key, k -> new ArrayList<>()).add(duration);
-        }
-        
-        if (patternCounts.isEmpty()) {
-            return PatternAnalysisResult.invalid();
-        }
-        
-        // 가장 빈번한 패턴 찾기
-        Key mostFrequent = Collections.max(
-            patternCounts.entrySet(), 
-            Map.Entry.comparingByValue()
-        ).getKey();
-        
-        int sampleCount = patternCounts.get(mostFrequent);
-        
-        // 평균 지속 기간
-        List<Integer> durations = durationsByPattern.get(mostFrequent);
-        int avgDuration = durations != null && !durations.isEmpty() ?
-            (int) durations.stream().mapToInt(Integer::intValue).average().orElse(0) : 0;
-        
-        return new PatternAnalysisResult(
-            true,
-            sampleCount,
-            mostFrequent.month,
-            mostFrequent.weekOfMonth,
-            mostFrequent.dayOfWeek,
-            avgDuration
-        );
-    }
-
-    // ============ 패턴 분석 기능 추가 ============
-
     /**
-     * 전체 축제의 개최 패턴을 분석하여 예상 개최 시기를 생성
+     * 여러 축제의 저장된 개최 패턴 (festival_pattern, 정규화한 축제명 PK 로 한 번에 조회)
+     * - 일괄 분석(ExpectedFestivalGenerator) 결과를 그대로 읽으므로 요청마다 회차를 읽어 분석하지 않음
+     * - 같은 축제명의 master 는 같은 결과 (전체 개최 이력 기준)
+     * @return master id → 결과 (입력 순서, 저장된 패턴 없으면 invalid 결과)
      */
-    public List<FestivalPatternResult> analyzeAllFestivalPatterns(int startYear, int endYear) {
-        List<FestivalPatternResult> results = new ArrayList<>();
-        
-        // 모든 Master 조회
-        List<FestivalMaster> allMasters = masterRepository.findAll();
-        
-        for (FestivalMaster master : allMasters) {
-            FestivalPatternResult result = analyzeFestivalPattern(master, startYear, endYear);
-            if (result.isValid() && result.getOccurrenceCount() >= 2) {
-                results.add(result);
+    public Map<Long, FestivalPatternResult> findStoredPatterns(Collection<FestivalMaster> masters) {
+        Map<Long, FestivalMaster> byId = new LinkedHashMap<>();
+        Set<String> names = new HashSet<>();
+        for (FestivalMaster master : masters) {
+            if (master == null || master.getId() == null) continue;
+            byId.putIfAbsent(master.getId(), master);
+            if (master.getFstvlNm() != null && !master.getFstvlNm().isBlank()) {
+                names.add(PatternRules.normalizeName(master.getFstvlNm()));
             }
         }
-        
-        // 개최횟수 내림차순, 패턴신뢰도 내림차순, 최근개최일 내림차순
-        results.sort(Comparator
-            .comparing(FestivalPatternResult::getOccurrenceCount).reversed()
-            .thenComparing(FestivalPatternResult::getPatternConfidence).reversed()
-            .thenComparing(FestivalPatternResult::getLatestDate, Comparator.nullsLast(Comparator.reverseOrder()))
-        );
-        
-        return results;
-    }
 
-    /**
-     * 특정 축제의 개최 패턴 분석 및 예상 개최 시기 생성 (연도 범위 지정)
-     */
-    public FestivalPatternResult analyzeFestivalPattern(FestivalMaster master, int startYear, int endYear) {
-        if (master == null) {
-            return FestivalPatternResult.invalid();
+        Map<String, FestivalPattern> stored = new HashMap<>();
+        if (!names.isEmpty()) {
+            for (FestivalPattern p : storedPatternRepository.findAllById(names)) {
+                stored.put(p.getNameKey(), p);
+            }
         }
 
-        // 해당 기간의 이벤트 조회
-        List<FestivalEvent> events = eventRepository.findByMaster(master).stream()
-            .filter(e -> e.getFstvlStart() != null)
-            .filter(e -> {
-                int year = e.getFstvlStart().getYear();
-                return year >= startYear && year <= endYear;
-            })
-            .collect(Collectors.toList());
-
-        if (events.size() < 3) {
-            return FestivalPatternResult.invalid();
+        Map<Long, FestivalPatternResult> results = new LinkedHashMap<>();
+        for (FestivalMaster master : byId.values()) {
+            FestivalPattern p = (master.getFstvlNm() == null) ? null
+                    : stored.get(PatternRules.normalizeName(master.getFstvlNm()));
+            results.put(master.getId(), (p == null) ? FestivalPatternResult.invalid() : toResult(master, p));
         }
-
-        return analyzePattern(master, events);
+        return results;
     }
 
-    private FestivalPatternResult analyzePattern(FestivalMaster master, List<FestivalEvent> events) {
-        // 1. 각 이벤트의 월, 주차, 요일 추출
-        List<PatternDetail> details = events.stream()
-            .map(this::extractPatternDetail)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-
-        if (details.isEmpty()) {
-            return FestivalPatternResult.invalid();
-        }
-
-        // 2. 월별 빈도 분석
-        Map<Integer, Long> monthFreq = details.stream()
-            .collect(Collectors.groupingBy(PatternDetail::getMonth, Collectors.counting()));
-        
-        // 3. 주차별 빈도 분석
-        Map<Integer, Long> weekFreq = details.stream()
-            .collect(Collectors.groupingBy(PatternDetail::getWeekOfMonth, Collectors.counting()));
-        
-        // 4. 요일별 빈도 분석
-        Map<DayOfWeek, Long> dayFreq = details.stream()
-            .collect(Collectors.groupingBy(PatternDetail::getDayOfWeek, Collectors.counting()));
-
-        // 5. 최빈값 추출
-        int mostFrequentMonth = findMostFrequent(monthFreq);
-        int mostFrequentWeek = findMostFrequent(weekFreq);
-        DayOfWeek mostFrequentDay = findMostFrequentDay(dayFreq);
-
-        // 6. 일관성 분석
-        int uniqueMonths = monthFreq.size();
-        int uniqueWeeks = weekFreq.size();
-        int uniqueDays = dayFreq.size();
-
-        String monthConsistency = getConsistency(uniqueMonths);
-        String weekConsistency = getConsistency(uniqueWeeks);
-        String dayConsistency = getConsistency(uniqueDays);
-
-        // 7. 평균 지속 기간 계산
-        int avgDuration = calculateAverageDuration(events);
-
-        // 8. 예상 개최 시기 문자열 생성
-        String expectedPeriod = generateExpectedPeriod(
-            uniqueMonths, uniqueWeeks, uniqueDays,
-            mostFrequentMonth, mostFrequentWeek, mostFrequentDay
-        );
-
-        // 9. 패턴 신뢰도 계산 (0-100점)
-        int confidence = calculateConfidence(uniqueMonths, uniqueWeeks, uniqueDays);
-
-        // 10. 개최 연도 목록
-        String years = events.stream()
-            .map(e -> String.valueOf(e.getFstvlStart().getYear()))
-            .distinct()
-            .sorted()
-            .collect(Collectors.joining(","));
-
-        // 11. 첫 개최일, 최근 개최일
-        LocalDate firstDate = events.stream()
-            .map(FestivalEvent::getFstvlStart)
-            .min(LocalDate::compareTo)
-            .orElse(null);
-
-        LocalDate latestDate = events.stream()
-            .map(FestivalEvent::getFstvlStart)
-            .max(LocalDate::compareTo)
-            .orElse(null);
-
+    private FestivalPatternResult toResult(FestivalMaster master, FestivalPattern p) {
         return FestivalPatternResult.builder()
             .valid(true)
             .masterId(master.getId())
             .festivalName(master.getFstvlNm())
             .ctprvnNm(master.getCtprvnNm())
             .signguNm(master.getSignguNm())
-            .occurrenceCount(events.size())
-            .firstDate(firstDate)
-            .latestDate(latestDate)
-            .years(years)
-            .monthPattern(details.stream().map(PatternDetail::getMonth).map(String::valueOf).collect(Collectors.joining(",")))
-            .weekPattern(details.stream().map(PatternDetail::getWeekOfMonth).map(String::valueOf).collect(Collectors.joining(",")))
-            .dayPattern(details.stream().map(d -> toKorean(d.getDayOfWeek())).collect(Collectors.joining(",")))
-            .mostFrequentMonth(mostFrequentMonth)
-            .monthFrequency(monthFreq.get(mostFrequentMonth).intValue())
-            .mostFrequentWeek(mostFrequentWeek)
-            .weekFrequency(weekFreq.get(mostFrequentWeek).intValue())
-            .mostFrequentDay(mostFrequentDay)
-            .dayFrequency(dayFreq.get(mostFrequentDay).intValue())
-            .monthConsistency(monthConsistency)
-            .weekConsistency(weekConsistency)
-            .dayConsistency(dayConsistency)
-            .expectedPeriod(expectedPeriod)
-            .patternConfidence(confidence)
-            .averageDuration(avgDuration)
+            .occurrenceCount(p.getOccurrenceCount())
+            .firstDate(p.getFirstDate())
+            .latestDate(p.getLatestDate())
+            .years(p.getYears())
+            .mostFrequentMonth(p.getMostFrequentMonth())
+            .monthFrequency(p.getMonthFrequency())
+            .mostFrequentWeek(p.getMostFrequentWeek())
+            .weekFrequency(p.getWeekFrequency())
+            .mostFrequentDay(p.getMostFrequentDay())
+            .dayFrequency(p.getDayFrequency())
+            .monthConsistency(PatternRules.consistency(FestivalPattern.distinct(p.getMonthCounts())))
+            .weekConsistency(PatternRules.consistency(FestivalPattern.distinct(p.getWeekCounts())))
+            .dayConsistency(PatternRules.consistency(FestivalPattern.distinct(p.getDayCounts())))
+            .expectedPeriod(p.getExpectedPeriod())
+            .patternConfidence(p.getPatternConfidence())
+            .averageDuration(p.getAverageDuration())
             .build();
     }
 
-    /**
-     * 이벤트로부터 패턴 상세 정보 추출
-     */
-    private PatternDetail extractPatternDetail(FestivalEvent event) {
-        LocalDate start = event.getFstvlStart();
-        if (start == null) return null;
-
-        int year = start.getYear();
-        int month = start.getMonthValue();
-        int weekOfMonth = (start.getDayOfMonth() - 1) / 7 + 1;
-        DayOfWeek dayOfWeek = start.getDayOfWeek();
-
-        return new PatternDetail(year, month, weekOfMonth, dayOfWeek);
-    }
-
-    /**
-     * 평균 지속 기간 계산
-     */
-    private int calculateAverageDuration(List<FestivalEvent> events) {
-        List<Long> durations = events.stream()
-            .filter(e -> e.getFstvlStart() != null && e.getFstvlEnd() != null)
-            .map(e -> ChronoUnit.DAYS.between(e.getFstvlStart(), e.getFstvlEnd()))
-            .collect(Collectors.toList());
-
-        if (durations.isEmpty()) return 0;
-
-        return (int) durations.stream()
-            .mapToLong(Long::longValue)
-            .average()
-            .orElse(0);
-    }
-
-    /**
-     * 예상 개최 시기 문자열 자동 생성
-     */
-    private String generateExpectedPeriod(int uniqueMonths, int uniqueWeeks, int uniqueDays,
-                                         int month, int week, DayOfWeek day) {
-        // 월, 주차, 요일 모두 고정
-        if (uniqueMonths == 1 && uniqueWeeks == 1 && uniqueDays == 1) {
-            return String.format("%d월 %d주차 %s", month, week, toKorean(day));
-        }
-        
-        // 월과 주차만 고정
-        if (uniqueMonths == 1 && uniqueWeeks == 1) {
-            return String.format("%d월 %d주차 %s 전후", month, week, toKorean(day));
-        }
-        
-        // 월만 고정
-        if (uniqueMonths == 1) {
-            return String.format("%d월 %d주차 전후", month, week);
-        }
-        
-        // 월이 거의 고정 (1-2개월)
-        if (uniqueMonths <= 2) {
-            return String.format("%d월 경 (%d주차 전후)", month, week);
-        }
-        
-        // 패턴 불규칙
-        return String.format("매년 %d월 전후 (패턴 불규칙)", month);
-    }
-
-    /**
-     * 패턴 신뢰도 점수 계산 (0-100)
-     */
-    private int calculateConfidence(int uniqueMonths, int uniqueWeeks, int uniqueDays) {
-        int monthScore = switch (uniqueMonths) {
-            case 1 -> 40;
-            case 2 -> 30;
-            default -> 10;
-        };
-
-        int weekScore = switch (uniqueWeeks) {
-            case 1 -> 30;
-            case 2 -> 20;
-            default -> 5;
-        };
-
-        int dayScore = switch (uniqueDays) {
-            case 1 -> 30;
-            case 2 -> 20;
-            default -> 5;
-        };
-
-        return monthScore + weekScore + dayScore;
-    }
-
-    /**
-     * 일관성 문자열 반환
-     */
-    private String getConsistency(int uniqueCount) {
-        return switch (uniqueCount) {
-            case 1 -> "고정";
-            case 2 -> "거의고정";
-            default -> "변동";
-        };
-    }
-
-    /**
-     * Map에서 최빈값(가장 빈번한 값) 찾기
-     */
-    private <K> K findMostFrequent(Map<K, Long> freqMap) {
-        return freqMap.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(null);
-    }
-
-    private DayOfWeek findMostFrequentDay(Map<DayOfWeek, Long> freqMap) {
-        return freqMap.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(null);
-    }
-
-    /**
-     * 패턴 상세 정보를 담는 내부 클래스
-     */
-    private static class PatternDetail {
-        private final int year;
-        private final int month;
-        private final int weekOfMonth;
-        private final DayOfWeek dayOfWeek;
-
-        public PatternDetail(int year, int month, int weekOfMonth, DayOfWeek dayOfWeek) {
-            this.year = year;
-            this.month = month;
-            this.weekOfMonth = weekOfMonth;
-            this.dayOfWeek = dayOfWeek;
-        }
-
-        public int getYear() { return year; }
-        public int getMonth() { return month; }
-        public int getWeekOfMonth() { return weekOfMonth; }
-        public DayOfWeek getDayOfWeek() { return dayOfWeek; }
-    }
-
-    // ============================================
-
-    /**
-     * 패턴 분석 결과 클래스 (기존)
-     */
-    public static class PatternAnalysisResult {
-        private final boolean valid;
-        private final int sampleCount;
-        private final int month;
-        private final int weekOfMonth;
-        private final DayOfWeek dayOfWeek;
-        private final int durationDays;
-        
-        private PatternAnalysisResult(boolean valid, int sampleCount, int month, 
-                                     int weekOfMonth, DayOfWeek dayOfWeek, int durationDays) {
-            this.valid = valid;
-            this.sampleCount = sampleCount;
-            this.month = month;
-            this.weekOfMonth = weekOfMonth;
-            this.dayOfWeek = dayOfWeek;
-            this.durationDays = durationDays;
-        }
-        
-        public static PatternAnalysisResult invalid() {
-            return new PatternAnalysisResult(false, 0, 0, 0, null, 0);
-        }
-        
-        // Getters
-        public boolean isValid() { return valid; }
-        public int getSampleCount() { return sampleCount; }
-        public int getMonth() { return month; }
-        public int getWeekOfMonth() { return weekOfMonth; }
-        public DayOfWeek getDayOfWeek() { return dayOfWeek; }
-        public int getDurationDays() { return durationDays; }
-    }
-
     /**
      * 축제 패턴 분석 결과 클래스 (신규 - 상세 정보 포함)
      */
@@ -682,11 +278,6 @@ public class FestivalPatternService {
         private final LocalDate latestDate;
         private final String years;
         
-        // 패턴 상세
-        private final String monthPattern;
-        private final String weekPattern;
-        private final String dayPattern;
-        
         // 최빈값
         private final int mostFrequentMonth;
         private final int monthFrequency;
@@ -708,7 +299,6 @@ public class FestivalPatternService {
         private FestivalPatternResult(boolean valid, Long masterId, String festivalName,
                                      String ctprvnNm, String signguNm, int occurrenceCount,
                                      LocalDate firstDate, LocalDate latestDate, String years,
-                                     String monthPattern, String weekPattern, String dayPattern,
                                      int mostFrequentMonth, int monthFrequency,
                                      int mostFrequentWeek, int weekFrequency,
                                      DayOfWeek mostFrequentDay, int dayFrequency,
@@ -723,9 +313,6 @@ public class FestivalPatternService {
             this.firstDate = firstDate;
             this.latestDate = latestDate;
             this.years = years;
-            this.monthPattern = monthPattern;
-            this.weekPattern = weekPattern;
-            this.dayPattern = dayPattern;
             this.mostFrequentMonth = mostFrequentMonth;
             this.monthFrequency = monthFrequency;
             this.mostFrequentWeek = mostFrequentWeek;
@@ -742,7 +329,7 @@ public class FestivalPatternService {
 
         public static FestivalPatternResult invalid() {
             return new FestivalPatternResult(false, null, null, null, null, 0, 
-                null, null, null, null, null, null, 0, 0, 0, 0, null, 0,
+                null, null, null, 0, 0, 0, 0, null, 0,
                 null, null, null, null, 0, 0);
         }
 
@@ -760,9 +347,6 @@ public class FestivalPatternService {
         public LocalDate getFirstDate() { return firstDate; }
         public LocalDate getLatestDate() { return latestDate; }
         public String getYears() { return years; }
-        public String getMonthPattern() { return monthPattern; }
-        public String getWeekPattern() { return weekPattern; }
-        public String getDayPattern() { return dayPattern; }
         public int getMostFrequentMonth() { return mostFrequentMonth; }
         public int getMonthFrequency() { return monthFrequency; }
         public int getMostFrequentWeek() { return mostFrequentWeek; }
@@ -786,9 +370,6 @@ public class FestivalPatternService {
             private LocalDate firstDate;
             private LocalDate latestDate;
             private String years;
-            private String monthPattern;
-            private String weekPattern;
-            private String dayPattern;
             private int mostFrequentMonth;
             private int monthFrequency;
             private int mostFrequentWeek;
@@ -811,9 +392,6 @@ public class FestivalPatternService {
             public Builder firstDate(LocalDate firstDate) { this.firstDate = firstDate; return this; }
             public Builder latestDate(LocalDate latestDate) { this.latestDate = latestDate; return this; }
             public Builder years(String years) { this.years = years; return this; }
-            public Builder monthPattern(String monthPattern) { this.monthPattern = monthPattern; return this; }
-            public Builder weekPattern(String weekPattern) { this.weekPattern = weekPattern; return this; }
-            public Builder dayPattern(String dayPattern) { this.dayPattern = dayPattern; return this; }
             public Builder mostFrequentMonth(int mostFrequentMonth) { this.mostFrequentMonth = mostFrequentMonth; return this; }
             public Builder monthFrequency(int monthFrequency) { this.monthFrequency = monthFrequency; return this; }
             public Builder mostFrequentWeek(int mostFrequentWeek) { this.mostFrequentWeek = mostFrequentWeek; return this; }
@@ -829,7 +407,7 @@ public class FestivalPatternService {
 
             public FestivalPatternResult build() {
                 return new FestivalPatternResult(valid, masterId, festivalName, ctprvnNm, signguNm,
-                    occurrenceCount, firstDate, latestDate, years, monthPattern, weekPattern, dayPattern,
+                    occurrenceCount, firstDate, latestDate, years,
                     mostFrequentMonth, monthFrequency, mostFrequentWeek, weekFrequency,
                     mostFrequentDay, dayFrequency, monthConsistency, weekConsistency, dayConsistency,
                     expectedPeriod, patternConfidence, averageDuration);
@@ -0,0 +1,184 @@
+package com.springboot.service;
+
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.event.FestivalDataVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 목록/캘린더 결과 캐시 (정규화된 조건 → 화면 데이터)
+ * - 값은 엔티티가 아닌 DTO 만 (영속성 컨텍스트/지연 로딩 객체를 붙잡지 않게)
+ * - LRU, 최대 festival.cache.max-entries 건 + 값의 줄 수 합계 festival.cache.max-rows
+ * - 만료: festival.cache.ttl-seconds 경과, 날짜가 바뀜(진행 중/예정 상태가 오늘 기준), 데이터 버전이 바뀜
+ * - 동기화/예상 축제 생성기가 커밋하면(FestivalDataChangedEvent) 전부 비움
+ * - 이름(list, calendar)별 hit/miss 집계
+ *
+ * 캐시된 값은 여러 요청이 같이 보므로 꺼낸 쪽에서 수정하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalResultCache {
+
+    private final FestivalDataVersion dataVersion;
+
+    @Value("${festival.cache.max-entries:300}")
+    private int maxEntries;
+
+    @Value("${festival.cache.max-rows:50000}")
+    private long maxRows;
+
+    @Value("${festival.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 접근 순서 LinkedHashMap = LRU (entries 로 동기화)
+    private final Map<List<Object>, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    // entries 값의 줄 수 합계 (entries 로 동기화)
+    private long rows;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없거나 만료됐으면 loader 로 만들어 넣고 반환
+     * @param name 캐시 구분 (집계 단위)
+     * @param key  정규화된 조건 (null 포함 가능, equals/hashCode 로 비교)
+     */
+    public <T> T get(String name, List<Object> key, Supplier<T> loader) {
+        return get(name, key, loader, v -> 1);
+    }
+
+    /**
+     * get(name, key, loader) + 값의 줄 수 (max-rows 기준, 혼자 넘으면 캐시하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name, List<Object> key, Supplier<T> loader, ToIntFunction<? super T> weigher) {
+        List<Object> fullKey = Arrays.asList(name, key);
+        LocalDate today = LocalDate.now();
+        long now = System.nanoTime();
+
+        // 만드는 도중 데이터가 바뀌면 다음 조회에서 버려지도록 시작 시점 버전으로 저장
+        long version = dataVersion.current();
+
+        synchronized (entries) {
+            Entry e = entries.get(fullKey);
+            if (e != null && e.isValid(today, version, now)) {
+                statsOf(name).hits.increment();
+                return (T) e.value;
+            }
+            if (e != null) remove(fullKey);
+        }
+
+        statsOf(name).misses.increment();
+        T value = loader.get();
+        int weight = Math.max(1, weigher.applyAsInt(value));
+        if (weight > maxRows) return value;
+
+        synchronized (entries) {
+            remove(fullKey);
+            entries.put(fullKey, new Entry(name, value, weight, today, version, now + ttlSeconds * 1_000_000_000L));
+            rows += weight;
+            evict();
+        }
+        return value;
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            if (entries.isEmpty()) return;
+            entries.clear();
+            rows = 0;
+        }
+        stats.values().forEach(s -> s.invalidations.increment());
+        log.debug("[ResultCache] 데이터 변경으로 전체 무효화");
+    }
+
+    /**
+     * 이름별 hit / miss / eviction / invalidation 수와 현재 건수
+     */
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Long> sizes = new HashMap<>();
+        synchronized (entries) {
+            for (Entry e : entries.values()) sizes.merge(e.name, 1L, Long::sum);
+        }
+
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        stats.forEach((name, s) -> {
+            Map<String, Long> m = new LinkedHashMap<>();
+            m.put("hits", s.hits.sum());
+            m.put("misses", s.misses.sum());
+            m.put("evictions", s.evictions.sum());
+            m.put("invalidations", s.invalidations.sum());
+            m.put("size", sizes.getOrDefault(name, 0L));
+            result.put(name, m);
+        });
+        return result;
+    }
+
+    // ===== helpers =====
+
+    // entries 잠금 안에서
+    private void remove(List<Object> fullKey) {
+        Entry e = entries.remove(fullKey);
+        if (e != null) rows -= e.weight;
+    }
+
+    // 건수/줄 수 한도를 넘는 동안 가장 오래 안 쓴 것부터 (entries 잠금 안에서)
+    private void evict() {
+        Iterator<Entry> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || rows > maxRows) && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            rows -= eldest.weight;
+            statsOf(eldest.name).evictions.increment();
+        }
+    }
+
+    private Stats statsOf(String name) {
+        return stats.computeIfAbsent(name, k -> new Stats());
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final Object value;
+        private final int weight;
+        private final LocalDate day;
+        private final long version;
+        private final long expiresAt;
+
+        private Entry(String name, Object value, int weight, LocalDate day, long version, long expiresAt) {
+            this.name = name;
+            this.value = value;
+            this.weight = weight;
+            this.day = day;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isValid(LocalDate today, long currentVersion, long now) {
+            return day.equals(today) && version == currentVersion && now - expiresAt < 0;
+        }
+    }
+
+    private static final class Stats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+    }
+}
@@ -0,0 +1,283 @@
+package com.springboot.service;
+
+import com.springboot.dto.FestivalSearchEventRow;
+import com.springboot.dto.FestivalSearchMasterRow;
+import com.springboot.event.FestivalDataChangedEvent;
+import com.springboot.index.BkTree;
+import com.springboot.index.HangulText;
+import com.springboot.index.NgramIndex;
+import com.springboot.index.PendingChanges;
+import com.springboot.repository.FestivalEventRepository;
+import com.springboot.repository.FestivalMasterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 축제 키워드 검색 (인메모리 n-gram 역색인)
+ * - 축제명(master + event fcltyNm), 주소(시도/시군구/addr1), 소개글(overview) 을 필드별로 색인
+ * - 결과는 이벤트 id 별 점수: 축제명 일치 > 주소 일치 > 소개글 일치
+ * - fuzzy 검색은 위 결과에 자모 편집 거리로 찾은 비슷한 축제명(master)을 낮은 점수로 덧붙임
+ * - 첫 검색 시 전체 적재, 이후 FestivalDataChangedEvent 로 들어온 id만 다시 읽어 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FestivalSearchService {
+
+    private static final int NAME = 1;
+    private static final int ADDRESS = 1 << 1;
+    private static final int OVERVIEW = 1 << 2;
+
+    // 오타 허용 점수: FUZZY_BASE - 거리 (주소 일치보다 낮고 소개글 일치 이상)
+    private static final int FUZZY_BASE = 5;
+
+    private final FestivalEventRepository eventRepository;
+    private final FestivalMasterRepository masterRepository;
+
+    private final PendingChanges pending = new PendingChanges();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NgramIndex masterNameIndex = new NgramIndex(1, 3, true);
+    private final NgramIndex addressIndex = new NgramIndex(1, 3, true);
+    // 소개글도 원문을 들고 있어야 3글자 이상 질의를 gram 교집합이 아니라 실제 포함 여부로 판단함
+    private final NgramIndex overviewIndex = new NgramIndex(2, 2, true);
+    private final NgramIndex eventNameIndex = new NgramIndex(1, 3, true);
+
+    // master 축제명 자모 분해 (전체 + 띄어쓰기 단위)
+    private final BkTree masterNameTree = new BkTree();
+
+    private final Map<Integer, Set<Integer>> eventsByMaster = new HashMap<>();
+    private final Map<Integer, Integer> masterByEvent = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFestivalDataChanged(FestivalDataChangedEvent event) {
+        pending.add(event);
+    }
+
+    /**
+     * 키워드 검색 (정확히 포함된 것만)
+     * @return 이벤트 id → 점수 (점수 내림차순, 같은 점수면 id 오름차순). 일치 없으면 빈 Map
+     */
+    public Map<Long, Integer> search(String keyword) {
+        return search(keyword, false);
+    }
+
+    /**
+     * 키워드 검색
+     * @param fuzzy true 면 오타가 있는 축제명도 (정확 일치보다 낮은 점수로) 포함
+     * @return 이벤트 id → 점수 (점수 내림차순, 같은 점수면 id 오름차순). 일치 없으면 빈 Map
+     */
+    public Map<Long, Integer> search(String keyword, boolean fuzzy) {
+        String q = HangulText.normalize(keyword);
+        if (q.isEmpty()) return Collections.emptyMap();
+
+        ensureFresh();
+
+        Map<Integer, Integer> fields = new HashMap<>();
+        Map<Integer, Integer> fuzzyScores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            markMasterHits(fields, masterNameIndex.search(q), NAME);
+            markMasterHits(fields, addressIndex.search(q), ADDRESS);
+            if (overviewIndex.canSearch(q)) {
+                markMasterHits(fields, overviewIndex.search(q), OVERVIEW);
+            }
+            for (int eventId : eventNameIndex.search(q)) {
+                fields.merge(eventId, NAME, (a, b) -> a | b);
+            }
+            if (fuzzy) {
+                collectFuzzy(q, fields, fuzzyScores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Integer, Integer> scores = new HashMap<>(fuzzyScores);
+        fields.forEach((eventId, mask) -> scores.put(eventId, score(mask)));
+
+        List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort((a, b) -> {
+            int c = Integer.compare(b.getValue(), a.getValue());
+            return (c != 0) ? c : Integer.compare(a.getKey(), b.getKey());
+        });
+
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Integer> e : ranked) {
+            result.put(e.getKey().longValue(), e.getValue());
+        }
+        return result;
+    }
+
+    // ===== helpers =====
+
+    // 축제명 100, 주소 10, 소개글 1 (합산)
+    private static int score(int fieldMask) {
+        int s = 0;
+        if ((fieldMask & NAME) != 0) s += 100;
+        if ((fieldMask & ADDRESS) != 0) s += 10;
+        if ((fieldMask & OVERVIEW) != 0) s += 1;
+        return s;
+    }
+
+    // 자모 편집 거리 이내의 축제명 → 정확 일치가 없는 이벤트에만 점수
+    private void collectFuzzy(String q, Map<Integer, Integer> fields, Map<Integer, Integer> fuzzyScores) {
+        String jamo = HangulText.decompose(q);
+        int maxDistance = fuzzyDistance(jamo.length());
+        if (maxDistance == 0) return;
+
+        Map<Integer, Integer> masterDistances = new HashMap<>();
+        masterNameTree.search(jamo, maxDistance, (masterId, d) -> masterDistances.merge(masterId, d, Math::min));
+
+        masterDistances.forEach((masterId, d) -> {
+            Set<Integer> events = eventsByMaster.get(masterId);
+            if (events == null) return;
+            for (Integer eventId : events) {
+                if (fields.containsKey(eventId)) continue;
+                fuzzyScores.merge(eventId, FUZZY_BASE - d, Math::max);
+            }
+        });
+    }
+
+    // 자모 길이별 허용 거리 (짧은 질의는 비슷한 이름이 너무 많아서 제외)
+    private static int fuzzyDistance(int jamoLength) {
+        if (jamoLength < 4) return 0;
+        if (jamoLength < 10) return 1;
+        if (jamoLength < 16) return 2;
+        return 3;
+    }
+
+    private void markMasterHits(Map<Integer, Integer> fields, int[] masterIds, int field) {
+        for (int masterId : masterIds) {
+            Set<Integer> events = eventsByMaster.get(masterId);
+            if (events == null) continue;
+            for (Integer eventId : events) {
+                fields.merge(eventId, field, (a, b) -> a | b);
+            }
+        }
+    }
+
+    private void ensureFresh() {
+        if (loaded && pending.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            pending.refresh(loaded, this::loadAll, this::applyChanges);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadAll() {
+        List<FestivalSearchMasterRow> masters = new ArrayList<>(masterRepository.findAllSearchRows());
+        List<FestivalSearchEventRow> events = new ArrayList<>(eventRepository.findAllSearchRows());
+
+        // id 오름차순으로 넣으면 postings 가 뒤에 붙기만 함
+        masters.sort(Comparator.comparing(FestivalSearchMasterRow::getId));
+        events.sort(Comparator.comparing(FestivalSearchEventRow::getId));
+
+        masters.forEach(this::putMaster);
+        events.forEach(this::putEvent);
+
+        log.info("[SearchIndex] 적재 완료: master={}건, event={}건, 축제명 BK-tree 노드={}개",
+                masters.size(), events.size(), masterNameTree.nodeCount());
+    }
+
+    private void applyChanges(FestivalDataChangedEvent changes) {
+        if (changes == null) return;
+
+        if (!changes.getMasterIds().isEmpty()) {
+            Set<Long> missing = new HashSet<>(changes.getMasterIds());
+            for (FestivalSearchMasterRow row : masterRepository.findSearchRowsByIdIn(changes.getMasterIds())) {
+                putMaster(row);
+                missing.remove(row.getId());
+            }
+            missing.forEach(id -> removeMaster(toDocId(id)));
+        }
+
+        if (!changes.getEventIds().isEmpty()) {
+            Set<Long> missing = new HashSet<>(changes.getEventIds());
+            for (FestivalSearchEventRow row : eventRepository.findSearchRowsByIdIn(changes.getEventIds())) {
+                putEvent(row);
+                missing.remove(row.getId());
+            }
+            missing.forEach(id -> removeEvent(toDocId(id)));
+        }
+
+        log.debug("[SearchIndex] 변경 반영: {}", changes);
+    }
+
+    private void putMaster(FestivalSearchMasterRow row) {
+        int id = toDocId(row.getId());
+        masterNameIndex.put(id, HangulText.normalize(row.getFstvlNm()));
+        masterNameTree.put(id, fuzzyKeys(row.getFstvlNm()));
+        addressIndex.put(id, HangulText.normalize(
+                safe(row.getCtprvnNm()) + " " + safe(row.getSignguNm()) + " " + safe(row.getAddr1())));
+        overviewIndex.put(id, HangulText.normalize(row.getOverview()));
+    }
+
+    private void removeMaster(int masterId) {
+        masterNameIndex.remove(masterId);
+        masterNameTree.remove(masterId);
+        addressIndex.remove(masterId);
+        overviewIndex.remove(masterId);
+    }
+
+    private void putEvent(FestivalSearchEventRow row) {
+        int id = toDocId(row.getId());
+        eventNameIndex.put(id, HangulText.normalize(row.getFcltyNm()));
+
+        unlinkEvent(id);
+        if (row.getMasterId() != null) {
+            int masterId = toDocId(row.getMasterId());
+            masterByEvent.put(id, masterId);
+            eventsByMaster.computeIfAbsent(masterId, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeEvent(int eventId) {
+        eventNameIndex.remove(eventId);
+        unlinkEvent(eventId);
+    }
+
+    private void unlinkEvent(int eventId) {
+        Integer prevMaster = masterByEvent.remove(eventId);
+        if (prevMaster == null) return;
+
+        Set<Integer> events = eventsByMaster.get(prevMaster);
+        if (events != null) {
+            events.remove(eventId);
+            if (events.isEmpty()) eventsByMaster.remove(prevMaster);
+        }
+    }
+
+    // 축제명 전체 + 띄어쓰기 단위 (두 글자 이상) 를 자모 분해
+    private static String[] fuzzyKeys(String name) {
+        if (name == null) return new String[0];
+
+        String[] tokens = name.trim().split("\\s+");
+        String[] keys = new String[tokens.length + 1];
+        keys[0] = HangulText.decompose(HangulText.normalize(name));
+        for (int i = 0; i < tokens.length; i++) {
+            String token = HangulText.normalize(tokens[i]);
+            keys[i + 1] = (token.length() >= 2) ? HangulText.decompose(token) : null;
+        }
+        return keys;
+    }
+
+    private static int toDocId(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    private static String safe(String s) {
+        return (s == null) ? "" : s;
+    }
+}
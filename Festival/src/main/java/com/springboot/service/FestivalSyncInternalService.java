@@ -3,10 +3,12 @@ package com.springboot.service;
 import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.FestivalMaster;
 import com.springboot.dto.TourApiDto;
+import com.springboot.event.FestivalDataChangedEvent;
 import com.springboot.repository.FestivalEventRepository;
 import com.springboot.repository.FestivalMasterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class FestivalSyncInternalService {
 
     private final FestivalEventRepository eventRepository;
     private final FestivalMasterRepository masterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -126,7 +129,8 @@ public class FestivalSyncInternalService {
         event.setFcltyNm(item.getTitle());
         event.setRawId(item.getContentid());
         
-        eventRepository.save(event);
+        FestivalEvent saved = eventRepository.save(event);
+        eventPublisher.publishEvent(FestivalDataChangedEvent.ofEvent(saved));
         return isNew;
     }
 
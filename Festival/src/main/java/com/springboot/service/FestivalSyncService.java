@@ -4,16 +4,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.FestivalMaster;
 import com.springboot.dto.TourApiDto;
+import com.springboot.event.FestivalDataChangedEvent;
 import com.springboot.repository.FestivalEventRepository;
 import com.springboot.repository.FestivalMasterRepository;
 import com.springboot.tourapi.TourApiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -24,6 +27,7 @@ public class FestivalSyncService {
     private final TourApiClient tourApiClient;
     private final FestivalEventRepository eventRepository;
     private final FestivalMasterRepository masterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -84,6 +88,7 @@ public class FestivalSyncService {
         log.info("[TourAPI Sync] year={} 대상 이벤트 수={}", year, events.size());
 
         int updated = 0;
+        List<Long> updatedMasterIds = new ArrayList<>();
 
         for (FestivalEvent e : events) {
             FestivalMaster m = e.getMaster();
@@ -100,6 +105,7 @@ public class FestivalSyncService {
                     m.setOverview(overview);
                     m.setDetailLoaded(true);
                     masterRepository.save(m);
+                    updatedMasterIds.add(m.getId());
                     updated++;
                 }
             } catch (Exception ex) {
@@ -107,6 +113,10 @@ public class FestivalSyncService {
             }
         }
 
+        if (!updatedMasterIds.isEmpty()) {
+            eventPublisher.publishEvent(FestivalDataChangedEvent.ofMasters(updatedMasterIds));
+        }
+
         log.info("[TourAPI Sync] year={} 업데이트된 master 수={}", year, updated);
     }
 
@@ -123,6 +133,7 @@ public class FestivalSyncService {
 
         int updated = 0;
         int skipped = 0;
+        List<Long> updatedMasterIds = new ArrayList<>();
 
         for (FestivalEvent e : events) {
             FestivalMaster m = e.getMaster();
@@ -151,6 +162,7 @@ public class FestivalSyncService {
                     }
                     
                     masterRepository.save(m);
+                    updatedMasterIds.add(m.getId());
                     updated++;
                     
                     log.info("이미지 수집 완료: contentId={}, count={}", contentId, images.size());
@@ -168,6 +180,10 @@ public class FestivalSyncService {
             }
         }
 
+        if (!updatedMasterIds.isEmpty()) {
+            eventPublisher.publishEvent(FestivalDataChangedEvent.ofMasters(updatedMasterIds));
+        }
+
         log.info("[Image Sync] year={} 완료: 업데이트={}, 스킵={}", year, updated, skipped);
     }
 
@@ -263,7 +279,8 @@ public class FestivalSyncService {
         event.setFcltyNm(item.getTitle());
         event.setRawId(item.getContentid());
         
-        eventRepository.save(event);
+        FestivalEvent saved = eventRepository.save(event);
+        eventPublisher.publishEvent(FestivalDataChangedEvent.ofEvent(saved));
         return isNew;
     }
 
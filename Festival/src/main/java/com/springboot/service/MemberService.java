@@ -7,12 +7,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
 public class MemberService {
 
+    // 캘린더 구독 토큰 길이 (바이트, URL-safe Base64 로 43자)
+    private static final int CALENDAR_TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -80,6 +86,30 @@ public class MemberService {
         memberRepository.save(member);
     }
     
+    // 북마크 캘린더 구독 토큰 발급 (이미 있으면 새 토큰으로 바꿈 → 예전 구독 주소는 끊김)
+    @Transactional
+    public String issueCalendarToken(Member member) {
+        byte[] bytes = new byte[CALENDAR_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        member.setCalendarToken(token);
+        memberRepository.save(member);
+        return token;
+    }
+
+    // 북마크 캘린더 구독 토큰 취소
+    @Transactional
+    public void revokeCalendarToken(Member member) {
+        member.setCalendarToken(null);
+        memberRepository.save(member);
+    }
+
+    // 캘린더 구독 토큰의 회원 id (없거나 취소됐으면 empty)
+    public Optional<Long> findIdByCalendarToken(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+        return memberRepository.findIdByCalendarToken(token);
+    }
+
     // 회원 삭제 (탈퇴)
     @Transactional
     public void delete(Member member) {
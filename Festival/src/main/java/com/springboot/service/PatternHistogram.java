@@ -0,0 +1,254 @@
+package com.springboot.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 축제 한 건(축제명 또는 master)의 개최 패턴 누적 카운트 (박싱/회차별 객체 없음)
+ * - 날짜는 epoch day int (LocalDate.toEpochDay) 로 받고 월/일/요일은 직접 계산
+ * - 히스토그램은 [0] 을 비운 고정 배열: 월 int[13], 주차 int[6], 요일 int[8] (1=월 ~ 7=일)
+ * - (월, 주차, 요일) 조합도 고정 배열 한 칸씩 (칸 번호 = 월 * 48 + 주차 * 8 + 요일)
+ * - 최빈값은 같으면 작은 값 (월 → 주차 → 요일 순)
+ *
+ * MasterPatternAnalyzer(일괄 분석) 는 작업 스레드마다 하나를 두고 축제명 그룹마다 reset() 해서 다시 씀
+ * 한 스레드에서만 씀 (다 쌓은 뒤에는 읽기만)
+ * 돌려준 배열은 내부 배열이므로 수정하지 말 것
+ */
+public final class PatternHistogram {
+
+    // 종료일 없음
+    public static final int NO_DAY = Integer.MIN_VALUE;
+
+    // 조합 칸이 없을 때 jointMode()
+    public static final int NO_KEY = -1;
+
+    private static final int JOINT_SIZE = 13 * 48;
+
+    // 개최 연도 비트 (YEAR_BASE 부터 256년, 밖이면 연도 목록에서만 빠짐)
+    private static final int YEAR_BASE = 1900;
+    private static final int YEAR_SPAN = 256;
+
+    private final int[] months = new int[13];
+    private final int[] weeks = new int[6];
+    private final int[] days = new int[8];
+
+    // 종료일 있는 회차만
+    private final int[] jointCounts = new int[JOINT_SIZE];
+    private final long[] jointDurations = new long[JOINT_SIZE];
+
+    private final long[] yearBits = new long[YEAR_SPAN / 64];
+
+    private int count;
+    private int firstDay = Integer.MAX_VALUE;
+    private int latestDay = Integer.MIN_VALUE;
+    private long durationSum;
+    private int durationCount;
+
+    /**
+     * 회차 하나 추가 (start / end: epoch day, 종료일이 없으면 end = NO_DAY)
+     */
+    public void add(int start, int end) {
+        // civil-from-days (proleptic Gregorian, 3월 시작 연도)
+        int z = start + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int doe = z - era * 146097;
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int dayOfMonth = doy - (153 * mp + 2) / 5 + 1;
+        int month = (mp < 10) ? mp + 3 : mp - 9;
+        int year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        int week = (dayOfMonth - 1) / 7 + 1;
+        int dow = Math.floorMod(start + 3, 7) + 1; // 1970-01-01 = 목요일(4)
+
+        count++;
+        months[month]++;
+        weeks[week]++;
+        days[dow]++;
+        if (start < firstDay) firstDay = start;
+        if (start > latestDay) latestDay = start;
+
+        int y = year - YEAR_BASE;
+        if (y >= 0 && y < YEAR_SPAN) yearBits[y >>> 6] |= 1L << (y & 63);
+
+        if (end == NO_DAY) return;
+
+        int duration = end - start;
+        durationSum += duration;
+        durationCount++;
+
+        int key = month * 48 + week * 8 + dow;
+        jointCounts[key]++;
+        jointDurations[key] += duration;
+    }
+
+    public void add(LocalDate start, LocalDate end) {
+        add((int) start.toEpochDay(), (end == null) ? NO_DAY : (int) end.toEpochDay());
+    }
+
+    public void reset() {
+        Arrays.fill(months, 0);
+        Arrays.fill(weeks, 0);
+        Arrays.fill(days, 0);
+        Arrays.fill(jointCounts, 0);
+        Arrays.fill(jointDurations, 0);
+        Arrays.fill(yearBits, 0);
+        count = 0;
+        firstDay = Integer.MAX_VALUE;
+        latestDay = Integer.MIN_VALUE;
+        durationSum = 0;
+        durationCount = 0;
+    }
+
+    // ===== 전체 회차 =====
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public LocalDate firstDate() {
+        return (count == 0) ? null : LocalDate.ofEpochDay(firstDay);
+    }
+
+    public LocalDate latestDate() {
+        return (count == 0) ? null : LocalDate.ofEpochDay(latestDay);
+    }
+
+    /**
+     * 종료일 있는 회차의 평균 기간 (일, 소수점 버림)
+     */
+    public int averageDuration() {
+        return (durationCount == 0) ? 0 : (int) (durationSum / durationCount);
+    }
+
+    public int[] monthCounts() {
+        return months;
+    }
+
+    public int[] weekCounts() {
+        return weeks;
+    }
+
+    public int[] dayCounts() {
+        return days;
+    }
+
+    public int mostFrequentMonth() {
+        return argMax(months);
+    }
+
+    public int mostFrequentWeek() {
+        return argMax(weeks);
+    }
+
+    public DayOfWeek mostFrequentDay() {
+        return DayOfWeek.of(argMax(days));
+    }
+
+    public int uniqueMonths() {
+        return distinct(months);
+    }
+
+    public int uniqueWeeks() {
+        return distinct(weeks);
+    }
+
+    public int uniqueDays() {
+        return distinct(days);
+    }
+
+    /**
+     * 개최 연도 (오름차순, 쉼표 구분)
+     */
+    public String years() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < yearBits.length; i++) {
+            long bits = yearBits[i];
+            while (bits != 0) {
+                int y = YEAR_BASE + i * 64 + Long.numberOfTrailingZeros(bits);
+                if (sb.length() > 0) sb.append(',');
+                sb.append(y);
+                bits &= bits - 1;
+            }
+        }
+        return sb.toString();
+    }
+
+    // ===== (월, 주차, 요일) 조합 =====
+
+    /**
+     * 가장 빈번한 조합 칸 (종료일 있는 회차가 없으면 NO_KEY)
+     */
+    public int jointMode() {
+        int best = NO_KEY;
+        for (int k = 0; k < JOINT_SIZE; k++) {
+            if (jointCounts[k] > 0 && (best == NO_KEY || jointCounts[k] > jointCounts[best])) best = k;
+        }
+        return best;
+    }
+
+    public int jointCount(int key) {
+        return jointCounts[key];
+    }
+
+    /**
+     * 조합 칸의 평균 기간 (일, 소수점 버림)
+     */
+    public int jointAverageDuration(int key) {
+        return (jointCounts[key] == 0) ? 0 : (int) (jointDurations[key] / jointCounts[key]);
+    }
+
+    public static int keyMonth(int key) {
+        return key / 48;
+    }
+
+    public static int keyWeek(int key) {
+        return key / 8 % 6;
+    }
+
+    public static DayOfWeek keyDay(int key) {
+        return DayOfWeek.of(key % 8);
+    }
+
+    // ===== 배열 도우미 =====
+
+    /**
+     * 가장 큰 칸 (같으면 앞 칸, [0] 은 안 봄)
+     */
+    public static int argMax(int[] counts) {
+        int best = 1;
+        for (int i = 2; i < counts.length; i++) {
+            if (counts[i] > counts[best]) best = i;
+        }
+        return best;
+    }
+
+    /**
+     * 0 이 아닌 칸 수 ([0] 은 안 봄)
+     */
+    public static int distinct(int[] counts) {
+        int n = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > 0) n++;
+        }
+        return n;
+    }
+
+    /**
+     * [1] 부터 "개수,개수,..." (festival_pattern 히스토그램 컬럼 형식)
+     */
+    public static String csv(int[] counts) {
+        StringBuilder sb = new StringBuilder(counts.length * 3);
+        for (int i = 1; i < counts.length; i++) {
+            if (i > 1) sb.append(',');
+            sb.append(counts[i]);
+        }
+        return sb.toString();
+    }
+}
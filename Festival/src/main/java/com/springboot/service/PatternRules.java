@@ -0,0 +1,104 @@
+package com.springboot.service;
+
+import java.time.DayOfWeek;
+
+/**
+ * 개최 패턴 공통 규칙 (축제명 정규화, 일관성/신뢰도 점수, 예상 시기 문구)
+ * - FestivalPatternService(저장된 패턴 조회) 와 MasterPatternAnalyzer(일괄 분석 → festival_pattern) 가 같이 씀
+ * - 정규화한 축제명은 festival_pattern 의 키이므로 바꾸면 전체 재분석 필요 (festival.pattern.rebuild-on-startup=true 로 한 번 기동)
+ */
+public final class PatternRules {
+
+    private PatternRules() {
+    }
+
+    /**
+     * 축제 이름 정규화 ("제N회", 연도, 예전 "[예상]" 접두어 제거)
+     */
+    public static String normalizeName(String name) {
+        if (name == null) return "";
+        String n = name;
+        n = n.replaceAll("제\\d+회", "");
+        n = n.replaceAll("\\d{4}", "");
+        n = n.replaceAll("\\[예상\\]\\s*", "");
+        return n.trim();
+    }
+
+    public static String toKorean(DayOfWeek dow) {
+        if (dow == null) return "";
+        return switch (dow) {
+            case MONDAY -> "월요일";
+            case TUESDAY -> "화요일";
+            case WEDNESDAY -> "수요일";
+            case THURSDAY -> "목요일";
+            case FRIDAY -> "금요일";
+            case SATURDAY -> "토요일";
+            case SUNDAY -> "일요일";
+        };
+    }
+
+    /**
+     * 예상 개최 시기 문자열 자동 생성
+     */
+    public static String expectedPeriod(int uniqueMonths, int uniqueWeeks, int uniqueDays,
+                                        int month, int week, DayOfWeek day) {
+        // 월, 주차, 요일 모두 고정
+        if (uniqueMonths == 1 && uniqueWeeks == 1 && uniqueDays == 1) {
+            return String.format("%d월 %d주차 %s", month, week, toKorean(day));
+        }
+
+        // 월과 주차만 고정
+        if (uniqueMonths == 1 && uniqueWeeks == 1) {
+            return String.format("%d월 %d주차 %s 전후", month, week, toKorean(day));
+        }
+
+        // 월만 고정
+        if (uniqueMonths == 1) {
+            return String.format("%d월 %d주차 전후", month, week);
+        }
+
+        // 월이 거의 고정 (1-2개월)
+        if (uniqueMonths <= 2) {
+            return String.format("%d월 경 (%d주차 전후)", month, week);
+        }
+
+        // 패턴 불규칙
+        return String.format("매년 %d월 전후 (패턴 불규칙)", month);
+    }
+
+    /**
+     * 패턴 신뢰도 점수 계산 (0-100)
+     */
+    public static int confidence(int uniqueMonths, int uniqueWeeks, int uniqueDays) {
+        int monthScore = switch (uniqueMonths) {
+            case 1 -> 40;
+            case 2 -> 30;
+            default -> 10;
+        };
+
+        int weekScore = switch (uniqueWeeks) {
+            case 1 -> 30;
+            case 2 -> 20;
+            default -> 5;
+        };
+
+        int dayScore = switch (uniqueDays) {
+            case 1 -> 30;
+            case 2 -> 20;
+            default -> 5;
+        };
+
+        return monthScore + weekScore + dayScore;
+    }
+
+    /**
+     * 일관성 문자열 반환
+     */
+    public static String consistency(int uniqueCount) {
+        return switch (uniqueCount) {
+            case 1 -> "고정";
+            case 2 -> "거의고정";
+            default -> "변동";
+        };
+    }
+}
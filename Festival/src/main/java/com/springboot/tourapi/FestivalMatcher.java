@@ -3,6 +3,7 @@ package com.springboot.tourapi;
 import com.springboot.domain.FestivalEvent;
 import com.springboot.domain.FestivalMaster;
 import com.springboot.dto.TourApiDto;
+import com.springboot.index.RegionDictionary;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
@@ -53,30 +54,32 @@ public class FestivalMatcher {
             }
         }
 
-        // 3) 지역(시/도 + 시/군/구) 체크
-        String ctprvn = safe(master.getCtprvnNm());
-        String signgu = safe(master.getSignguNm());
-        String addr = safe(api.getAddr1());
+        // 3) 지역(시/도 + 시/군/구) 코드 체크 - DB 쪽에 있는 단계까지만 비교
+        int dbCode = regionCode(master);
+        int apiCode = RegionDictionary.codeOfAddress(api.getAddr1());
 
-        if (!ctprvn.isEmpty()) {
-            String ctprvnShort = ctprvn
-                    .replace("특별시", "")
-                    .replace("광역시", "")
-                    .replace("특별자치시", "")
-                    .trim();
-
-            if (!ctprvnShort.isEmpty() && !addr.contains(ctprvnShort)) {
-                return false;
-            }
+        if (dbCode != 0 && RegionDictionary.ctprvnOf(dbCode) != RegionDictionary.ctprvnOf(apiCode)) {
+            return false;
         }
 
-        if (!signgu.isEmpty() && !addr.contains(signgu)) {
+        if (RegionDictionary.isSignguCode(dbCode) && dbCode != apiCode) {
             return false;
         }
 
         return true;
     }
 
+    // 저장된 코드 우선, 아직 없으면 (저장 전 엔티티) 이름/주소로 계산
+    private static int regionCode(FestivalMaster master) {
+        Integer signgu = master.getSignguCd();
+        if (signgu != null && signgu != 0) return signgu;
+
+        Integer ctprvn = master.getCtprvnCd();
+        if (ctprvn != null) return ctprvn;
+
+        return RegionDictionary.codeOf(master.getCtprvnNm(), master.getSignguNm(), master.getAddr1());
+    }
+
     /** 축제명 정규화: 연도/회차/공백/특수문자 제거 */
     private static String normalize(String s) {
         if (s == null) return "";
@@ -97,8 +100,4 @@ public class FestivalMatcher {
             return null;
         }
     }
-
-    private static String safe(String s) {
-        return s == null ? "" : s;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.springboot.batch;
+
+import com.springboot.dto.FestivalPatternRow;
+import com.springboot.service.PatternHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MasterPatternAnalyzerTest {
+
+    private static final String NAME = "봄꽃축제";
+
+    @Test
+    void patternDisappearsClearsEveryMaster() {
+        // 회차가 지워져서 MIN_EVENTS 아래로 → 패턴 없음 → 그룹의 master 패턴 컬럼 모두 비움
+        MasterPatternAnalyzer.NameGroup group = group(1L, 2L);
+        group.add(row(1L, LocalDate.of(2023, 4, 1)));
+        group.add(row(2L, LocalDate.of(2024, 4, 6)));
+
+        MasterPatternAnalyzer.NamePattern pattern = group.toPattern(new PatternHistogram());
+
+        assertNull(pattern);
+        assertEquals(List.of(1L, 2L), new MasterPatternAnalyzer.Analyzed(group, null).clearedMasterIds());
+    }
+
+    @Test
+    void emptyGroupClearsEveryMaster() {
+        // 이름이 바뀌어 회차가 하나도 안 남은 예전 이름 그룹
+        MasterPatternAnalyzer.NameGroup group = group(7L);
+
+        assertNull(group.toPattern(new PatternHistogram()));
+        assertEquals(List.of(7L), new MasterPatternAnalyzer.Analyzed(group, null).clearedMasterIds());
+    }
+
+    @Test
+    void representativeChangeClearsPreviousRepresentative() {
+        // 가장 최근 회차가 master 2 로 넘어감 → 2 만 패턴 컬럼을 쓰고 예전 대표 1 은 비움
+        MasterPatternAnalyzer.NameGroup group = group(1L, 2L);
+        group.add(row(1L, LocalDate.of(2022, 4, 2)));
+        group.add(row(1L, LocalDate.of(2023, 4, 1)));
+        group.add(row(2L, LocalDate.of(2024, 4, 6)));
+
+        MasterPatternAnalyzer.NamePattern pattern = group.toPattern(new PatternHistogram());
+
+        assertNotNull(pattern);
+        assertEquals(2L, pattern.master().masterId());
+        assertEquals(List.of(1L), new MasterPatternAnalyzer.Analyzed(group, pattern).clearedMasterIds());
+    }
+
+    @Test
+    void unnamedMasterIsClearedFromPreviousGroup() {
+        // 이름이 비어서 예전 이름 그룹에 완료 표시만 남은 master 도 비움
+        MasterPatternAnalyzer.NameGroup group = group(1L);
+        group.addMark(new MasterPatternAnalyzer.Mark(3L, 5L, null));
+        group.add(row(1L, LocalDate.of(2022, 4, 2)));
+        group.add(row(1L, LocalDate.of(2023, 4, 1)));
+        group.add(row(1L, LocalDate.of(2024, 4, 6)));
+
+        MasterPatternAnalyzer.NamePattern pattern = group.toPattern(new PatternHistogram());
+
+        assertNotNull(pattern);
+        assertEquals(List.of(3L), new MasterPatternAnalyzer.Analyzed(group, pattern).clearedMasterIds());
+    }
+
+    private static MasterPatternAnalyzer.NameGroup group(long... masterIds) {
+        MasterPatternAnalyzer.NameGroup group = new MasterPatternAnalyzer.NameGroup(NAME);
+        for (long id : masterIds) group.addMark(new MasterPatternAnalyzer.Mark(id, 1L, NAME));
+        return group;
+    }
+
+    private static FestivalPatternRow row(long masterId, LocalDate start) {
+        return new FestivalPatternRow(masterId, NAME, null, null, start, start.plusDays(2));
+    }
+}
@@ -0,0 +1,146 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitmapTest {
+
+    @Test
+    void emptyBitmap() {
+        Bitmap b = new Bitmap();
+        assertTrue(b.isEmpty());
+        assertEquals(0, b.cardinality());
+        assertFalse(b.get(0));
+        assertFalse(b.get(100_000));
+    }
+
+    @Test
+    void setGrowsAndWordBoundariesWork() {
+        Bitmap b = new Bitmap();
+        b.set(0);
+        b.set(63);
+        b.set(64);
+        b.set(10_000);
+
+        assertTrue(b.get(0));
+        assertTrue(b.get(63));
+        assertTrue(b.get(64));
+        assertTrue(b.get(10_000));
+        assertFalse(b.get(62));
+        assertFalse(b.get(65));
+        assertEquals(4, b.cardinality());
+    }
+
+    @Test
+    void clearBeyondCapacityIsIgnored() {
+        Bitmap b = new Bitmap();
+        b.set(5);
+        b.clear(1_000);
+        b.clear(5);
+
+        assertFalse(b.get(5));
+        assertTrue(b.isEmpty());
+    }
+
+    @Test
+    void forEachVisitsInAscendingOrder() {
+        Bitmap b = new Bitmap();
+        int[] bits = {300, 0, 64, 63, 1};
+        for (int bit : bits) b.set(bit);
+
+        List<Integer> seen = new ArrayList<>();
+        b.forEach(seen::add);
+        assertEquals(List.of(0, 1, 63, 64, 300), seen);
+    }
+
+    @Test
+    void copyIsIndependent() {
+        Bitmap a = new Bitmap();
+        a.set(3);
+        Bitmap c = a.copy();
+        c.set(4);
+        a.clear(3);
+
+        assertFalse(a.get(4));
+        assertTrue(c.get(3));
+        assertTrue(c.get(4));
+    }
+
+    @Test
+    void operationsOnDifferentLengths() {
+        Bitmap small = new Bitmap();
+        small.set(1);
+        small.set(2);
+        Bitmap large = new Bitmap();
+        large.set(2);
+        large.set(500);
+
+        assertEquals(1, small.andCardinality(large));
+        assertEquals(1, large.andCardinality(small));
+
+        // 짧은 쪽과 AND 하면 긴 쪽 뒷부분은 지워짐
+        Bitmap and = large.copy().and(small);
+        assertEquals(1, and.cardinality());
+        assertTrue(and.get(2));
+        assertFalse(and.get(500));
+
+        // 긴 쪽과 OR 하면 늘어남
+        Bitmap or = small.copy().or(large);
+        assertEquals(3, or.cardinality());
+        assertTrue(or.get(500));
+
+        Bitmap andNot = large.copy().andNot(small);
+        assertEquals(1, andNot.cardinality());
+        assertTrue(andNot.get(500));
+    }
+
+    @Test
+    void matchesBitSet() {
+        Random random = new Random(9);
+        Bitmap a = new Bitmap();
+        Bitmap b = new Bitmap();
+        BitSet ra = new BitSet();
+        BitSet rb = new BitSet();
+
+        for (int i = 0; i < 2_000; i++) {
+            int x = random.nextInt(5_000);
+            int y = random.nextInt(3_000);
+            a.set(x);
+            ra.set(x);
+            b.set(y);
+            rb.set(y);
+            if (i % 5 == 0) {
+                int z = random.nextInt(5_000);
+                a.clear(z);
+                ra.clear(z);
+            }
+        }
+
+        assertEquals(ra.cardinality(), a.cardinality());
+
+        BitSet and = (BitSet) ra.clone();
+        and.and(rb);
+        assertEquals(and.cardinality(), a.andCardinality(b));
+        assertEquals(and, toBitSet(a.copy().and(b)));
+
+        BitSet or = (BitSet) ra.clone();
+        or.or(rb);
+        assertEquals(or, toBitSet(a.copy().or(b)));
+
+        BitSet andNot = (BitSet) ra.clone();
+        andNot.andNot(rb);
+        assertEquals(andNot, toBitSet(a.copy().andNot(b)));
+    }
+
+    private static BitSet toBitSet(Bitmap b) {
+        BitSet s = new BitSet();
+        b.forEach(s::set);
+        return s;
+    }
+}
@@ -0,0 +1,149 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BkTreeTest {
+
+    @Test
+    void emptyTreeAndInvalidQueries() {
+        BkTree t = new BkTree();
+        Map<Integer, Integer> hits = new TreeMap<>();
+        t.search("abc", 2, hits::put);
+        assertTrue(hits.isEmpty());
+
+        t.put(1, "abc");
+        t.search("", 2, hits::put);
+        t.search(null, 2, hits::put);
+        t.search("abc", -1, hits::put);
+        assertTrue(hits.isEmpty());
+    }
+
+    @Test
+    void findsWithinDistance() {
+        BkTree t = new BkTree();
+        t.put(1, "kitten");
+        t.put(2, "sitting");
+        t.put(3, "mitten");
+        t.put(4, "banana");
+
+        Map<Integer, Integer> hits = search(t, "sitten", 1);
+        assertEquals(Map.of(1, 1, 3, 1), hits);
+
+        hits = search(t, "sitten", 2);
+        assertEquals(Map.of(1, 1, 2, 2, 3, 1), hits);
+
+        assertEquals(Map.of(4, 0), search(t, "banana", 0));
+    }
+
+    @Test
+    void emptyAndDuplicateKeysAreSkipped() {
+        BkTree t = new BkTree();
+        t.put(1, "abc", "", null, "abc", "abd");
+        assertEquals(1, t.size());
+        assertEquals(2, t.nodeCount());
+
+        int[] calls = new int[1];
+        t.search("abc", 0, (doc, d) -> calls[0]++);
+        assertEquals(1, calls[0]);
+
+        t.put(2, "", null);
+        assertEquals(1, t.size());
+    }
+
+    @Test
+    void sameKeyForSeveralDocs() {
+        BkTree t = new BkTree();
+        t.put(1, "축제");
+        t.put(2, "축제");
+        assertEquals(1, t.nodeCount());
+        assertEquals(Map.of(1, 0, 2, 0), search(t, "축제", 0));
+    }
+
+    @Test
+    void putReplacesAndRemoveKeepsNodesForReuse() {
+        BkTree t = new BkTree();
+        t.put(1, "abc");
+        t.put(2, "abd");
+        t.put(1, "xyz");
+
+        assertEquals(2, t.size());
+        assertEquals(3, t.nodeCount());
+        assertTrue(search(t, "abc", 0).isEmpty());
+        assertEquals(Map.of(2, 1), search(t, "abc", 1));
+
+        // 빈 노드도 경로로 남아서 아래 노드가 여전히 검색됨
+        t.remove(1);
+        t.remove(1);
+        t.put(1, "abc");
+        assertEquals(3, t.nodeCount());
+        assertEquals(Map.of(1, 0, 2, 1), search(t, "abc", 1));
+
+        t.remove(2);
+        assertEquals(Map.of(1, 0), search(t, "abc", 1));
+    }
+
+    @Test
+    void randomKeysMatchBruteForce() {
+        Random random = new Random(5);
+        BkTree t = new BkTree();
+        Map<Integer, String> keys = new HashMap<>();
+
+        for (int step = 0; step < 1_500; step++) {
+            int doc = random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                t.remove(doc);
+                keys.remove(doc);
+            } else {
+                String key = randomKey(random);
+                t.put(doc, key);
+                keys.put(doc, key);
+            }
+        }
+        assertEquals(keys.size(), t.size());
+
+        for (int q = 0; q < 100; q++) {
+            String query = randomKey(random);
+            int max = random.nextInt(3);
+
+            Map<Integer, Integer> expected = new TreeMap<>();
+            for (Map.Entry<Integer, String> e : keys.entrySet()) {
+                int d = levenshtein(query, e.getValue());
+                if (d <= max) expected.put(e.getKey(), d);
+            }
+            assertEquals(expected, search(t, query, max));
+        }
+    }
+
+    private static Map<Integer, Integer> search(BkTree t, String query, int max) {
+        Map<Integer, Integer> hits = new TreeMap<>();
+        t.search(query, max, (doc, d) -> assertNull(hits.put(doc, d)));
+        return hits;
+    }
+
+    private static String randomKey(Random random) {
+        int len = 1 + random.nextInt(6);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) sb.append((char) ('a' + random.nextInt(4)));
+        return sb.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] dp = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) dp[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) dp[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+                dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+            }
+        }
+        return dp[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,81 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencySweepTest {
+
+    @Test
+    void noIntervalsCountsZero() {
+        int[] counts = ConcurrencySweep.overlapCounts(new int[0], new int[0], new int[]{1, 5}, new int[]{3, 9});
+
+        assertArrayEquals(new int[]{0, 0}, counts);
+    }
+
+    @Test
+    void overlapIncludesBothBoundaries() {
+        // [10, 20]
+        int[] starts = {10};
+        int[] ends = {20};
+
+        int[] counts = ConcurrencySweep.overlapCounts(starts, ends,
+                new int[]{0, 20, 12, 0, 21},
+                new int[]{10, 30, 15, 9, 30});
+
+        assertArrayEquals(new int[]{1, 1, 1, 0, 0}, counts);
+    }
+
+    @Test
+    void queryFromListCountsItself() {
+        int[] starts = {1, 3, 8};
+        int[] ends = {4, 6, 9};
+
+        int[] counts = ConcurrencySweep.overlapCounts(starts, ends, starts, ends);
+
+        assertArrayEquals(new int[]{2, 2, 1}, counts);
+    }
+
+    @Test
+    void unsortedQueriesKeepTheirPositions() {
+        int[] starts = {1, 2, 3};
+        int[] ends = {10, 2, 3};
+
+        int[] counts = ConcurrencySweep.overlapCounts(starts, ends,
+                new int[]{3, 1, 11, 2},
+                new int[]{3, 1, 12, 2});
+
+        assertArrayEquals(new int[]{2, 1, 0, 2}, counts);
+    }
+
+    @Test
+    void matchesPairwiseCount() {
+        Random rnd = new Random(7);
+        int n = 300;
+        int q = 200;
+        int[] starts = new int[n];
+        int[] ends = new int[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = rnd.nextInt(400) - 200;
+            ends[i] = starts[i] + rnd.nextInt(30);
+        }
+        int[] qs = new int[q];
+        int[] qe = new int[q];
+        for (int i = 0; i < q; i++) {
+            qs[i] = rnd.nextInt(400) - 200;
+            qe[i] = qs[i] + rnd.nextInt(30);
+        }
+
+        int[] counts = ConcurrencySweep.overlapCounts(starts, ends, qs, qe);
+
+        for (int k = 0; k < q; k++) {
+            int expected = 0;
+            for (int i = 0; i < n; i++) {
+                if (starts[i] <= qe[k] && ends[i] >= qs[k]) expected++;
+            }
+            assertEquals(expected, counts[k], "query " + k);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistrictDayCountsTest {
+
+    private static final String AREA = "부산광역시|해운대구";
+
+    @Test
+    void unknownAreaOrDateCountsZero() {
+        DistrictDayCounts t = new DistrictDayCounts();
+
+        assertEquals(0, t.get(AREA, LocalDate.of(2025, 5, 1)));
+        assertEquals(0, t.get(AREA, null));
+        assertEquals(0, t.peak(AREA, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    void addCoversBothEnds() {
+        DistrictDayCounts t = new DistrictDayCounts();
+        t.add(AREA, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 3), 1);
+
+        assertEquals(0, t.get(AREA, LocalDate.of(2025, 4, 30)));
+        assertEquals(1, t.get(AREA, LocalDate.of(2025, 5, 1)));
+        assertEquals(1, t.get(AREA, LocalDate.of(2025, 5, 3)));
+        assertEquals(0, t.get(AREA, LocalDate.of(2025, 5, 4)));
+        assertEquals(0, t.get("부산광역시|중구", LocalDate.of(2025, 5, 2)));
+    }
+
+    @Test
+    void addSplitsAcrossYearsAndLeapDay() {
+        DistrictDayCounts t = new DistrictDayCounts();
+        t.add(AREA, LocalDate.of(2023, 12, 30), LocalDate.of(2024, 3, 1), 1);
+
+        assertEquals(1, t.get(AREA, LocalDate.of(2023, 12, 31)));
+        assertEquals(1, t.get(AREA, LocalDate.of(2024, 1, 1)));
+        assertEquals(1, t.get(AREA, LocalDate.of(2024, 2, 29)));
+        assertEquals(1, t.get(AREA, LocalDate.of(2024, 3, 1)));
+        assertEquals(0, t.get(AREA, LocalDate.of(2024, 3, 2)));
+    }
+
+    @Test
+    void removingWithNegativeDeltaRestoresCounts() {
+        DistrictDayCounts t = new DistrictDayCounts();
+        LocalDate s = LocalDate.of(2025, 10, 1);
+        LocalDate e = LocalDate.of(2025, 10, 5);
+        t.add(AREA, s, e, 1);
+        t.add(AREA, s.plusDays(2), e.plusDays(2), 1);
+        t.add(AREA, s, e, -1);
+
+        assertEquals(0, t.get(AREA, s));
+        assertEquals(1, t.get(AREA, s.plusDays(3)));
+        assertEquals(1, t.peak(AREA, s, e.plusDays(10)));
+    }
+
+    @Test
+    void peakIsBusiestDayInRange() {
+        DistrictDayCounts t = new DistrictDayCounts();
+        t.add(AREA, LocalDate.of(2025, 12, 20), LocalDate.of(2026, 1, 10), 1);
+        t.add(AREA, LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 4), 1);
+        t.add(AREA, LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 3), 1);
+
+        assertEquals(3, t.peak(AREA, LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 31)));
+        assertEquals(2, t.peak(AREA, LocalDate.of(2026, 1, 4), LocalDate.of(2026, 1, 31)));
+        assertEquals(1, t.peak(AREA, LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 1)));
+        assertEquals(0, t.peak(AREA, LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 2)));
+    }
+
+    @Test
+    void loadMatchesAddingOneByOne() {
+        Random rnd = new Random(11);
+        int n = 200;
+        int base = (int) LocalDate.of(2024, 11, 1).toEpochDay();
+        int[] starts = new int[n];
+        int[] ends = new int[n];
+
+        DistrictDayCounts added = new DistrictDayCounts();
+        for (int i = 0; i < n; i++) {
+            starts[i] = base + rnd.nextInt(500);
+            ends[i] = starts[i] + rnd.nextInt(20);
+            added.add(AREA, LocalDate.ofEpochDay(starts[i]), LocalDate.ofEpochDay(ends[i]), 1);
+        }
+
+        DistrictDayCounts loaded = new DistrictDayCounts();
+        loaded.add(AREA, LocalDate.ofEpochDay(base), LocalDate.ofEpochDay(base + 10), 5);
+        loaded.load(AREA, starts, ends);
+
+        for (int d = base - 5; d < base + 530; d++) {
+            LocalDate date = LocalDate.ofEpochDay(d);
+            assertEquals(added.get(AREA, date), loaded.get(AREA, date), date.toString());
+        }
+    }
+
+    @Test
+    void loadWithNoIntervalsClearsArea() {
+        DistrictDayCounts t = new DistrictDayCounts();
+        t.add(AREA, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 3), 1);
+        t.load(AREA, new int[0], new int[0]);
+
+        assertEquals(0, t.get(AREA, LocalDate.of(2025, 5, 2)));
+    }
+}
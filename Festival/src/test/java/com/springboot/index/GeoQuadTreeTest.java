@@ -0,0 +1,163 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoQuadTreeTest {
+
+    private static final int N = 600;
+
+    private final Random random = new Random(7);
+    private final double[] lats = new double[N];
+    private final double[] lngs = new double[N];
+    private final int[] starts = new int[N];
+    private final int[] ends = new int[N];
+
+    GeoQuadTreeTest() {
+        // 대략 국내 범위
+        for (int i = 0; i < N; i++) {
+            lats[i] = 33 + random.nextDouble() * 5;
+            lngs[i] = 125 + random.nextDouble() * 5;
+            starts[i] = random.nextInt(365);
+            ends[i] = starts[i] + random.nextInt(30);
+        }
+    }
+
+    @Test
+    void emptyTreeReturnsNothing() {
+        GeoQuadTree t = GeoQuadTree.build(new double[0], new double[0], new int[0], new int[0]);
+        Collector c = new Collector();
+        t.query(-90, -180, 90, 180, 0, 100, -1, c);
+
+        assertEquals(0, t.size());
+        assertTrue(c.points.isEmpty());
+        assertTrue(t.nearest(37, 127, 5, 0, 100, 0, 100).isEmpty());
+    }
+
+    @Test
+    void pointQueryMatchesBruteForce() {
+        GeoQuadTree t = GeoQuadTree.build(lats, lngs, starts, ends);
+
+        for (int q = 0; q < 50; q++) {
+            double south = 33 + random.nextDouble() * 4;
+            double west = 125 + random.nextDouble() * 4;
+            double north = south + random.nextDouble() * 2;
+            double east = west + random.nextDouble() * 2;
+            int from = random.nextInt(365);
+            int to = from + random.nextInt(60);
+
+            Collector c = new Collector();
+            t.query(south, west, north, east, from, to, -1, c);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < N; i++) {
+                if (lats[i] >= south && lats[i] <= north && lngs[i] >= west && lngs[i] <= east
+                        && starts[i] <= to && ends[i] >= from) expected.add(i);
+            }
+            c.points.sort(null);
+            assertEquals(expected, c.points);
+            assertEquals(0, c.clusteredCount);
+        }
+    }
+
+    @Test
+    void clustersAndPointsTogetherCoverEveryMatch() {
+        GeoQuadTree t = GeoQuadTree.build(lats, lngs, starts, ends);
+        Collector c = new Collector();
+        t.query(30, 120, 40, 135, Integer.MIN_VALUE, Integer.MAX_VALUE, 1.0, c);
+
+        assertTrue(c.clusters > 0);
+        assertEquals(N, c.clusteredCount + c.points.size());
+    }
+
+    @Test
+    void identicalCoordinatesCollapseIntoOneCluster() {
+        int n = 100;
+        double[] y = new double[n];
+        double[] x = new double[n];
+        int[] s = new int[n];
+        int[] e = new int[n];
+        for (int i = 0; i < n; i++) {
+            y[i] = 35.1;
+            x[i] = 129.0;
+            e[i] = 10;
+        }
+        GeoQuadTree t = GeoQuadTree.build(y, x, s, e);
+
+        Collector c = new Collector();
+        t.query(35, 128, 36, 130, 0, 10, 0.01, c);
+        assertEquals(1, c.clusters);
+        assertEquals(n, c.clusteredCount);
+        assertEquals(35.1, c.lastLat, 1e-9);
+
+        // 기간이 안 맞으면 아무것도 없음
+        Collector none = new Collector();
+        t.query(35, 128, 36, 130, 11, 20, 0.01, none);
+        assertEquals(0, none.clusteredCount + none.points.size());
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        GeoQuadTree t = GeoQuadTree.build(lats, lngs, starts, ends);
+
+        for (int q = 0; q < 30; q++) {
+            double qLat = 33 + random.nextDouble() * 5;
+            double qLng = 125 + random.nextDouble() * 5;
+            int k = 1 + random.nextInt(10);
+            int startHi = 100 + random.nextInt(265);
+            int endLo = random.nextInt(100);
+
+            List<GeoQuadTree.Hit> hits = t.nearest(qLat, qLng, k, Integer.MIN_VALUE, startHi, endLo, Integer.MAX_VALUE);
+
+            List<double[]> all = new ArrayList<>();
+            for (int i = 0; i < N; i++) {
+                if (starts[i] > startHi || ends[i] < endLo) continue;
+                all.add(new double[]{GeoQuadTree.haversineKm(qLat, qLng, lats[i], lngs[i]), i});
+            }
+            all.sort((a, b) -> Double.compare(a[0], b[0]));
+
+            assertEquals(Math.min(k, all.size()), hits.size());
+            for (int i = 0; i < hits.size(); i++) {
+                assertEquals(all.get(i)[0], hits.get(i).distanceKm(), 1e-9);
+                assertTrue(starts[hits.get(i).pos()] <= startHi && ends[hits.get(i).pos()] >= endLo);
+            }
+        }
+    }
+
+    @Test
+    void nearestWithNonPositiveKIsEmpty() {
+        GeoQuadTree t = GeoQuadTree.build(lats, lngs, starts, ends);
+        assertTrue(t.nearest(37, 127, 0, 0, 1000, 0, 1000).isEmpty());
+    }
+
+    @Test
+    void haversineSeoulToBusan() {
+        double km = GeoQuadTree.haversineKm(37.5665, 126.9780, 35.1796, 129.0756);
+        assertEquals(325, km, 5);
+        assertEquals(0, GeoQuadTree.haversineKm(35, 129, 35, 129), 1e-12);
+    }
+
+    private static final class Collector implements GeoQuadTree.Visitor {
+        private final List<Integer> points = new ArrayList<>();
+        private int clusters;
+        private int clusteredCount;
+        private double lastLat;
+
+        @Override
+        public void cluster(double lat, double lng, int count) {
+            clusters++;
+            clusteredCount += count;
+            lastLat = lat;
+        }
+
+        @Override
+        public void point(int pos) {
+            points.add(pos);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulTextTest {
+
+    @Test
+    void normalizeDropsSpacesAndSymbolsAndLowercases() {
+        assertEquals("부산불꽃축제", HangulText.normalize("부산 불꽃-축제"));
+        assertEquals("k팝2024", HangulText.normalize("K-팝 2024!"));
+        assertEquals("", HangulText.normalize(null));
+        assertEquals("", HangulText.normalize(" - "));
+    }
+
+    @Test
+    void normalizeComposesDecomposedHangul() {
+        String nfd = Normalizer.normalize("축제", Normalizer.Form.NFD);
+        assertNotEquals("축제", nfd);
+
+        assertEquals("축제", HangulText.normalize(nfd));
+    }
+
+    @Test
+    void initialsProjectSyllablesOnly() {
+        assertEquals("ㄱㄹㅋㅍㅊㅈ", HangulText.initials("강릉커피축제"));
+        assertEquals("ㅋ2a", HangulText.initials("컵2a"));
+        assertEquals("", HangulText.initials(""));
+        assertEquals('ㄲ', HangulText.initialOf('꽃'));
+        assertEquals('x', HangulText.initialOf('x'));
+    }
+
+    @Test
+    void initialRangeIsCompatibilityConsonants() {
+        assertTrue(HangulText.isInitial('ㄱ'));
+        assertTrue(HangulText.isInitial('ㅎ'));
+        assertFalse(HangulText.isInitial('ㅏ'));
+        assertFalse(HangulText.isInitial('가'));
+    }
+
+    @Test
+    void detachesFinalConsonantForTypingInProgress() {
+        assertEquals('ㅍ', HangulText.detachedInitial('컾'));
+        assertEquals('커', HangulText.withoutDetachedFinal('컾'));
+
+        // 겹받침은 뒤 자음만 떼고 앞 자음은 남김
+        assertEquals('ㄱ', HangulText.detachedInitial('닭'));
+        assertEquals('달', HangulText.withoutDetachedFinal('닭'));
+
+        assertEquals(0, HangulText.detachedInitial('커'));
+        assertEquals('커', HangulText.withoutDetachedFinal('커'));
+        assertEquals(0, HangulText.detachedInitial('a'));
+    }
+
+    @Test
+    void decomposeSplitsIntoJamo() {
+        assertEquals("ㅂㅜㄹㄲㅗㅊ", HangulText.decompose("불꽃"));
+        assertEquals("ㅊㅜㄱㅈㅔ1", HangulText.decompose("축제1"));
+        assertEquals("", HangulText.decompose(null));
+    }
+}
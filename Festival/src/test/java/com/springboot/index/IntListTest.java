@@ -0,0 +1,47 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntListTest {
+
+    @Test
+    void growsPastInitialCapacity() {
+        IntList list = new IntList(0);
+        for (int i = 0; i < 100; i++) list.add(i * 3);
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(297, list.get(99));
+        assertEquals(100, list.toArray().length);
+    }
+
+    @Test
+    void removeLastAndClear() {
+        IntList list = new IntList();
+        assertTrue(list.isEmpty());
+
+        list.add(1);
+        list.add(2);
+        assertEquals(2, list.removeLast());
+        assertEquals(1, list.size());
+        assertArrayEquals(new int[]{1}, list.toArray());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new int[0], list.toArray());
+
+        list.add(7);
+        assertEquals(7, list.get(0));
+    }
+
+    @Test
+    void toArrayIsACopy() {
+        IntList list = new IntList();
+        list.add(5);
+        int[] copy = list.toArray();
+        copy[0] = 9;
+        assertEquals(5, list.get(0));
+    }
+}
@@ -0,0 +1,131 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalIndexTest {
+
+    @Test
+    void emptyIndexReturnsNothing() {
+        IntervalIndex ix = IntervalIndex.build(new long[0], new long[0], new int[0], new int[0]);
+
+        assertSame(IntervalIndex.empty(), ix);
+        assertEquals(0, ix.size());
+        assertArrayEquals(new int[0], ix.overlapping(0, 100));
+        assertArrayEquals(new int[]{0, 0}, ix.startingBetween(0, 100));
+    }
+
+    @Test
+    void mismatchedArrayLengthsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> IntervalIndex.build(new long[]{1}, new long[0], new int[]{1}, new int[]{1}));
+    }
+
+    @Test
+    void sortsByStartThenId() {
+        IntervalIndex ix = IntervalIndex.build(
+                new long[]{30, 10, 20},
+                new long[]{3, 1, 0},
+                new int[]{5, 5, 1},
+                new int[]{6, 9, 2});
+
+        assertEquals(20, ix.id(0));
+        assertEquals(10, ix.id(1));
+        assertEquals(30, ix.id(2));
+        assertEquals(0, ix.masterId(0));
+        assertEquals(9, ix.end(1));
+    }
+
+    @Test
+    void overlapIncludesBothBoundaries() {
+        // [10, 20]
+        IntervalIndex ix = IntervalIndex.build(new long[]{1}, new long[]{1}, new int[]{10}, new int[]{20});
+
+        assertEquals(1, ix.overlapping(0, 10).length);
+        assertEquals(1, ix.overlapping(20, 30).length);
+        assertEquals(1, ix.overlapping(12, 15).length);
+        assertEquals(1, ix.overlapping(0, 30).length);
+        assertEquals(0, ix.overlapping(0, 9).length);
+        assertEquals(0, ix.overlapping(21, 30).length);
+        assertEquals(1, ix.ongoing(10).length);
+        assertEquals(1, ix.ongoing(20).length);
+        assertEquals(0, ix.ongoing(21).length);
+    }
+
+    @Test
+    void reversedRangeReturnsNothing() {
+        IntervalIndex ix = IntervalIndex.build(new long[]{1}, new long[]{1}, new int[]{10}, new int[]{20});
+
+        assertEquals(0, ix.overlapping(15, 12).length);
+        assertArrayEquals(new int[]{0, 0}, ix.startingBetween(15, 12));
+    }
+
+    @Test
+    void longIntervalIsFoundUnderShortOnes() {
+        // 앞에서 시작한 긴 기간이 짧은 기간들 밑에 묻혀도 maxEnd 로 찾아야 함
+        long[] ids = {1, 2, 3, 4, 5};
+        int[] starts = {0, 1, 2, 3, 4};
+        int[] ends = {100, 1, 2, 3, 4};
+        IntervalIndex ix = IntervalIndex.build(ids, new long[5], starts, ends);
+
+        int[] hits = ix.ongoing(50);
+        assertEquals(1, hits.length);
+        assertEquals(1, ix.id(hits[0]));
+    }
+
+    @Test
+    void startingBetweenIsHalfOpenPositionRange() {
+        IntervalIndex ix = IntervalIndex.build(
+                new long[]{1, 2, 3, 4},
+                new long[4],
+                new int[]{1, 3, 3, 7},
+                new int[]{1, 3, 3, 7});
+
+        assertArrayEquals(new int[]{1, 3}, ix.startingBetween(3, 6));
+        assertArrayEquals(new int[]{0, 4}, ix.startingBetween(0, 7));
+        assertArrayEquals(new int[]{4, 4}, ix.startingBetween(8, 9));
+    }
+
+    @Test
+    void matchesBruteForceOnRandomIntervals() {
+        Random random = new Random(42);
+        int n = 500;
+        long[] ids = new long[n];
+        int[] starts = new int[n];
+        int[] ends = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            starts[i] = random.nextInt(1000);
+            ends[i] = starts[i] + random.nextInt(random.nextBoolean() ? 5 : 200);
+        }
+        IntervalIndex ix = IntervalIndex.build(ids, new long[n], starts, ends);
+
+        for (int q = 0; q < 300; q++) {
+            int from = random.nextInt(1200) - 100;
+            int to = from + random.nextInt(50);
+
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (starts[i] <= to && ends[i] >= from) expected.add(ids[i]);
+            }
+
+            List<Long> actual = new ArrayList<>();
+            int prevStart = Integer.MIN_VALUE;
+            for (int p : ix.overlapping(from, to)) {
+                assertTrue(ix.start(p) >= prevStart, "시작일 오름차순");
+                prevStart = ix.start(p);
+                actual.add(ix.id(p));
+            }
+
+            expected.sort(null);
+            actual.sort(null);
+            assertEquals(expected, actual, Arrays.toString(new int[]{from, to}));
+        }
+    }
+}
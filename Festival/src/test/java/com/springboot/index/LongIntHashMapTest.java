@@ -0,0 +1,68 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void missingKeyIsMinusOne() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(-1, map.get(42L));
+        assertEquals(-1, map.get(0L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void zeroKeyIsStoredSeparately() {
+        LongIntHashMap map = new LongIntHashMap(1);
+        map.put(0L, 5);
+        map.put(0L, 6);
+
+        assertEquals(6, map.get(0L));
+        assertEquals(1, map.size());
+
+        // 재배치 뒤에도 유지
+        for (long k = 1; k <= 100; k++) map.put(k, (int) k);
+        assertEquals(6, map.get(0L));
+        assertEquals(101, map.size());
+    }
+
+    @Test
+    void putOverwritesWithoutGrowingSize() {
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(Long.MIN_VALUE, 1);
+        map.put(Long.MIN_VALUE, 2);
+        map.put(-1L, 3);
+
+        assertEquals(2, map.get(Long.MIN_VALUE));
+        assertEquals(3, map.get(-1L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void matchesHashMapAcrossResizes() {
+        Random random = new Random(17);
+        LongIntHashMap map = new LongIntHashMap(2);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            // 상위 비트만 다른 키를 섞어서 충돌도 만들어 봄
+            long key = (random.nextBoolean()) ? random.nextLong() : (long) random.nextInt(500) << 32;
+            int value = random.nextInt(1_000_000);
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Integer> e : expected.entrySet()) {
+            assertEquals((int) e.getValue(), map.get(e.getKey()));
+        }
+        assertEquals(-1, map.get(123_456_789_012L));
+    }
+}
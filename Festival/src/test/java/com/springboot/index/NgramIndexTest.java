@@ -0,0 +1,116 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NgramIndexTest {
+
+    @Test
+    void rejectsInvalidGramRange() {
+        assertThrows(IllegalArgumentException.class, () -> new NgramIndex(0, 2, true));
+        assertThrows(IllegalArgumentException.class, () -> new NgramIndex(1, 4, true));
+        assertThrows(IllegalArgumentException.class, () -> new NgramIndex(3, 2, true));
+    }
+
+    @Test
+    void findsSubstringsOfEveryLength() {
+        NgramIndex ix = new NgramIndex(1, 3, true);
+        ix.put(1, "부산불꽃축제");
+        ix.put(2, "진해군항제");
+
+        assertArrayEquals(new int[]{1}, ix.search("불"));
+        assertArrayEquals(new int[]{1}, ix.search("불꽃"));
+        assertArrayEquals(new int[]{1}, ix.search("불꽃축제"));
+        assertArrayEquals(new int[]{1, 2}, ix.search("제"));
+        assertArrayEquals(new int[0], ix.search("불꽃놀이"));
+    }
+
+    @Test
+    void longQueryIsConfirmedAgainstTextWhenKept() {
+        // "축제" 와 "제주" 는 둘 다 있지만 "축제주" 는 없음
+        NgramIndex kept = new NgramIndex(2, 2, true);
+        NgramIndex gramsOnly = new NgramIndex(2, 2, false);
+        for (NgramIndex ix : new NgramIndex[]{kept, gramsOnly}) {
+            ix.put(1, "제주도축제");
+            ix.put(2, "축제주간");
+        }
+
+        assertArrayEquals(new int[]{2}, kept.search("축제주"));
+        assertArrayEquals(new int[]{1, 2}, gramsOnly.search("축제주"));
+    }
+
+    @Test
+    void queryShorterThanMinGramCannotBeSearched() {
+        NgramIndex ix = new NgramIndex(2, 2, true);
+        ix.put(1, "축제");
+
+        assertFalse(ix.canSearch("축"));
+        assertFalse(ix.canSearch(null));
+        assertArrayEquals(new int[0], ix.search("축"));
+        assertTrue(ix.canSearch("축제"));
+    }
+
+    @Test
+    void shortTextIsNotIndexed() {
+        NgramIndex ix = new NgramIndex(2, 3, true);
+        ix.put(1, "축");
+        ix.put(2, null);
+
+        assertEquals(0, ix.size());
+    }
+
+    @Test
+    void putReplacesPreviousText() {
+        NgramIndex ix = new NgramIndex(1, 3, true);
+        ix.put(1, "벚꽃축제");
+        ix.put(1, "단풍축제");
+
+        assertEquals(1, ix.size());
+        assertArrayEquals(new int[0], ix.search("벚꽃"));
+        assertArrayEquals(new int[]{1}, ix.search("단풍"));
+    }
+
+    @Test
+    void removeDropsDocumentFromAllPostings() {
+        NgramIndex ix = new NgramIndex(1, 3, true);
+        ix.put(1, "빛축제");
+        ix.put(2, "빛축제");
+        ix.remove(1);
+        ix.remove(99); // 없는 문서
+
+        assertEquals(1, ix.size());
+        assertArrayEquals(new int[]{2}, ix.search("빛축제"));
+
+        ix.remove(2);
+        assertArrayEquals(new int[0], ix.search("빛"));
+    }
+
+    @Test
+    void postingsStaySortedWhenIdsArriveOutOfOrder() {
+        NgramIndex ix = new NgramIndex(1, 2, true);
+        int[] ids = {50, 3, 27, 1, 99, 14, 3};
+        for (int id : ids) ix.put(id, "축제");
+
+        assertArrayEquals(new int[]{1, 3, 14, 27, 50, 99}, ix.search("축제"));
+    }
+
+    @Test
+    void repeatedGramsInOneDocumentAreCountedOnce() {
+        NgramIndex ix = new NgramIndex(1, 2, true);
+        ix.put(1, "하하하하");
+        ix.remove(1);
+
+        assertArrayEquals(new int[0], ix.search("하"));
+    }
+
+    @Test
+    void growsPastInitialGramCapacity() {
+        NgramIndex ix = new NgramIndex(1, 1, true);
+        StringBuilder sb = new StringBuilder();
+        for (char c = '가'; c < '가' + 3000; c++) sb.append(c);
+        ix.put(7, sb.toString());
+
+        assertArrayEquals(new int[]{7}, ix.search(String.valueOf((char) ('가' + 2999))));
+    }
+}
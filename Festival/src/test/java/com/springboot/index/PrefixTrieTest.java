@@ -0,0 +1,197 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTrieTest {
+
+    private static final int K = 4;
+
+    @Test
+    void rejectsNonPositiveK() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixTrie(0));
+    }
+
+    @Test
+    void emptyKeyIsNotRegistered() {
+        PrefixTrie t = new PrefixTrie(K);
+        t.put(1, "", 10);
+        t.put(2, null, 10);
+
+        assertEquals(0, t.size());
+        assertEquals(0, collect(t, ""));
+    }
+
+    @Test
+    void ordersByScoreThenDocId() {
+        PrefixTrie t = new PrefixTrie(K);
+        t.put(3, "강릉", 5);
+        t.put(1, "강릉단오제", 5);
+        t.put(2, "강진", 9);
+        t.put(4, "서울", 100);
+
+        int[] docs = new int[K];
+        int[] scores = new int[K];
+        int n = t.collect("강", docs, scores, 0);
+
+        assertEquals(3, n);
+        assertArrayEquals(new int[]{2, 1, 3}, Arrays.copyOf(docs, n));
+        assertArrayEquals(new int[]{9, 5, 5}, Arrays.copyOf(scores, n));
+    }
+
+    @Test
+    void prefixEndingInsideEdge() {
+        PrefixTrie t = new PrefixTrie(K);
+        t.put(1, "abcdef", 1);
+
+        assertEquals(1, collect(t, "abc"));
+        assertEquals(1, collect(t, "abcdef"));
+        assertEquals(0, collect(t, "abcx"));
+        assertEquals(0, collect(t, "abcdefg"));
+    }
+
+    @Test
+    void putReplacesAndRemoveMergesNodes() {
+        PrefixTrie t = new PrefixTrie(K);
+        t.put(1, "abc", 1);
+        t.put(2, "abd", 2);
+        t.put(1, "xyz", 3);
+
+        assertEquals(2, t.size());
+        assertEquals(1, collect(t, "ab"));
+        assertEquals(1, collect(t, "abd"));
+        assertEquals(0, collect(t, "abc"));
+
+        // "ab" 분기 노드가 "abd" 하나로 합쳐진 뒤에도 조회됨
+        t.put(3, "abx", 1);
+        t.remove(3);
+        assertEquals(1, collect(t, "a"));
+        assertEquals(1, collect(t, "abd"));
+
+        t.remove(2);
+        t.remove(2);
+        assertEquals(1, t.size());
+        assertEquals(0, collect(t, "a"));
+        assertEquals(1, collect(t, ""));
+    }
+
+    @Test
+    void mergeKeepsCallerCapacityAndSkipsDuplicates() {
+        PrefixTrie t = new PrefixTrie(K);
+        for (int i = 0; i < 10; i++) t.put(i, "k" + i, i);
+
+        int[] docs = new int[3];
+        int[] scores = new int[3];
+        int n = t.collect("k", docs, scores, 0);
+        n = t.collect("k9", docs, scores, n);
+
+        assertEquals(3, n);
+        assertArrayEquals(new int[]{9, 8, 7}, docs);
+    }
+
+    @Test
+    void collectWithInitialMatchesNextSyllable() {
+        PrefixTrie t = new PrefixTrie(K);
+        t.put(1, "강릉커피축제", 1);
+        t.put(2, "강릉단오제", 2);
+        t.put(3, "강진청자축제", 3);
+
+        int[] docs = new int[K];
+        int[] scores = new int[K];
+        int n = t.collectWithInitial("강릉", 'ㅋ', docs, scores, 0);
+        assertEquals(1, n);
+        assertEquals(1, docs[0]);
+
+        // 간선 중간에서 끝나는 경우
+        n = t.collectWithInitial("강진청", 'ㅈ', docs, scores, 0);
+        assertEquals(1, n);
+        assertEquals(3, docs[0]);
+
+        n = t.collectWithInitial("강", 'ㄹ', docs, scores, 0);
+        assertEquals(2, n);
+        assertArrayEquals(new int[]{2, 1}, Arrays.copyOf(docs, n));
+
+        assertEquals(0, t.collectWithInitial("강릉", 'ㅎ', docs, scores, 0));
+    }
+
+    @Test
+    void randomOperationsMatchBruteForce() {
+        Random random = new Random(11);
+        PrefixTrie t = new PrefixTrie(K);
+        Map<Integer, String> keys = new HashMap<>();
+        Map<Integer, Integer> scoreOf = new HashMap<>();
+
+        int n = 300;
+        int[] ids = new int[n];
+        String[] ks = new String[n];
+        int[] ss = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+            ks[i] = randomKey(random);
+            ss[i] = random.nextInt(20);
+            keys.put(i, ks[i]);
+            scoreOf.put(i, ss[i]);
+        }
+        t.load(ids, ks, ss);
+
+        for (int step = 0; step < 2_000; step++) {
+            int doc = random.nextInt(400);
+            if (random.nextInt(3) == 0) {
+                t.remove(doc);
+                keys.remove(doc);
+            } else {
+                String key = randomKey(random);
+                int score = random.nextInt(20);
+                t.put(doc, key, score);
+                keys.put(doc, key);
+                scoreOf.put(doc, score);
+            }
+
+            if (step % 20 == 0) {
+                assertEquals(keys.size(), t.size());
+                String prefix = randomKey(random);
+                int[] docs = new int[K];
+                int[] scores = new int[K];
+                int got = t.collect(prefix, docs, scores, 0);
+                assertEquals(bruteForce(keys, scoreOf, prefix), toList(docs, got));
+            }
+        }
+    }
+
+    private static String randomKey(Random random) {
+        int len = 1 + random.nextInt(5);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) sb.append((char) ('a' + random.nextInt(3)));
+        return sb.toString();
+    }
+
+    private static List<Integer> bruteForce(Map<Integer, String> keys, Map<Integer, Integer> scoreOf, String prefix) {
+        List<Integer> hits = new ArrayList<>();
+        for (Map.Entry<Integer, String> e : keys.entrySet()) {
+            if (e.getValue().startsWith(prefix)) hits.add(e.getKey());
+        }
+        hits.sort((a, b) -> {
+            int c = Integer.compare(scoreOf.get(b), scoreOf.get(a));
+            return (c != 0) ? c : Integer.compare(a, b);
+        });
+        return hits.subList(0, Math.min(K, hits.size()));
+    }
+
+    private static List<Integer> toList(int[] docs, int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) list.add(docs[i]);
+        return list;
+    }
+
+    private static int collect(PrefixTrie t, String prefix) {
+        return t.collect(prefix, new int[K], new int[K], 0);
+    }
+}
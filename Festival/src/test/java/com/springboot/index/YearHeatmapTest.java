@@ -0,0 +1,124 @@
+package com.springboot.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class YearHeatmapTest {
+
+    @Test
+    void leapYearLength() {
+        assertEquals(366, new YearHeatmap(2024).days());
+        assertEquals(365, new YearHeatmap(2025).days());
+        assertEquals(366, new YearHeatmap(2024).finish().real(YearHeatmap.NATIONWIDE).length);
+    }
+
+    @Test
+    void unknownRegionIsAllZero() {
+        YearHeatmap h = new YearHeatmap(2025).finish();
+        short[] zeros = h.real(101);
+        assertEquals(365, zeros.length);
+        for (short v : zeros) assertEquals(0, v);
+        assertSame(zeros, h.expected(YearHeatmap.NATIONWIDE));
+    }
+
+    @Test
+    void inclusiveRangeAndRegionLevels() {
+        YearHeatmap h = new YearHeatmap(2025);
+        h.add(1, 101, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3), false);
+        h.add(1, 0, LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 3), true);
+        h.finish();
+
+        int mar1 = LocalDate.of(2025, 3, 1).getDayOfYear() - 1;
+        short[] nation = h.real(YearHeatmap.NATIONWIDE);
+        assertEquals(0, nation[mar1 - 1]);
+        assertEquals(1, nation[mar1]);
+        assertEquals(1, nation[mar1 + 2]);
+        assertEquals(0, nation[mar1 + 3]);
+
+        assertArrayEquals(nation, h.real(1));
+        assertArrayEquals(nation, h.real(101));
+
+        // 예상은 따로, 시군구 코드가 없으면 시군구 칸에는 안 들어감
+        assertEquals(1, h.expected(1)[mar1 + 2]);
+        assertEquals(0, h.expected(1)[mar1 + 1]);
+        assertEquals(0, h.expected(101)[mar1 + 2]);
+    }
+
+    @Test
+    void clipsToTheYear() {
+        YearHeatmap h = new YearHeatmap(2025);
+        h.add(0, 0, LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 2), false);
+        h.add(0, 0, LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 10), false);
+        h.add(0, 0, LocalDate.of(2023, 1, 1), LocalDate.of(2027, 1, 1), false);
+        h.add(0, 0, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), false);
+        h.add(0, 0, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 5), false);
+        h.finish();
+
+        short[] c = h.real(YearHeatmap.NATIONWIDE);
+        assertEquals(2, c[0]);
+        assertEquals(2, c[1]);
+        assertEquals(1, c[2]);
+        assertEquals(1, c[362]);
+        assertEquals(2, c[363]);
+        assertEquals(2, c[364]);
+    }
+
+    @Test
+    void ignoresMissingOrReversedDates() {
+        YearHeatmap h = new YearHeatmap(2025);
+        h.add(0, 0, null, LocalDate.of(2025, 1, 1), false);
+        h.add(0, 0, LocalDate.of(2025, 1, 1), null, false);
+        h.add(0, 0, LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 1), false);
+        h.finish();
+
+        for (short v : h.real(YearHeatmap.NATIONWIDE)) assertEquals(0, v);
+    }
+
+    @Test
+    void capsAtShortMax() {
+        YearHeatmap h = new YearHeatmap(2025);
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        for (int i = 0; i < Short.MAX_VALUE + 10; i++) h.add(0, 0, day, day, false);
+        h.finish();
+
+        assertEquals(Short.MAX_VALUE, h.real(YearHeatmap.NATIONWIDE)[day.getDayOfYear() - 1]);
+    }
+
+    @Test
+    void addAfterFinishThrowsAndFinishIsIdempotent() {
+        YearHeatmap h = new YearHeatmap(2025);
+        h.add(0, 0, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), false);
+        h.finish();
+        short[] before = h.real(YearHeatmap.NATIONWIDE);
+
+        assertSame(h, h.finish());
+        assertSame(before, h.real(YearHeatmap.NATIONWIDE));
+        assertThrows(IllegalStateException.class,
+                () -> h.add(0, 0, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1), false));
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(3);
+        YearHeatmap h = new YearHeatmap(2024);
+        int[] expected = new int[366];
+        LocalDate base = LocalDate.of(2023, 10, 1);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = base.plusDays(random.nextInt(600));
+            LocalDate end = start.plusDays(random.nextInt(90));
+            h.add(0, 0, start, end, false);
+            for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+                if (d.getYear() == 2024) expected[d.getDayOfYear() - 1]++;
+            }
+        }
+        h.finish();
+
+        short[] got = h.real(YearHeatmap.NATIONWIDE);
+        for (int i = 0; i < 366; i++) assertEquals(expected[i], got[i]);
+    }
+}
@@ -0,0 +1,150 @@
+package com.springboot.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternHistogramTest {
+
+    @Test
+    void civilFromDaysMatchesLocalDate() {
+        // 윤년 규칙(4 / 100 / 400)과 1970 이전 음수 epoch day 포함
+        PatternHistogram h = new PatternHistogram();
+        LocalDate end = LocalDate.of(2300, 12, 31);
+        for (LocalDate d = LocalDate.of(1850, 1, 1); !d.isAfter(end); d = d.plusDays(1)) {
+            h.reset();
+            h.add(d, d);
+
+            int key = h.jointMode();
+            assertEquals(d.getMonthValue(), PatternHistogram.keyMonth(key), d.toString());
+            assertEquals((d.getDayOfMonth() - 1) / 7 + 1, PatternHistogram.keyWeek(key), d.toString());
+            assertEquals(d.getDayOfWeek(), PatternHistogram.keyDay(key), d.toString());
+            assertEquals(d.getMonthValue(), h.mostFrequentMonth());
+            assertEquals(d.getDayOfWeek(), h.mostFrequentDay());
+        }
+    }
+
+    @Test
+    void weekOfMonthRunsOneToFive() {
+        PatternHistogram h = new PatternHistogram();
+        for (int day = 1; day <= 31; day++) {
+            h.add(LocalDate.of(2025, 1, day), null);
+        }
+
+        assertArrayEquals(new int[]{0, 7, 7, 7, 7, 3}, h.weekCounts());
+        assertEquals(1, h.mostFrequentWeek());
+        assertEquals(5, h.uniqueWeeks());
+    }
+
+    @Test
+    void jointKeyRoundTrip() {
+        for (int month = 1; month <= 12; month++) {
+            for (int week = 1; week <= 5; week++) {
+                for (int dow = 1; dow <= 7; dow++) {
+                    int key = month * 48 + week * 8 + dow;
+                    assertEquals(month, PatternHistogram.keyMonth(key));
+                    assertEquals(week, PatternHistogram.keyWeek(key));
+                    assertEquals(DayOfWeek.of(dow), PatternHistogram.keyDay(key));
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyHistogram() {
+        PatternHistogram h = new PatternHistogram();
+
+        assertTrue(h.isEmpty());
+        assertNull(h.firstDate());
+        assertNull(h.latestDate());
+        assertEquals(0, h.averageDuration());
+        assertEquals(PatternHistogram.NO_KEY, h.jointMode());
+        assertEquals("", h.years());
+    }
+
+    @Test
+    void openEndedEventsSkipJointAndDuration() {
+        PatternHistogram h = new PatternHistogram();
+        h.add(LocalDate.of(2024, 5, 3), null);
+        h.add(LocalDate.of(2023, 5, 5), null);
+
+        assertEquals(2, h.count());
+        assertEquals(PatternHistogram.NO_KEY, h.jointMode());
+        assertEquals(0, h.averageDuration());
+        assertEquals(LocalDate.of(2023, 5, 5), h.firstDate());
+        assertEquals(LocalDate.of(2024, 5, 3), h.latestDate());
+    }
+
+    @Test
+    void jointModeAndDurations() {
+        PatternHistogram h = new PatternHistogram();
+        // 2023-10-07, 2024-10-05: 10월 1주 토요일, 2025-10-11: 10월 2주 토요일
+        h.add(LocalDate.of(2023, 10, 7), LocalDate.of(2023, 10, 9));
+        h.add(LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 8));
+        h.add(LocalDate.of(2025, 10, 11), LocalDate.of(2025, 10, 11));
+
+        int key = h.jointMode();
+        assertEquals(10, PatternHistogram.keyMonth(key));
+        assertEquals(1, PatternHistogram.keyWeek(key));
+        assertEquals(DayOfWeek.SATURDAY, PatternHistogram.keyDay(key));
+        assertEquals(2, h.jointCount(key));
+        assertEquals(2, h.jointAverageDuration(key)); // (2 + 3) / 2 버림
+        assertEquals(1, h.averageDuration());         // (2 + 3 + 0) / 3 버림
+        assertEquals(1, h.uniqueDays());
+    }
+
+    @Test
+    void tiesResolveToSmallestIndex() {
+        PatternHistogram h = new PatternHistogram();
+        h.add(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 1));  // 9월 1주 월
+        h.add(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 3));  // 3월 1주 월
+
+        assertEquals(3, h.mostFrequentMonth());
+        assertEquals(3, PatternHistogram.keyMonth(h.jointMode()));
+        assertEquals(1, PatternHistogram.argMax(new int[]{0, 0, 0}));
+        assertEquals(2, PatternHistogram.argMax(new int[]{9, 1, 2, 2}));
+    }
+
+    @Test
+    void yearsAreSortedDistinctAndBounded() {
+        PatternHistogram h = new PatternHistogram();
+        h.add(LocalDate.of(2024, 1, 1), null);
+        h.add(LocalDate.of(1999, 12, 31), null);
+        h.add(LocalDate.of(2024, 6, 1), null);
+        h.add(LocalDate.of(1900, 1, 1), null);
+        h.add(LocalDate.of(2155, 12, 31), null);
+        // 범위 밖 연도는 목록에서만 빠짐
+        h.add(LocalDate.of(1899, 12, 31), null);
+        h.add(LocalDate.of(2156, 1, 1), null);
+
+        assertEquals("1900,1999,2024,2155", h.years());
+        assertEquals(7, h.count());
+        assertEquals(LocalDate.of(1899, 12, 31), h.firstDate());
+    }
+
+    @Test
+    void resetClearsEverything() {
+        PatternHistogram h = new PatternHistogram();
+        h.add(LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 20));
+        h.reset();
+
+        assertTrue(h.isEmpty());
+        assertEquals("", h.years());
+        assertEquals(PatternHistogram.NO_KEY, h.jointMode());
+        assertEquals(0, h.averageDuration());
+        assertEquals(0, PatternHistogram.distinct(h.monthCounts()));
+
+        h.add(LocalDate.of(2025, 1, 1), null);
+        assertEquals(LocalDate.of(2025, 1, 1), h.firstDate());
+        assertEquals(LocalDate.of(2025, 1, 1), h.latestDate());
+    }
+
+    @Test
+    void csvSkipsSlotZero() {
+        assertEquals("1,0,2", PatternHistogram.csv(new int[]{9, 1, 0, 2}));
+        assertEquals(3, PatternHistogram.distinct(new int[]{5, 1, 0, 2, 7}));
+    }
+}